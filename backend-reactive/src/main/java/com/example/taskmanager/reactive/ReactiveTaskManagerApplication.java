@@ -0,0 +1,15 @@
+package com.example.taskmanager.reactive;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+/**
+ * Variante reativa da API: mesmo contrato de {@code /api/tasks}, servido pelo WebFlux sobre
+ * R2DBC, sem uma thread nem uma conexão presas por requisição em andamento.
+ */
+@SpringBootApplication
+public class ReactiveTaskManagerApplication {
+  public static void main(String[] args) {
+    SpringApplication.run(ReactiveTaskManagerApplication.class, args);
+  }
+}
@@ -0,0 +1,62 @@
+package com.example.taskmanager.reactive.config;
+
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Junta os buffers das respostas em streaming em blocos de até {@link #BLOCK_BYTES}.
+ * O encoder escreve cada elemento de um {@link Flux} num buffer próprio (e, em NDJSON, com
+ * um flush por linha): sem isso o quadro sai em um chunk HTTP por tarefa, comprimido um a
+ * um. A demanda continua vindo do cliente, só que em blocos.
+ */
+@Component
+public class WriteCoalescingFilter implements WebFilter {
+
+  static final int BLOCK_BYTES = 32 * 1024;
+
+  @Override
+  public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+    return chain.filter(exchange.mutate().response(new Coalescing(exchange.getResponse())).build());
+  }
+
+  private static final class Coalescing extends ServerHttpResponseDecorator {
+
+    Coalescing(ServerHttpResponse delegate) {
+      super(delegate);
+    }
+
+    @Override
+    public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+      if (body instanceof Mono) return super.writeWith(body);
+      return super.writeWith(coalesce(Flux.from(body)));
+    }
+
+    @Override
+    public Mono<Void> writeAndFlushWith(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+      return super.writeAndFlushWith(coalesce(Flux.from(body).concatMap(Flux::from)).map(Mono::just));
+    }
+
+    private Flux<DataBuffer> coalesce(Flux<? extends DataBuffer> buffers) {
+      return Flux.defer(() -> {
+        int[] pending = {0};
+        return buffers.bufferUntil(buffer -> {
+          pending[0] += buffer.readableByteCount();
+          if (pending[0] < BLOCK_BYTES) return false;
+          pending[0] = 0;
+          return true;
+        });
+      })
+          .map(block -> bufferFactory().join(block))
+          .doOnDiscard(DataBuffer.class, DataBufferUtils::release);
+    }
+  }
+}
@@ -0,0 +1,241 @@
+package com.example.taskmanager.reactive.controller;
+
+import com.example.taskmanager.dto.TaskCardResponse;
+import com.example.taskmanager.dto.TaskCreateRequest;
+import com.example.taskmanager.dto.TaskCursor;
+import com.example.taskmanager.dto.TaskImportResponse;
+import com.example.taskmanager.dto.TaskResponse;
+import com.example.taskmanager.dto.TaskStatusUpdateRequest;
+import com.example.taskmanager.dto.TaskUpdateRequest;
+import com.example.taskmanager.entity.TaskStatus;
+import com.example.taskmanager.exception.BadRequestException;
+import com.example.taskmanager.exception.PreconditionFailedException;
+import com.example.taskmanager.mapper.TaskMapper;
+import com.example.taskmanager.reactive.service.ReactiveTaskImporter;
+import com.example.taskmanager.reactive.service.ReactiveTaskService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * O contrato de {@code /api/tasks} do {@code TaskController} (mesmos caminhos, headers, status
+ * e corpos) sem segurar uma thread por requisição. As listagens sem paginação saem como
+ * {@link Flux}: cada tarefa é serializada conforme a linha chega do banco e o próximo lote
+ * só é lido quando o cliente consome o anterior.
+ */
+@RestController
+@RequestMapping("/api/tasks")
+@Tag(name = "Tasks", description = "Gerenciamento de tarefas (Kanban), variante reativa")
+public class ReactiveTaskController {
+
+  public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+  static final String RETURN_MINIMAL = "return=minimal";
+
+  private final ReactiveTaskService service;
+  private final ReactiveTaskImporter importer;
+
+  public ReactiveTaskController(ReactiveTaskService service, ReactiveTaskImporter importer) {
+    this.service = service;
+    this.importer = importer;
+  }
+
+  @Operation(summary = "Criar tarefa", description = "Cria uma tarefa com status inicial TODO.")
+  @ApiResponses({
+      @ApiResponse(responseCode = "201", description = "Tarefa criada"),
+      @ApiResponse(responseCode = "400", description = "Dados inválidos", content = @Content)
+  })
+  @PostMapping
+  public Mono<ResponseEntity<TaskResponse>> create(@Valid @RequestBody TaskCreateRequest dto) {
+    return service.create(dto).map(created ->
+        ResponseEntity.status(HttpStatus.CREATED).eTag(etag(created.getVersion())).body(TaskMapper.toResponse(created)));
+  }
+
+  @Operation(summary = "Importar tarefas (NDJSON)",
+      description = "Lê o corpo conforme chega e grava as linhas válidas em blocos de 1000, cada bloco na sua "
+          + "transação. As linhas inválidas voltam no relatório.")
+  @ApiResponses({
+      @ApiResponse(responseCode = "200", description = "Arquivo processado (ver errors)")
+  })
+  @PostMapping(value = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+  public Mono<TaskImportResponse> importTasks(@RequestBody Flux<String> lines) {
+    return importer.importNdjson(lines);
+  }
+
+  @Operation(summary = "Exportar tarefas (NDJSON)",
+      description = "Envia as tarefas do quadro conforme são lidas do banco, com memória constante.")
+  @ApiResponses({
+      @ApiResponse(responseCode = "200", description = "Ok"),
+      @ApiResponse(responseCode = "400", description = "Formato inválido", content = @Content)
+  })
+  @GetMapping("/export")
+  public ResponseEntity<Flux<TaskResponse>> export(
+      @Parameter(description = "ndjson (único formato nesta variante)")
+      @RequestParam(defaultValue = "ndjson") String format
+  ) {
+    if (!format.equals("ndjson")) {
+      throw new BadRequestException("Formato inválido: " + format + " (use ndjson)");
+    }
+    return ResponseEntity.ok()
+        .contentType(MediaType.APPLICATION_NDJSON)
+        .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"tasks.ndjson\"")
+        .body(service.exportAll());
+  }
+
+  @Operation(summary = "Listar tarefas", description = "Lista as tarefas, com filtro opcional por status. "
+      + "Com limit e/ou cursor é paginada por (createdAt, id) e o próximo cursor volta em X-Next-Cursor; "
+      + "sem eles, a lista é enviada em streaming.")
+  @ApiResponses({
+      @ApiResponse(responseCode = "200", description = "Ok"),
+      @ApiResponse(responseCode = "400", description = "Cursor ou limite inválidos", content = @Content)
+  })
+  @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+  public Mono<ResponseEntity<Flux<TaskResponse>>> list(
+      @Parameter(description = "Filtro por status (TODO, DOING, DONE)")
+      @RequestParam(required = false) TaskStatus status,
+      @Parameter(description = "Token de continuação recebido em X-Next-Cursor")
+      @RequestParam(required = false) String cursor,
+      @Parameter(description = "Tamanho da página (máx. " + ReactiveTaskService.MAX_PAGE_SIZE + ")")
+      @RequestParam(required = false) Integer limit
+  ) {
+    if (limit != null && limit < 1) {
+      throw new BadRequestException("O limite deve ser maior que zero");
+    }
+    if (cursor == null && limit == null) {
+      return Mono.just(ResponseEntity.ok(service.list(status)));
+    }
+    int size = limit == null ? ReactiveTaskService.DEFAULT_PAGE_SIZE : Math.min(limit, ReactiveTaskService.MAX_PAGE_SIZE);
+    var after = cursor == null ? null : TaskCursor.decode(cursor);
+
+    // O header precisa da última linha, então a página (limitada) é juntada antes de responder
+    return service.findPage(status, after, size).collectList().map(page -> {
+      var response = ResponseEntity.ok();
+      if (page.size() == size) {
+        response.header(NEXT_CURSOR_HEADER, TaskCursor.of(page.get(page.size() - 1)).encode());
+      }
+      return response.body(Flux.fromIterable(page).map(TaskMapper::toResponse));
+    });
+  }
+
+  @Operation(summary = "Listar tarefas (visão compacta)",
+      description = "Mesma listagem do quadro sem a descrição, que não é lida do banco; "
+          + "quando necessária, vem em GET /api/tasks/{id}.")
+  @GetMapping(params = "view=compact", produces = MediaType.APPLICATION_JSON_VALUE)
+  public Flux<TaskCardResponse> listCompact(
+      @Parameter(description = "Filtro por status (TODO, DOING, DONE)")
+      @RequestParam(required = false) TaskStatus status
+  ) {
+    return service.listCards(status);
+  }
+
+  @Operation(summary = "Listar tarefas em streaming (NDJSON)",
+      description = "Envia uma tarefa por linha à medida que é lida do banco, no ritmo do cliente.")
+  @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+  public Flux<TaskResponse> stream(
+      @Parameter(description = "Filtro por status (TODO, DOING, DONE)")
+      @RequestParam(required = false) TaskStatus status
+  ) {
+    return service.list(status);
+  }
+
+  @Operation(summary = "Buscar tarefa por ID")
+  @ApiResponses({
+      @ApiResponse(responseCode = "200", description = "Ok"),
+      @ApiResponse(responseCode = "304", description = "Inalterada desde o ETag em If-None-Match", content = @Content),
+      @ApiResponse(responseCode = "404", description = "Não encontrada", content = @Content)
+  })
+  @GetMapping("/{id}")
+  public Mono<ResponseEntity<TaskResponse>> getById(@PathVariable UUID id) {
+    return service.get(id).map(task -> ResponseEntity.ok().eTag(etag(task.version())).body(task));
+  }
+
+  @Operation(summary = "Atualizar tarefa", description = "Atualiza campos (título/descrição/status/prioridade/data).")
+  @ApiResponses({
+      @ApiResponse(responseCode = "200", description = "Atualizada"),
+      @ApiResponse(responseCode = "404", description = "Não encontrada", content = @Content),
+      @ApiResponse(responseCode = "409", description = "Alteração concorrente", content = @Content),
+      @ApiResponse(responseCode = "412", description = "Versão diferente da informada em If-Match", content = @Content)
+  })
+  @PutMapping("/{id}")
+  public Mono<ResponseEntity<TaskResponse>> update(
+      @PathVariable UUID id,
+      @RequestBody TaskUpdateRequest dto,
+      @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
+  ) {
+    return service.update(id, dto, expectedVersion(ifMatch)).map(updated ->
+        ResponseEntity.ok().eTag(etag(updated.getVersion())).body(TaskMapper.toResponse(updated)));
+  }
+
+  @Operation(summary = "Atualizar status", description = "Atualiza apenas o status (ideal para drag & drop). "
+      + "Com o header Prefer: return=minimal responde 204 sem reler a tarefa.")
+  @ApiResponses({
+      @ApiResponse(responseCode = "200", description = "Atualizada"),
+      @ApiResponse(responseCode = "204", description = "Atualizada (Prefer: return=minimal)"),
+      @ApiResponse(responseCode = "400", description = "Dados inválidos", content = @Content),
+      @ApiResponse(responseCode = "404", description = "Não encontrada", content = @Content),
+      @ApiResponse(responseCode = "412", description = "Versão diferente da informada em If-Match", content = @Content)
+  })
+  @PatchMapping("/{id}/status")
+  public Mono<ResponseEntity<TaskResponse>> updateStatus(
+      @PathVariable UUID id,
+      @Valid @RequestBody TaskStatusUpdateRequest dto,
+      @RequestHeader(value = "Prefer", required = false) String prefer,
+      @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
+  ) {
+    Long expected = expectedVersion(ifMatch);
+    if (prefer != null && prefer.contains(RETURN_MINIMAL)) {
+      return service.applyStatus(id, dto.status(), expected).then(Mono.fromSupplier(() -> {
+        var response = ResponseEntity.noContent().header("Preference-Applied", RETURN_MINIMAL);
+        // O UPDATE condicional incrementa exatamente uma versão
+        if (expected != null) response.eTag(etag(expected + 1));
+        return response.<TaskResponse>build();
+      }));
+    }
+    return service.updateStatus(id, dto.status(), expected).map(updated ->
+        ResponseEntity.ok().eTag(etag(updated.getVersion())).body(TaskMapper.toResponse(updated)));
+  }
+
+  @Operation(summary = "Excluir tarefa", description = "Remove a tarefa do banco (remoção física).")
+  @ApiResponses({
+      @ApiResponse(responseCode = "204", description = "Removida"),
+      @ApiResponse(responseCode = "404", description = "Não encontrada", content = @Content)
+  })
+  @DeleteMapping("/{id}")
+  public Mono<ResponseEntity<Void>> delete(@PathVariable UUID id) {
+    return service.delete(id).then(Mono.fromSupplier(() -> ResponseEntity.noContent().build()));
+  }
+
+  private static String etag(long version) {
+    return "\"" + version + "\"";
+  }
+
+  /**
+   * Converte o If-Match na versão esperada. Ausente ou "*" significa escrita incondicional.
+   */
+  static Long expectedVersion(String ifMatch) {
+    if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+      return null;
+    }
+    String tag = ifMatch.trim();
+    if (tag.length() < 3 || !tag.startsWith("\"") || !tag.endsWith("\"")) {
+      throw new PreconditionFailedException("If-Match exige um ETag forte da tarefa");
+    }
+    try {
+      return Long.parseLong(tag.substring(1, tag.length() - 1));
+    } catch (NumberFormatException ex) {
+      throw new PreconditionFailedException("If-Match exige um ETag forte da tarefa");
+    }
+  }
+}
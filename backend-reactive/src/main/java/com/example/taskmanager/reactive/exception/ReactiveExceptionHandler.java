@@ -0,0 +1,94 @@
+package com.example.taskmanager.reactive.exception;
+
+import com.example.taskmanager.exception.ApiError;
+import com.example.taskmanager.exception.BadRequestException;
+import com.example.taskmanager.exception.PreconditionFailedException;
+import com.example.taskmanager.exception.ResourceNotFoundException;
+import io.r2dbc.spi.R2dbcTransientResourceException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.server.ServerWebInputException;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/** Mesmo {@link ApiError} e mesmos status do {@code GlobalExceptionHandler} do backend MVC. */
+@RestControllerAdvice
+public class ReactiveExceptionHandler {
+
+  private static final Logger log = LoggerFactory.getLogger(ReactiveExceptionHandler.class);
+
+  @ExceptionHandler(ResourceNotFoundException.class)
+  public ResponseEntity<ApiError> handleNotFound(ResourceNotFoundException ex) {
+    return ResponseEntity.status(HttpStatus.NOT_FOUND).body(
+        new ApiError(404, ex.getMessage(), LocalDateTime.now(), null)
+    );
+  }
+
+  @ExceptionHandler(BadRequestException.class)
+  public ResponseEntity<ApiError> handleBadRequest(BadRequestException ex) {
+    return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(
+        new ApiError(400, ex.getMessage(), LocalDateTime.now(), null)
+    );
+  }
+
+  @ExceptionHandler(PreconditionFailedException.class)
+  public ResponseEntity<ApiError> handlePreconditionFailed(PreconditionFailedException ex) {
+    return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(
+        new ApiError(412, ex.getMessage(), LocalDateTime.now(), null)
+    );
+  }
+
+  @ExceptionHandler(OptimisticLockingFailureException.class)
+  public ResponseEntity<ApiError> handleOptimisticLock(OptimisticLockingFailureException ex) {
+    return ResponseEntity.status(HttpStatus.CONFLICT).body(
+        new ApiError(409, "A tarefa foi alterada por outra requisição", LocalDateTime.now(), null)
+    );
+  }
+
+  // Pool de conexões R2DBC esgotado ou banco fora: o cliente deve tentar de novo em instantes
+  @ExceptionHandler({CannotCreateTransactionException.class, DataAccessResourceFailureException.class,
+      R2dbcTransientResourceException.class})
+  public ResponseEntity<ApiError> handleUnavailable(Exception ex) {
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "1").body(
+        new ApiError(503, "Servidor sobrecarregado, tente novamente", LocalDateTime.now(), null)
+    );
+  }
+
+  @ExceptionHandler(WebExchangeBindException.class)
+  public ResponseEntity<ApiError> handleValidation(WebExchangeBindException ex) {
+    Map<String, String> fieldErrors = new LinkedHashMap<>();
+    ex.getBindingResult().getFieldErrors().forEach(err ->
+        fieldErrors.put(err.getField(), err.getDefaultMessage())
+    );
+    return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(
+        new ApiError(400, "Dados inválidos", LocalDateTime.now(), fieldErrors)
+    );
+  }
+
+  // Corpo ausente ou ilegível, parâmetro ou id em formato inválido
+  @ExceptionHandler(ServerWebInputException.class)
+  public ResponseEntity<ApiError> handleInput(ServerWebInputException ex) {
+    return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(
+        new ApiError(400, "Corpo da requisição inválido", LocalDateTime.now(), null)
+    );
+  }
+
+  @ExceptionHandler(Exception.class)
+  public ResponseEntity<ApiError> handleGeneric(Exception ex) {
+    log.error("Erro não tratado", ex);
+    return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(
+        new ApiError(500, "Erro interno do servidor", LocalDateTime.now(), null)
+    );
+  }
+}
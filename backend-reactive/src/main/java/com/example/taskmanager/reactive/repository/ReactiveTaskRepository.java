@@ -0,0 +1,207 @@
+package com.example.taskmanager.reactive.repository;
+
+import com.example.taskmanager.dto.TaskCardResponse;
+import com.example.taskmanager.dto.TaskCursor;
+import com.example.taskmanager.dto.TaskResponse;
+import com.example.taskmanager.entity.Task;
+import com.example.taskmanager.entity.TaskPriority;
+import com.example.taskmanager.entity.TaskStatus;
+import com.example.taskmanager.entity.UuidV7;
+import io.r2dbc.spi.Readable;
+import io.r2dbc.spi.Statement;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.DatabaseClient.GenericExecuteSpec;
+import org.springframework.r2dbc.core.Parameter;
+import org.springframework.r2dbc.core.binding.BindMarkers;
+import org.springframework.r2dbc.core.binding.BindMarkersFactoryResolver;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Acesso à tabela {@code tasks} (o mesmo esquema que o Flyway do backend MVC cria) pelo
+ * {@link DatabaseClient}: SQL explícito, id em {@code BINARY(16)} e versão incrementada no
+ * próprio UPDATE, como as consultas do {@code TaskRepository}. As leituras devolvem
+ * {@link Flux} que entregam as linhas conforme a demanda de quem consome.
+ */
+@Repository
+public class ReactiveTaskRepository {
+
+  private static final String COLUMNS = "id, title, description, status, priority, due_date, created_at, version";
+  private static final String CARD_COLUMNS = "id, title, status, priority, due_date, created_at, version";
+
+  private static final String INSERT = """
+      insert into tasks (id, title, description, status, priority, due_date, version, created_at, updated_at)
+      values (:id, :title, :description, :status, :priority, :dueDate, :version, :createdAt, :updatedAt)
+      """;
+
+  private final DatabaseClient db;
+  // O batch vai direto ao Statement do driver, com os marcadores dele (? no MySQL, $1 no H2)
+  private final String insertBatch;
+
+  public ReactiveTaskRepository(DatabaseClient db) {
+    this.db = db;
+    BindMarkers markers = BindMarkersFactoryResolver.resolve(db.getConnectionFactory()).create();
+    StringBuilder values = new StringBuilder();
+    for (int i = 0; i < 8; i++) {
+      if (i > 0) values.append(", ");
+      values.append(markers.next().getPlaceholder());
+    }
+    this.insertBatch = "insert into tasks (id, title, description, status, priority, due_date, created_at, updated_at, "
+        + "version) values (" + values + ", 0)";
+  }
+
+  public Flux<Task> findAll(TaskStatus status) {
+    return withStatus("select " + COLUMNS + " from tasks", status).map(ReactiveTaskRepository::toTask).all();
+  }
+
+  // Visão compacta: não lê a descrição (coluna TEXT)
+  public Flux<TaskCardResponse> findAllCards(TaskStatus status) {
+    return withStatus("select " + CARD_COLUMNS + " from tasks", status).map(ReactiveTaskRepository::toCard).all();
+  }
+
+  /** Página ordenada por (createdAt, id) após {@code after} (ou do início, se nulo). */
+  public Flux<Task> findPage(TaskStatus status, TaskCursor after, int limit) {
+    StringBuilder sql = new StringBuilder("select " + COLUMNS + " from tasks where 1 = 1");
+    if (status != null) sql.append(" and status = :status");
+    if (after != null) sql.append(" and (created_at > :createdAt or (created_at = :createdAt and id > :id))");
+    sql.append(" order by created_at, id limit ").append(limit);
+    GenericExecuteSpec spec = db.sql(sql.toString());
+    if (status != null) spec = spec.bind("status", status.name());
+    if (after != null) spec = spec.bind("createdAt", after.createdAt()).bind("id", UuidV7.toBytes(after.id()));
+    return spec.map(ReactiveTaskRepository::toTask).all();
+  }
+
+  /** Todas as tarefas na ordem da paginação, para a exportação. */
+  public Flux<Task> streamAll() {
+    return db.sql("select " + COLUMNS + " from tasks order by created_at, id").map(ReactiveTaskRepository::toTask).all();
+  }
+
+  public Mono<Task> findById(UUID id) {
+    return db.sql("select " + COLUMNS + " from tasks where id = :id")
+        .bind("id", UuidV7.toBytes(id))
+        .map(ReactiveTaskRepository::toTask)
+        .one();
+  }
+
+  public Mono<Boolean> existsById(UUID id) {
+    return db.sql("select 1 from tasks where id = :id").bind("id", UuidV7.toBytes(id)).map(row -> true)
+        .one().defaultIfEmpty(false);
+  }
+
+  public Mono<Task> insert(Task task) {
+    return bindTask(db.sql(INSERT), task).fetch().rowsUpdated().thenReturn(task);
+  }
+
+  /** Grava todos num único statement com vários conjuntos de parâmetros (batch do driver). */
+  public Mono<Long> insertAll(List<TaskResponse> tasks) {
+    if (tasks.isEmpty()) return Mono.just(0L);
+    return db.inConnectionMany(connection -> {
+      Statement statement = connection.createStatement(insertBatch);
+      for (int i = 0; i < tasks.size(); i++) {
+        if (i > 0) statement.add();
+        TaskResponse task = tasks.get(i);
+        statement.bind(0, UuidV7.toBytes(task.id()))
+            .bind(1, task.title())
+            .bind(3, task.status().name())
+            .bind(4, task.priority().name())
+            .bind(5, task.dueDate())
+            .bind(6, task.createdAt())
+            .bind(7, task.createdAt());
+        if (task.description() == null) statement.bindNull(2, String.class);
+        else statement.bind(2, task.description());
+      }
+      return Flux.from(statement.execute()).flatMap(result -> Mono.from(result.getRowsUpdated()));
+    }).reduce(0L, Long::sum);
+  }
+
+  /**
+   * Grava os campos da tarefa se ela ainda estiver na versão {@code version}; devolve as
+   * linhas alteradas (0 se outra escrita chegou antes).
+   */
+  public Mono<Long> update(Task task, long version) {
+    return db.sql("""
+            update tasks set title = :title, description = :description, status = :status, priority = :priority,
+              due_date = :dueDate, version = version + 1, updated_at = :updatedAt
+            where id = :id and version = :version
+            """)
+        .bind("title", task.getTitle())
+        .bind("description", Parameter.fromOrEmpty(task.getDescription(), String.class))
+        .bind("status", task.getStatus().name())
+        .bind("priority", task.getPriority().name())
+        .bind("dueDate", task.getDueDate())
+        .bind("updatedAt", now())
+        .bind("id", UuidV7.toBytes(task.getId()))
+        .bind("version", version)
+        .fetch().rowsUpdated();
+  }
+
+  /** Caminho do drag & drop: um único UPDATE; com versão, só casa com a linha naquela versão. */
+  public Mono<Long> updateStatus(UUID id, TaskStatus status, Long version) {
+    String sql = "update tasks set status = :status, version = version + 1, updated_at = :updatedAt where id = :id"
+        + (version == null ? "" : " and version = :version");
+    GenericExecuteSpec spec = db.sql(sql)
+        .bind("status", status.name())
+        .bind("updatedAt", now())
+        .bind("id", UuidV7.toBytes(id));
+    if (version != null) spec = spec.bind("version", version);
+    return spec.fetch().rowsUpdated();
+  }
+
+  public Mono<Long> deleteById(UUID id) {
+    return db.sql("delete from tasks where id = :id").bind("id", UuidV7.toBytes(id)).fetch().rowsUpdated();
+  }
+
+  private GenericExecuteSpec withStatus(String select, TaskStatus status) {
+    return status == null
+        ? db.sql(select)
+        : db.sql(select + " where status = :status").bind("status", status.name());
+  }
+
+  private static GenericExecuteSpec bindTask(GenericExecuteSpec spec, Task task) {
+    return spec.bind("id", UuidV7.toBytes(task.getId()))
+        .bind("title", task.getTitle())
+        .bind("description", Parameter.fromOrEmpty(task.getDescription(), String.class))
+        .bind("status", task.getStatus().name())
+        .bind("priority", task.getPriority().name())
+        .bind("dueDate", task.getDueDate())
+        .bind("version", task.getVersion())
+        .bind("createdAt", task.getCreatedAt())
+        .bind("updatedAt", task.getUpdatedAt());
+  }
+
+  private static Task toTask(Readable row) {
+    Task task = new Task();
+    task.setId(UuidV7.fromBytes(row.get("id", byte[].class)));
+    task.setTitle(row.get("title", String.class));
+    task.setDescription(row.get("description", String.class));
+    task.setStatus(TaskStatus.valueOf(row.get("status", String.class)));
+    task.setPriority(TaskPriority.valueOf(row.get("priority", String.class)));
+    task.setDueDate(row.get("due_date", LocalDate.class));
+    task.setCreatedAt(row.get("created_at", LocalDateTime.class));
+    task.setVersion(row.get("version", Long.class));
+    return task;
+  }
+
+  private static TaskCardResponse toCard(Readable row) {
+    return new TaskCardResponse(
+        UuidV7.fromBytes(row.get("id", byte[].class)),
+        row.get("title", String.class),
+        TaskStatus.valueOf(row.get("status", String.class)),
+        TaskPriority.valueOf(row.get("priority", String.class)),
+        row.get("due_date", LocalDate.class),
+        row.get("created_at", LocalDateTime.class),
+        row.get("version", Long.class));
+  }
+
+  // DATETIME(6): microssegundos, como o valor que a entidade guarda
+  private static LocalDateTime now() {
+    return LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+  }
+}
@@ -0,0 +1,154 @@
+package com.example.taskmanager.reactive.service;
+
+import com.example.taskmanager.dto.TaskBatchItemResult;
+import com.example.taskmanager.dto.TaskImportResponse;
+import com.example.taskmanager.dto.TaskImportRow;
+import com.example.taskmanager.dto.TaskResponse;
+import com.example.taskmanager.entity.TaskStatus;
+import com.example.taskmanager.entity.UuidV7;
+import com.example.taskmanager.reactive.repository.ReactiveTaskRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Importação NDJSON do {@code TaskImporter} em versão reativa: as linhas chegam do corpo
+ * conforme são pedidas, cada uma é lida e validada, e as válidas vão ao banco em blocos de
+ * {@link #CHUNK_SIZE}, um batch e uma transação por bloco. O próximo bloco só é pedido
+ * depois que o anterior foi gravado, então a memória não cresce com o arquivo.
+ */
+@Component
+public class ReactiveTaskImporter {
+
+  private static final Logger log = LoggerFactory.getLogger(ReactiveTaskImporter.class);
+
+  static final int CHUNK_SIZE = 1000;
+  static final int MAX_REPORTED_ERRORS = 1000;
+
+  private final ReactiveTaskRepository repository;
+  private final ObjectReader rowReader;
+  private final Validator validator;
+  private final TransactionalOperator transaction;
+
+  public ReactiveTaskImporter(ReactiveTaskRepository repository, ObjectMapper objectMapper, Validator validator,
+                              TransactionalOperator transaction) {
+    this.repository = repository;
+    this.rowReader = objectMapper.readerFor(TaskImportRow.class)
+        .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    this.validator = validator;
+    this.transaction = transaction;
+  }
+
+  /** Um objeto JSON por linha; linhas em branco são ignoradas. */
+  public Mono<TaskImportResponse> importNdjson(Flux<String> lines) {
+    return Mono.defer(() -> {
+      Import run = new Import();
+      return lines.filter(line -> !line.isBlank())
+          .index()
+          .<Pending>handle((indexed, sink) -> {
+            Pending pending = run.accept((int) (indexed.getT1() + 1), indexed.getT2());
+            if (pending != null) sink.next(pending);
+          })
+          .buffer(CHUNK_SIZE)
+          .concatMap(run::write)
+          .then(Mono.fromSupplier(run::finish));
+    });
+  }
+
+  private static String describe(JsonProcessingException ex) {
+    if (ex instanceof JsonMappingException mapping && !mapping.getPath().isEmpty()) {
+      String field = mapping.getPath().stream()
+          .map(ref -> ref.getFieldName() != null ? ref.getFieldName() : "[" + ref.getIndex() + "]")
+          .collect(Collectors.joining("."));
+      return field + ": valor inválido";
+    }
+    return "JSON inválido";
+  }
+
+  private String validate(TaskImportRow row) {
+    Set<ConstraintViolation<TaskImportRow>> violations = validator.validate(row);
+    if (violations.isEmpty()) return null;
+    return violations.stream()
+        .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+        .sorted()
+        .collect(Collectors.joining("; "));
+  }
+
+  private record Pending(int row, TaskResponse task) {}
+
+  /** Estado de uma importação: os totais e os erros listados. */
+  private final class Import {
+    private final List<TaskBatchItemResult> errors = new ArrayList<>();
+    private long imported;
+    private long failed;
+
+    Pending accept(int row, String line) {
+      TaskImportRow parsed;
+      try {
+        parsed = rowReader.readValue(line);
+      } catch (JsonProcessingException ex) {
+        reject(row, describe(ex));
+        return null;
+      }
+      if (parsed == null) {
+        reject(row, "Item vazio");
+        return null;
+      }
+      String error = validate(parsed);
+      if (error != null) {
+        reject(row, error);
+        return null;
+      }
+      TaskStatus status = parsed.status() == null ? TaskStatus.TODO : parsed.status();
+      LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+      return new Pending(row, new TaskResponse(UuidV7.next(), parsed.title(), parsed.description(), status,
+          parsed.priority(), parsed.dueDate(), now, 0L));
+    }
+
+    Mono<Void> write(List<Pending> chunk) {
+      return repository.insertAll(chunk.stream().map(Pending::task).toList())
+          .as(transaction::transactional)
+          .doOnNext(count -> imported += chunk.size())
+          // Um valor recusado pelo banco derruba o bloco inteiro; os demais blocos seguem
+          .onErrorResume(DataIntegrityViolationException.class, ex -> {
+            log.warn("Bloco da importação recusado pelo banco (linhas {} a {})",
+                chunk.get(0).row(), chunk.get(chunk.size() - 1).row(), ex);
+            for (Pending pending : chunk) {
+              failed++;
+              if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new TaskBatchItemResult(pending.row(), null, 422, "Bloco recusado pelo banco"));
+              }
+            }
+            return Mono.empty();
+          })
+          .then();
+    }
+
+    void reject(int row, String message) {
+      failed++;
+      if (errors.size() < MAX_REPORTED_ERRORS) errors.add(new TaskBatchItemResult(row, null, 400, message));
+    }
+
+    TaskImportResponse finish() {
+      return new TaskImportResponse(imported, failed, List.copyOf(errors), failed > errors.size());
+    }
+  }
+}
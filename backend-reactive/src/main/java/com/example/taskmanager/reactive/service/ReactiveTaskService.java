@@ -0,0 +1,123 @@
+package com.example.taskmanager.reactive.service;
+
+import com.example.taskmanager.dto.TaskCardResponse;
+import com.example.taskmanager.dto.TaskCreateRequest;
+import com.example.taskmanager.dto.TaskCursor;
+import com.example.taskmanager.dto.TaskResponse;
+import com.example.taskmanager.dto.TaskUpdateRequest;
+import com.example.taskmanager.entity.Task;
+import com.example.taskmanager.entity.TaskStatus;
+import com.example.taskmanager.entity.UuidV7;
+import com.example.taskmanager.exception.PreconditionFailedException;
+import com.example.taskmanager.exception.ResourceNotFoundException;
+import com.example.taskmanager.mapper.TaskMapper;
+import com.example.taskmanager.reactive.repository.ReactiveTaskRepository;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Regras do {@code TaskService} do backend MVC sobre o repositório reativo: mesma validação
+ * (nos DTOs), mesmo mapeamento ({@link TaskMapper}), mesmas respostas para tarefa ausente,
+ * versão divergente e escrita concorrente. Não há cache, arquivo nem eventos: cada leitura
+ * vai ao banco e segura a conexão só enquanto as linhas são consumidas.
+ * <p>
+ * Sem {@code @Transactional}: cada escrita é um único comando, e a edição se protege pela
+ * versão no próprio UPDATE. Uma transação só seguraria a conexão (e os bloqueios) entre os
+ * comandos, enquanto a requisição espera a vez no event loop.
+ */
+@Service
+public class ReactiveTaskService {
+
+  public static final int DEFAULT_PAGE_SIZE = 100;
+  public static final int MAX_PAGE_SIZE = 1000;
+
+  private final ReactiveTaskRepository repository;
+
+  public ReactiveTaskService(ReactiveTaskRepository repository) {
+    this.repository = repository;
+  }
+
+  public Flux<TaskResponse> list(TaskStatus status) {
+    return repository.findAll(status).map(TaskMapper::toResponse);
+  }
+
+  public Flux<TaskCardResponse> listCards(TaskStatus status) {
+    return repository.findAllCards(status);
+  }
+
+  public Flux<Task> findPage(TaskStatus status, TaskCursor after, int limit) {
+    return repository.findPage(status, after, Math.min(limit, MAX_PAGE_SIZE));
+  }
+
+  public Flux<TaskResponse> exportAll() {
+    return repository.streamAll().map(TaskMapper::toResponse);
+  }
+
+  public Mono<TaskResponse> get(UUID id) {
+    return findById(id).map(TaskMapper::toResponse);
+  }
+
+  public Mono<Task> create(TaskCreateRequest dto) {
+    Task task = TaskMapper.toEntity(dto);
+    task.setId(UuidV7.next());
+    return repository.insert(task);
+  }
+
+  /**
+   * @param expectedVersion versão informada em If-Match; nula quando a requisição não é condicional
+   */
+  public Mono<Task> update(UUID id, TaskUpdateRequest dto, Long expectedVersion) {
+    return findById(id).flatMap(task -> {
+      if (expectedVersion != null && task.getVersion() != expectedVersion) {
+        return Mono.error(versionMismatch(expectedVersion));
+      }
+      long version = task.getVersion();
+      TaskMapper.applyUpdate(task, dto);
+      return repository.update(task, version).flatMap(updated -> {
+        if (updated == 0) {
+          return Mono.error(new OptimisticLockingFailureException("Tarefa alterada por outra requisição: " + id));
+        }
+        task.setVersion(version + 1);
+        return Mono.just(task);
+      });
+    });
+  }
+
+  /** Altera o status com um único UPDATE e relê a linha para montar a resposta. */
+  public Mono<Task> updateStatus(UUID id, TaskStatus status, Long expectedVersion) {
+    return applyStatus(id, status, expectedVersion).then(findById(id));
+  }
+
+  /**
+   * Caminho rápido do drag & drop: um único UPDATE, sem leitura prévia nem posterior.
+   * Com versão esperada, o UPDATE só casa com a linha naquela versão.
+   */
+  public Mono<Void> applyStatus(UUID id, TaskStatus status, Long expectedVersion) {
+    return repository.updateStatus(id, status, expectedVersion).flatMap(updated -> {
+      if (updated > 0) return Mono.<Void>empty();
+      if (expectedVersion == null) return Mono.error(notFound(id));
+      return repository.existsById(id).flatMap(exists ->
+          Mono.error(exists ? versionMismatch(expectedVersion) : notFound(id)));
+    });
+  }
+
+  public Mono<Void> delete(UUID id) {
+    return repository.deleteById(id).flatMap(deleted -> deleted == 0 ? Mono.error(notFound(id)) : Mono.empty());
+  }
+
+  private Mono<Task> findById(UUID id) {
+    return repository.findById(id).switchIfEmpty(Mono.error(() -> notFound(id)));
+  }
+
+  private static ResourceNotFoundException notFound(UUID id) {
+    return new ResourceNotFoundException("Task não encontrada: " + id);
+  }
+
+  private static PreconditionFailedException versionMismatch(long expectedVersion) {
+    return new PreconditionFailedException("A tarefa não está mais na versão " + expectedVersion);
+  }
+}
@@ -0,0 +1,206 @@
+package com.example.taskmanager.reactive.controller;
+
+import com.example.taskmanager.dto.TaskCreateRequest;
+import com.example.taskmanager.dto.TaskImportResponse;
+import com.example.taskmanager.dto.TaskResponse;
+import com.example.taskmanager.dto.TaskStatusUpdateRequest;
+import com.example.taskmanager.dto.TaskUpdateRequest;
+import com.example.taskmanager.entity.TaskPriority;
+import com.example.taskmanager.entity.TaskStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+// Ponta a ponta sobre H2 via R2DBC: exercita o SQL do repositório, não só o controller
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+    "spring.r2dbc.url=r2dbc:h2:mem:///reactive-test;MODE=MySQL;DB_CLOSE_DELAY=-1",
+    "spring.r2dbc.username=sa",
+    "spring.r2dbc.password=",
+    "spring.sql.init.mode=always"
+})
+class ReactiveTaskControllerTest {
+
+  @Autowired
+  WebTestClient client;
+
+  @Autowired
+  DatabaseClient db;
+
+  @BeforeEach
+  void clean() {
+    db.sql("delete from tasks").then().block();
+  }
+
+  private TaskResponse create(String title) {
+    return client.post().uri("/api/tasks")
+        .bodyValue(new TaskCreateRequest(title, "D", LocalDate.of(2026, 2, 15), TaskPriority.MEDIUM))
+        .exchange()
+        .expectStatus().isCreated()
+        .expectBody(TaskResponse.class)
+        .returnResult().getResponseBody();
+  }
+
+  @Test
+  void postThenGet_shouldRoundTripWithEtag() {
+    TaskResponse created = create("  Configurar WebFlux  ");
+    assertEquals("Configurar WebFlux", created.title());
+    assertEquals(TaskStatus.TODO, created.status());
+
+    client.get().uri("/api/tasks/{id}", created.id())
+        .exchange()
+        .expectStatus().isOk()
+        .expectHeader().valueEquals("ETag", "\"0\"")
+        .expectBody()
+        .jsonPath("$.id").isEqualTo(created.id().toString())
+        .jsonPath("$.description").isEqualTo("D")
+        .jsonPath("$.dueDate").isEqualTo("2026-02-15");
+  }
+
+  @Test
+  void postTasks_invalidBody_shouldReturn400WithFieldErrors() {
+    client.post().uri("/api/tasks")
+        .bodyValue(new TaskCreateRequest("", null, null, null))
+        .exchange()
+        .expectStatus().isBadRequest()
+        .expectBody()
+        .jsonPath("$.message").isEqualTo("Dados inválidos")
+        .jsonPath("$.fieldErrors.title").exists();
+  }
+
+  @Test
+  void getTasks_withLimit_shouldPageByCursor() {
+    for (int i = 0; i < 3; i++) create("T" + i);
+
+    var first = client.get().uri("/api/tasks?limit=2")
+        .exchange()
+        .expectStatus().isOk()
+        .expectBodyList(TaskResponse.class).hasSize(2)
+        .returnResult();
+    String cursor = first.getResponseHeaders().getFirst(ReactiveTaskController.NEXT_CURSOR_HEADER);
+    assertNotNull(cursor);
+
+    var last = client.get().uri("/api/tasks?limit=2&cursor={c}", cursor)
+        .exchange()
+        .expectStatus().isOk()
+        .expectBodyList(TaskResponse.class).hasSize(1)
+        .returnResult();
+    assertEquals("T2", last.getResponseBody().get(0).title());
+    assertNull(last.getResponseHeaders().getFirst(ReactiveTaskController.NEXT_CURSOR_HEADER));
+
+    client.get().uri("/api/tasks?limit=0").exchange().expectStatus().isBadRequest();
+    client.get().uri("/api/tasks?cursor=x").exchange().expectStatus().isBadRequest();
+  }
+
+  @Test
+  void getTasks_shouldStreamJsonNdjsonAndCompactView() {
+    create("A");
+    TaskResponse done = create("B");
+    client.patch().uri("/api/tasks/{id}/status", done.id())
+        .bodyValue(new TaskStatusUpdateRequest(TaskStatus.DONE))
+        .exchange().expectStatus().isOk();
+
+    client.get().uri("/api/tasks?status=DONE")
+        .exchange()
+        .expectBody().jsonPath("$.length()").isEqualTo(1).jsonPath("$[0].title").isEqualTo("B");
+
+    List<TaskResponse> lines = client.get().uri("/api/tasks")
+        .accept(MediaType.APPLICATION_NDJSON)
+        .exchange()
+        .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+        .returnResult(TaskResponse.class).getResponseBody().collectList().block();
+    assertEquals(2, lines.size());
+
+    client.get().uri("/api/tasks?view=compact")
+        .exchange()
+        .expectBody()
+        .jsonPath("$.length()").isEqualTo(2)
+        .jsonPath("$[0].description").doesNotExist();
+  }
+
+  @Test
+  void patchStatus_preferMinimalAndIfMatch_shouldFollowVersion() {
+    TaskResponse created = create("T");
+
+    client.patch().uri("/api/tasks/{id}/status", created.id())
+        .header("Prefer", "return=minimal")
+        .header("If-Match", "\"0\"")
+        .bodyValue(new TaskStatusUpdateRequest(TaskStatus.DOING))
+        .exchange()
+        .expectStatus().isNoContent()
+        .expectHeader().valueEquals("Preference-Applied", "return=minimal")
+        .expectHeader().valueEquals("ETag", "\"1\"");
+
+    client.patch().uri("/api/tasks/{id}/status", created.id())
+        .header("If-Match", "\"0\"")
+        .bodyValue(new TaskStatusUpdateRequest(TaskStatus.DONE))
+        .exchange()
+        .expectStatus().isEqualTo(412);
+
+    client.put().uri("/api/tasks/{id}", created.id())
+        .header("If-Match", "\"1\"")
+        .bodyValue(new TaskUpdateRequest("Novo", null, null, TaskPriority.HIGH, null))
+        .exchange()
+        .expectStatus().isOk()
+        .expectHeader().valueEquals("ETag", "\"2\"")
+        .expectBody()
+        .jsonPath("$.title").isEqualTo("Novo")
+        .jsonPath("$.status").isEqualTo("DOING")
+        .jsonPath("$.priority").isEqualTo("HIGH");
+  }
+
+  @Test
+  void delete_shouldReturn204ThenNotFound() {
+    TaskResponse created = create("T");
+
+    client.delete().uri("/api/tasks/{id}", created.id()).exchange().expectStatus().isNoContent();
+    client.delete().uri("/api/tasks/{id}", created.id()).exchange().expectStatus().isNotFound();
+    client.get().uri("/api/tasks/{id}", UUID.randomUUID())
+        .exchange()
+        .expectStatus().isNotFound()
+        .expectBody().jsonPath("$.status").isEqualTo(404);
+  }
+
+  @Test
+  void importThenExport_shouldReportInvalidLinesAndStreamBack() {
+    String body = """
+        {"title":"A","dueDate":"2026-03-01","priority":"LOW"}
+        {"title":"","dueDate":"2026-03-01","priority":"LOW"}
+
+        nao-e-json
+        {"title":"B","description":"x","dueDate":"2026-03-02","priority":"HIGH","status":"DONE"}
+        """;
+
+    TaskImportResponse report = client.post().uri("/api/tasks/import")
+        .contentType(MediaType.APPLICATION_NDJSON)
+        .bodyValue(body)
+        .exchange()
+        .expectStatus().isOk()
+        .expectBody(TaskImportResponse.class)
+        .returnResult().getResponseBody();
+    assertEquals(2, report.imported());
+    assertEquals(2, report.failed());
+    assertEquals(List.of(2, 3), report.errors().stream().map(e -> e.index()).toList());
+
+    List<TaskResponse> exported = client.get().uri("/api/tasks/export")
+        .exchange()
+        .expectStatus().isOk()
+        .expectHeader().valueEquals("Content-Disposition", "attachment; filename=\"tasks.ndjson\"")
+        .returnResult(TaskResponse.class).getResponseBody().collectList().block();
+    assertEquals(List.of("A", "B"), exported.stream().map(TaskResponse::title).toList());
+    assertEquals(TaskStatus.DONE, exported.get(1).status());
+
+    client.get().uri("/api/tasks/export?format=csv").exchange().expectStatus().isBadRequest();
+  }
+}
@@ -0,0 +1,12 @@
+-- Tabela tasks como fica após as migrações do backend MVC, no dialeto do H2
+CREATE TABLE IF NOT EXISTS tasks (
+  id BINARY(16) NOT NULL PRIMARY KEY,
+  title VARCHAR(255) NOT NULL,
+  description CLOB,
+  status VARCHAR(16) NOT NULL,
+  priority VARCHAR(16) NOT NULL,
+  due_date DATE NOT NULL,
+  version BIGINT NOT NULL DEFAULT 0,
+  created_at TIMESTAMP(6) NOT NULL,
+  updated_at TIMESTAMP(6) NOT NULL
+);
@@ -0,0 +1,173 @@
+package com.example.taskmanager.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.gatling.javaapi.core.ChainBuilder;
+import io.gatling.javaapi.core.ScenarioBuilder;
+import io.gatling.javaapi.core.Simulation;
+import io.gatling.javaapi.http.HttpProtocolBuilder;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static io.gatling.javaapi.core.CoreDsl.StringBody;
+import static io.gatling.javaapi.core.CoreDsl.constantUsersPerSec;
+import static io.gatling.javaapi.core.CoreDsl.exec;
+import static io.gatling.javaapi.core.CoreDsl.jsonPath;
+import static io.gatling.javaapi.core.CoreDsl.percent;
+import static io.gatling.javaapi.core.CoreDsl.rampUsersPerSec;
+import static io.gatling.javaapi.core.CoreDsl.scenario;
+import static io.gatling.javaapi.http.HttpDsl.http;
+import static io.gatling.javaapi.http.HttpDsl.status;
+
+/**
+ * Tráfego de um quadro Kanban: muita leitura do quadro, arrastar cartões entre colunas e,
+ * em menor volume, edição, criação e exclusão. Antes da carga, importa {@code loadtest.tasks}
+ * tarefas geradas com semente fixa (mesma massa em toda execução) e guarda os ids.
+ * <p>
+ * Modelo aberto: chegam {@code loadtest.users-per-sec} usuários por segundo, cada um faz uma
+ * requisição da mistura abaixo. A aprovação (taxa de erro, regressão) fica com o
+ * {@link LoadTestReport}, que lê o resultado desta simulação.
+ */
+public class KanbanSimulation extends Simulation {
+
+  private static final String[] STATUSES = {"TODO", "DOING", "DONE"};
+  private static final String[] PRIORITIES = {"LOW", "MEDIUM", "HIGH"};
+
+  private final LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+  private final TaskPool pool = new TaskPool();
+  private final ObjectMapper json = new ObjectMapper();
+
+  // Como o navegador: gzip aceito e poucas conexões reaproveitadas
+  private final HttpProtocolBuilder protocol = http
+      .baseUrl(settings.baseUrl())
+      .acceptHeader("application/json")
+      .acceptEncodingHeader("gzip, deflate")
+      .contentTypeHeader("application/json")
+      .shareConnections();
+
+  private final ChainBuilder board = exec(http("quadro (compacto)")
+      .get("/api/tasks?view=compact")
+      .check(status().is(200)));
+
+  private final ChainBuilder page = exec(http("coluna paginada")
+      .get(session -> "/api/tasks?status=" + pick(STATUSES) + "&limit=50")
+      .check(status().is(200)));
+
+  private final ChainBuilder move = exec(session -> session.set("id", pool.any()))
+      .exec(http("mover cartão (PATCH status)")
+          .patch("/api/tasks/#{id}/status")
+          .header("Prefer", "return=minimal")
+          .body(StringBody(session -> "{\"status\":\"" + pick(STATUSES) + "\"}"))
+          .check(status().in(204, 404)));
+
+  private final ChainBuilder edit = exec(session -> session.set("id", pool.any()))
+      .exec(http("editar (PUT)")
+          .put("/api/tasks/#{id}")
+          .body(StringBody(session -> "{\"title\":\"Revisado " + ThreadLocalRandom.current().nextInt(1_000_000)
+              + "\",\"priority\":\"" + pick(PRIORITIES) + "\"}"))
+          .check(status().in(200, 404)));
+
+  private final ChainBuilder create = exec(http("criar (POST)")
+      .post("/api/tasks")
+      .body(StringBody(session -> createBody(ThreadLocalRandom.current())))
+      .check(status().is(201), jsonPath("$.id").saveAs("created")))
+      .exec(session -> {
+        if (session.contains("created")) pool.add(session.getString("created"));
+        return session;
+      });
+
+  private final ChainBuilder delete = exec(session -> session.set("id", pool.take()))
+      .exec(http("excluir (DELETE)")
+          .delete("/api/tasks/#{id}")
+          .check(status().in(204, 404)));
+
+  private final ScenarioBuilder kanban = scenario("Quadro Kanban")
+      .randomSwitch().on(
+          percent(35.0).then(board),
+          percent(15.0).then(page),
+          percent(25.0).then(move),
+          percent(10.0).then(edit),
+          percent(10.0).then(create),
+          percent(5.0).then(delete));
+
+  {
+    setUp(kanban.injectOpen(
+        rampUsersPerSec(1).to(settings.usersPerSec()).during(settings.ramp()),
+        constantUsersPerSec(settings.usersPerSec()).during(settings.duration())))
+        .protocols(protocol);
+  }
+
+  @Override
+  public void before() {
+    HttpClient client = HttpClient.newHttpClient();
+    try {
+      seed(client);
+      collectIds(client);
+    } catch (IOException ex) {
+      throw new IllegalStateException("Falha ao preparar a massa de dados em " + settings.baseUrl(), ex);
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(ex);
+    }
+    System.out.printf("Massa pronta: %d tarefas em %s%n", pool.size(), settings.baseUrl());
+  }
+
+  private void seed(HttpClient client) throws IOException, InterruptedException {
+    Random random = new Random(settings.seed());
+    StringBuilder ndjson = new StringBuilder(settings.tasks() * 200);
+    for (int i = 0; i < settings.tasks(); i++) {
+      ObjectNode row = (ObjectNode) json.readTree(createBody(random));
+      row.put("status", STATUSES[random.nextInt(STATUSES.length)]);
+      ndjson.append(row).append('\n');
+    }
+    HttpResponse<String> response = client.send(HttpRequest.newBuilder(uri("/api/tasks/import"))
+        .header("Content-Type", "application/x-ndjson")
+        .POST(HttpRequest.BodyPublishers.ofString(ndjson.toString()))
+        .build(), HttpResponse.BodyHandlers.ofString());
+    if (response.statusCode() != 200) {
+      throw new IllegalStateException("Importação respondeu " + response.statusCode() + ": " + response.body());
+    }
+  }
+
+  // O quadro pode já ter tarefas (base local): todas entram no sorteio
+  private void collectIds(HttpClient client) throws IOException, InterruptedException {
+    HttpResponse<InputStream> response = client.send(HttpRequest.newBuilder(uri("/api/tasks/export?format=ndjson"))
+        .GET().build(), HttpResponse.BodyHandlers.ofInputStream());
+    try (BufferedReader reader = new BufferedReader(new InputStreamReader(response.body(), StandardCharsets.UTF_8))) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        if (line.isBlank()) continue;
+        JsonNode task = json.readTree(line);
+        pool.add(task.get("id").asText());
+      }
+    }
+  }
+
+  private URI uri(String path) {
+    return URI.create(settings.baseUrl() + path);
+  }
+
+  private static String createBody(Random random) {
+    int n = random.nextInt(1_000_000);
+    return "{\"title\":\"Tarefa " + n + " – revisar integração com o serviço de pagamentos\","
+        + "\"description\":\"Conferir contratos, atualizar a documentação e abrir PR com os ajustes do item " + n + "\","
+        + "\"dueDate\":\"" + LocalDate.of(2026, 1, 1).plusDays(random.nextInt(365)) + "\","
+        + "\"priority\":\"" + PRIORITIES[random.nextInt(PRIORITIES.length)] + "\"}";
+  }
+
+  private static String pick(String[] values) {
+    return values[ThreadLocalRandom.current().nextInt(values.length)];
+  }
+}
@@ -0,0 +1,170 @@
+package com.example.taskmanager.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Resume a última execução da {@link KanbanSimulation} num relatório versionável
+ * ({@code loadtest/reports/<data>-<rótulo>.json}: vazão, p50/p95/p99/p99.9 e erros por
+ * requisição, mais o ambiente) e o compara com {@code loadtest/baseline.json}.
+ * <p>
+ * Falha se a taxa de erro passar de {@code loadtest.max-error-rate} (%) ou, com
+ * {@code loadtest.max-regression} acima de zero, se o p99 geral piorar mais que essa
+ * porcentagem em relação à linha de base. Com {@code loadtest.update-baseline=true}, o
+ * relatório novo, se aprovado, vira a linha de base.
+ */
+public final class LoadTestReport {
+
+  static final String ALL = "Todas";
+  private static final String[] PERCENTILES = {"p50", "p95", "p99", "p999"};
+
+  private static final ObjectMapper JSON = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+  private LoadTestReport() {}
+
+  public static void main(String[] args) throws IOException {
+    Path results = Path.of(System.getProperty("loadtest.results", "target/gatling"));
+    Path reports = Path.of(System.getProperty("loadtest.reports", "loadtest/reports"));
+    Path baselineFile = Path.of(System.getProperty("loadtest.baseline", "loadtest/baseline.json"));
+    String label = System.getProperty("loadtest.label", "local");
+    double maxErrorRate = Double.parseDouble(System.getProperty("loadtest.max-error-rate", "1"));
+    double maxRegression = Double.parseDouble(System.getProperty("loadtest.max-regression", "0"));
+
+    Path run = latestRun(results);
+    ObjectNode report = summarize(JSON.readTree(run.resolve("js/stats.json").toFile()), label);
+    report.put("run", run.getFileName().toString());
+
+    Files.createDirectories(reports);
+    String stamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+    Path file = reports.resolve(stamp + "-" + label.replaceAll("[^A-Za-z0-9._-]", "_") + ".json");
+    JSON.writeValue(file.toFile(), report);
+    System.out.println("Relatório: " + file);
+
+    JsonNode baseline = Files.exists(baselineFile) ? JSON.readTree(baselineFile.toFile()) : null;
+    print(report, baseline);
+
+    JsonNode all = report.path("requests").path(ALL);
+    double errorRate = all.path("errorRate").asDouble();
+    if (errorRate > maxErrorRate) {
+      throw new IllegalStateException(String.format(Locale.ROOT,
+          "Taxa de erro de %.2f%% acima do limite de %.2f%%", errorRate, maxErrorRate));
+    }
+    if (maxRegression > 0 && baseline != null) {
+      double before = baseline.path("requests").path(ALL).path("p99").asDouble();
+      double now = all.path("p99").asDouble();
+      if (before > 0 && now > before * (1 + maxRegression / 100)) {
+        throw new IllegalStateException(String.format(Locale.ROOT,
+            "p99 geral de %.0f ms, %.1f%% acima da linha de base (%.0f ms); limite de %.1f%%",
+            now, change(before, now), before, maxRegression));
+      }
+    }
+    // Só uma execução aprovada vira linha de base
+    if (Boolean.getBoolean("loadtest.update-baseline")) {
+      Files.copy(file, baselineFile, StandardCopyOption.REPLACE_EXISTING);
+      System.out.println("Linha de base atualizada: " + baselineFile);
+    }
+  }
+
+  /** A execução mais recente do Gatling feita depois que esta JVM subiu (no {@code verify}, a do próprio build). */
+  static Path latestRun(Path results) throws IOException {
+    long since = ManagementFactory.getRuntimeMXBean().getStartTime();
+    if (!Files.isDirectory(results)) {
+      throw new IllegalStateException("Nenhuma execução do Gatling em " + results);
+    }
+    try (Stream<Path> runs = Files.list(results)) {
+      return runs.filter(run -> Files.isRegularFile(run.resolve("js/stats.json")))
+          .filter(run -> run.resolve("js/stats.json").toFile().lastModified() >= since)
+          .max(Comparator.comparingLong(run -> run.resolve("js/stats.json").toFile().lastModified()))
+          .orElseThrow(() -> new IllegalStateException(
+              "Nenhuma execução do Gatling concluída neste build em " + results));
+    }
+  }
+
+  static ObjectNode summarize(JsonNode stats, String label) {
+    ObjectNode report = JSON.createObjectNode();
+    report.put("label", label);
+    report.put("date", LocalDateTime.now().withNano(0).toString());
+
+    ObjectNode environment = report.putObject("environment");
+    environment.put("java", System.getProperty("java.version"));
+    environment.put("vm", System.getProperty("java.vm.name"));
+    environment.put("os", System.getProperty("os.name") + " " + System.getProperty("os.arch"));
+    environment.put("cpus", Runtime.getRuntime().availableProcessors());
+
+    LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+    ObjectNode load = report.putObject("settings");
+    load.put("baseUrl", settings.baseUrl());
+    load.put("tasks", settings.tasks());
+    load.put("usersPerSec", settings.usersPerSec());
+    load.put("rampSeconds", settings.ramp().toSeconds());
+    load.put("durationSeconds", settings.duration().toSeconds());
+    load.put("seed", settings.seed());
+
+    ObjectNode requests = report.putObject("requests");
+    requests.set(ALL, metrics(stats.path("stats")));
+    for (Iterator<JsonNode> it = stats.path("contents").elements(); it.hasNext(); ) {
+      JsonNode request = it.next();
+      requests.set(request.path("stats").path("name").asText(), metrics(request.path("stats")));
+    }
+    return report;
+  }
+
+  private static ObjectNode metrics(JsonNode stats) {
+    ObjectNode metrics = JSON.createObjectNode();
+    long total = stats.path("numberOfRequests").path("total").asLong();
+    long errors = stats.path("numberOfRequests").path("ko").asLong();
+    metrics.put("requests", total);
+    metrics.put("errors", errors);
+    metrics.put("errorRate", total == 0 ? 0 : round(100.0 * errors / total));
+    metrics.put("throughput", round(stats.path("meanNumberOfRequestsPerSecond").path("total").asDouble()));
+    metrics.put("mean", stats.path("meanResponseTime").path("total").asDouble());
+    for (int i = 0; i < PERCENTILES.length; i++) {
+      metrics.put(PERCENTILES[i], stats.path("percentiles" + (i + 1)).path("total").asDouble());
+    }
+    metrics.put("max", stats.path("maxResponseTime").path("total").asDouble());
+    return metrics;
+  }
+
+  private static void print(JsonNode report, JsonNode baseline) {
+    System.out.printf("%-28s %9s %8s %8s %8s %8s %8s   %s%n",
+        "requisição", "req/s", "erros %", "p50", "p95", "p99", "p99.9",
+        baseline == null ? "(sem linha de base)" : "p99 vs " + baseline.path("label").asText());
+    for (Iterator<Map.Entry<String, JsonNode>> it = report.path("requests").fields(); it.hasNext(); ) {
+      Map.Entry<String, JsonNode> entry = it.next();
+      JsonNode m = entry.getValue();
+      String delta = "";
+      JsonNode before = baseline == null ? null : baseline.path("requests").get(entry.getKey());
+      if (before != null && before.path("p99").asDouble() > 0) {
+        delta = String.format(Locale.ROOT, "%+.1f%% (%.0f ms)",
+            change(before.path("p99").asDouble(), m.path("p99").asDouble()), before.path("p99").asDouble());
+      }
+      System.out.printf(Locale.ROOT, "%-28s %9.1f %8.2f %8.0f %8.0f %8.0f %8.0f   %s%n",
+          entry.getKey(), m.path("throughput").asDouble(), m.path("errorRate").asDouble(),
+          m.path("p50").asDouble(), m.path("p95").asDouble(), m.path("p99").asDouble(),
+          m.path("p999").asDouble(), delta);
+    }
+  }
+
+  private static double change(double before, double now) {
+    return 100 * (now - before) / before;
+  }
+
+  private static double round(double value) {
+    return Math.round(value * 100) / 100.0;
+  }
+}
@@ -0,0 +1,21 @@
+package com.example.taskmanager.loadtest;
+
+import java.time.Duration;
+
+/**
+ * Parâmetros do teste de carga, lidos das propriedades {@code loadtest.*} que o perfil
+ * {@code gatling} do pom repassa (e que podem ser trocadas com {@code -D}).
+ */
+record LoadTestSettings(String baseUrl, int tasks, double usersPerSec, Duration ramp, Duration duration,
+                        long seed) {
+
+  static LoadTestSettings fromSystemProperties() {
+    return new LoadTestSettings(
+        System.getProperty("loadtest.base-url", "http://localhost:8080"),
+        Integer.getInteger("loadtest.tasks", 2000),
+        Double.parseDouble(System.getProperty("loadtest.users-per-sec", "20")),
+        Duration.ofSeconds(Long.getLong("loadtest.ramp", 10)),
+        Duration.ofSeconds(Long.getLong("loadtest.duration", 60)),
+        Long.getLong("loadtest.seed", 42));
+  }
+}
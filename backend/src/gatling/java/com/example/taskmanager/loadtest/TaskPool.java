@@ -0,0 +1,37 @@
+package com.example.taskmanager.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Ids das tarefas existentes, compartilhados pelos usuários virtuais: a criação acrescenta,
+ * a exclusão retira antes de chamar a API. Edições e movimentos podem ainda pegar uma tarefa
+ * que outro usuário está excluindo; por isso aceitam 404.
+ */
+final class TaskPool {
+
+  private final List<String> ids = new ArrayList<>();
+
+  synchronized void add(String id) {
+    ids.add(id);
+  }
+
+  synchronized int size() {
+    return ids.size();
+  }
+
+  /** Um id qualquer, ou {@code null} com o quadro vazio. */
+  synchronized String any() {
+    return ids.isEmpty() ? null : ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+  }
+
+  /** Retira e devolve um id qualquer (troca com o último, O(1)). */
+  synchronized String take() {
+    if (ids.isEmpty()) return null;
+    int index = ThreadLocalRandom.current().nextInt(ids.size());
+    String last = ids.remove(ids.size() - 1);
+    if (index == ids.size()) return last;
+    return ids.set(index, last);
+  }
+}
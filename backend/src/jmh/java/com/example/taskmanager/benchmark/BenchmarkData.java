@@ -0,0 +1,42 @@
+package com.example.taskmanager.benchmark;
+
+import com.example.taskmanager.dto.TaskCreateRequest;
+import com.example.taskmanager.entity.Task;
+import com.example.taskmanager.entity.TaskPriority;
+import com.example.taskmanager.entity.TaskStatus;
+import com.example.taskmanager.entity.UuidV7;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/** Massa de dados fixa para os benchmarks, com textos no tamanho típico do quadro. */
+final class BenchmarkData {
+
+  private BenchmarkData() {}
+
+  static Task task(int i) {
+    Task t = new Task();
+    t.setId(UuidV7.next());
+    t.setTitle("Tarefa " + i + " – revisar integração com o serviço de pagamentos");
+    t.setDescription("Conferir contratos, atualizar a documentação e abrir PR com os ajustes do item " + i);
+    t.setStatus(TaskStatus.values()[i % TaskStatus.values().length]);
+    t.setPriority(TaskPriority.values()[i % TaskPriority.values().length]);
+    t.setDueDate(LocalDate.of(2026, 1, 1).plusDays(i % 365));
+    t.setCreatedAt(LocalDateTime.of(2026, 1, 1, 9, 0).plusSeconds(i));
+    t.setVersion(i % 7);
+    return t;
+  }
+
+  static List<Task> tasks(int size) {
+    List<Task> tasks = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) tasks.add(task(i));
+    return tasks;
+  }
+
+  static TaskCreateRequest createRequest(int i) {
+    Task t = task(i);
+    return new TaskCreateRequest(t.getTitle(), t.getDescription(), t.getDueDate(), t.getPriority());
+  }
+}
@@ -0,0 +1,226 @@
+package com.example.taskmanager.benchmark;
+
+import com.example.taskmanager.entity.TaskPriority;
+import com.example.taskmanager.entity.TaskStatus;
+import com.example.taskmanager.entity.UuidV7;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Busca da primeira página (20) de {@code GET /api/tasks/search}: o {@code MATCH ... AGAINST}
+ * de {@code TaskRepository#search} sobre o índice FULLTEXT da V6 contra um
+ * {@code LIKE '%termo%'} em título e descrição, numa tabela igual à {@code tasks} com
+ * {@code rows} linhas.
+ * <p>
+ * Os textos são sorteados com semente fixa de um vocabulário de {@value #VOCABULARY} palavras
+ * com frequência de Zipf, como num texto real; {@code term} escolhe a palavra pelo ranking:
+ * {@code top1} aparece em quase todas as tarefas, {@code top100} em ~2% e {@code top2000} em ~0,1%.
+ * <p>
+ * Como o {@link UuidKeyBenchmark}, só roda contra um MySQL de desenvolvimento
+ * (BENCH_DATASOURCE_URL, _USERNAME, _PASSWORD) e pelo nome:
+ * {@code mvn -Pjmh verify -Djmh.args="FullTextSearchBenchmark -rf json -rff target/jmh-search.json"}.
+ * A tabela {@code bench_tasks_search} é criada e povoada na primeira execução e reaproveitada nas seguintes.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class FullTextSearchBenchmark {
+
+  private static final String TABLE = "bench_tasks_search";
+  private static final int VOCABULARY = 5000;
+  private static final int BATCH = 1000;
+  private static final int PAGE = 20;
+  private static final String COLUMNS = "id, title, description, status, priority, due_date, created_at, version";
+
+  @Param({"top1", "top100", "top2000"})
+  public String term;
+
+  @Param("1000000")
+  public int rows;
+
+  private Connection connection;
+  private PreparedStatement fullText;
+  private PreparedStatement like;
+  private String word;
+
+  @Setup
+  public void setUp() throws SQLException {
+    connection = DriverManager.getConnection(
+        env("BENCH_DATASOURCE_URL",
+            "jdbc:mysql://localhost:3306/task_manager_bench?createDatabaseIfNotExist=true&rewriteBatchedStatements=true"),
+        env("BENCH_DATASOURCE_USERNAME", "root"),
+        env("BENCH_DATASOURCE_PASSWORD", "root"));
+    try (Statement ddl = connection.createStatement()) {
+      ddl.execute("create table if not exists " + TABLE + " ("
+          + "id BINARY(16) NOT NULL,"
+          + "title VARCHAR(255) NOT NULL,"
+          + "description TEXT,"
+          + "status ENUM('TODO', 'DOING', 'DONE') NOT NULL,"
+          + "priority ENUM('LOW', 'MEDIUM', 'HIGH') NOT NULL,"
+          + "due_date DATE NOT NULL,"
+          + "created_at DATETIME(6) NOT NULL,"
+          + "version BIGINT NOT NULL,"
+          + "PRIMARY KEY (id)"
+          + ") ENGINE = InnoDB");
+    }
+    if (count() < rows) seed();
+    // Criado depois da carga: montar o índice de uma vez é bem mais rápido que mantê-lo a cada lote
+    if (!hasFullTextIndex()) {
+      try (Statement ddl = connection.createStatement()) {
+        ddl.execute("alter table " + TABLE + " add fulltext index ft_" + TABLE + " (title, description)");
+      }
+    }
+
+    word = word(Integer.parseInt(term.substring("top".length())) - 1);
+    fullText = connection.prepareStatement("select " + COLUMNS + " from " + TABLE
+        + " where match(title, description) against (? in boolean mode)"
+        + " order by match(title, description) against (? in boolean mode) desc, id desc limit " + PAGE);
+    String booleanMode = "+" + word + "*";
+    fullText.setString(1, booleanMode);
+    fullText.setString(2, booleanMode);
+    // Melhor caso do LIKE: sem ranking, para nos primeiros 20 encontrados percorrendo a chave primária
+    like = connection.prepareStatement("select " + COLUMNS + " from " + TABLE
+        + " where title like ? or description like ? order by id desc limit " + PAGE);
+    like.setString(1, "%" + word + "%");
+    like.setString(2, "%" + word + "%");
+    System.out.println(TABLE + ": " + count() + " linhas; '" + word + "' em " + matches() + " delas");
+  }
+
+  @TearDown
+  public void tearDown() throws SQLException {
+    connection.close();
+  }
+
+  @Benchmark
+  public int fullText() throws SQLException {
+    return drain(fullText);
+  }
+
+  @Benchmark
+  public int like() throws SQLException {
+    return drain(like);
+  }
+
+  private void seed() throws SQLException {
+    try (Statement st = connection.createStatement()) {
+      st.execute("truncate table " + TABLE);
+      if (hasFullTextIndex()) st.execute("alter table " + TABLE + " drop index ft_" + TABLE);
+    }
+    Random random = new Random(42);
+    double[] cumulative = zipf();
+    LocalDateTime start = LocalDateTime.of(2026, 1, 1, 9, 0);
+    connection.setAutoCommit(false);
+    try (PreparedStatement insert = connection.prepareStatement(
+        "insert into " + TABLE + " (" + COLUMNS + ") values (?, ?, ?, ?, ?, ?, ?, ?)")) {
+      for (int i = 0; i < rows; i++) {
+        insert.setBytes(1, UuidV7.toBytes(UuidV7.next()));
+        insert.setString(2, text(random, cumulative, 3 + random.nextInt(4)));
+        insert.setString(3, text(random, cumulative, 8 + random.nextInt(13)));
+        insert.setString(4, TaskStatus.values()[i % TaskStatus.values().length].name());
+        insert.setString(5, TaskPriority.values()[i % TaskPriority.values().length].name());
+        insert.setObject(6, LocalDate.of(2026, 1, 1).plusDays(i % 365));
+        insert.setTimestamp(7, Timestamp.valueOf(start.plusSeconds(i)));
+        insert.setLong(8, 0);
+        insert.addBatch();
+        if ((i + 1) % BATCH == 0 || i == rows - 1) {
+          insert.executeBatch();
+          connection.commit();
+        }
+      }
+    }
+    connection.setAutoCommit(true);
+  }
+
+  /** Frequência acumulada de cada posição do vocabulário, proporcional a 1 / posição. */
+  private static double[] zipf() {
+    double[] cumulative = new double[VOCABULARY];
+    double sum = 0;
+    for (int rank = 0; rank < VOCABULARY; rank++) {
+      sum += 1.0 / (rank + 1);
+      cumulative[rank] = sum;
+    }
+    for (int rank = 0; rank < VOCABULARY; rank++) cumulative[rank] /= sum;
+    return cumulative;
+  }
+
+  private static String text(Random random, double[] cumulative, int words) {
+    StringBuilder text = new StringBuilder();
+    for (int i = 0; i < words; i++) {
+      int rank = Arrays.binarySearch(cumulative, random.nextDouble());
+      if (i > 0) text.append(' ');
+      text.append(word(rank < 0 ? -rank - 1 : rank));
+    }
+    return text.toString();
+  }
+
+  private static final String[] SYLLABLES = {
+      "ba", "ce", "di", "fo", "gu", "la", "me", "ni", "po", "ru",
+      "sa", "te", "vi", "zo", "ca", "de", "fi", "lo", "mu", "ta"};
+
+  /** Palavra de seis letras da posição dada; nenhuma é prefixo de outra, então o {@code +pal*} só acha ela. */
+  private static String word(int rank) {
+    int n = rank + SYLLABLES.length * SYLLABLES.length;
+    return SYLLABLES[n / (SYLLABLES.length * SYLLABLES.length) % SYLLABLES.length]
+        + SYLLABLES[n / SYLLABLES.length % SYLLABLES.length]
+        + SYLLABLES[n % SYLLABLES.length];
+  }
+
+  private int drain(PreparedStatement query) throws SQLException {
+    int read = 0;
+    try (ResultSet rs = query.executeQuery()) {
+      while (rs.next()) {
+        rs.getBytes(1);
+        read++;
+      }
+    }
+    return read;
+  }
+
+  private int count() throws SQLException {
+    try (Statement st = connection.createStatement(); ResultSet rs = st.executeQuery("select count(*) from " + TABLE)) {
+      rs.next();
+      return rs.getInt(1);
+    }
+  }
+
+  private long matches() throws SQLException {
+    try (PreparedStatement st = connection.prepareStatement(
+        "select count(*) from " + TABLE + " where match(title, description) against (? in boolean mode)")) {
+      st.setString(1, "+" + word + "*");
+      try (ResultSet rs = st.executeQuery()) {
+        rs.next();
+        return rs.getLong(1);
+      }
+    }
+  }
+
+  private boolean hasFullTextIndex() throws SQLException {
+    try (PreparedStatement st = connection.prepareStatement(
+        "select 1 from information_schema.statistics where table_schema = database() and table_name = ? and index_type = 'FULLTEXT'")) {
+      st.setString(1, TABLE);
+      try (ResultSet rs = st.executeQuery()) {
+        return rs.next();
+      }
+    }
+  }
+
+  private static String env(String name, String fallback) {
+    String value = System.getenv(name);
+    return value == null || value.isBlank() ? fallback : value;
+  }
+}
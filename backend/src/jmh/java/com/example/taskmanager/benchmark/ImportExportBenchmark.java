@@ -0,0 +1,148 @@
+package com.example.taskmanager.benchmark;
+
+import com.example.taskmanager.TaskManagerApplication;
+import com.example.taskmanager.dto.TaskCreateRequest;
+import com.example.taskmanager.dto.TaskImportResponse;
+import com.example.taskmanager.service.TaskExporter;
+import com.example.taskmanager.service.TaskImporter;
+import com.example.taskmanager.service.TaskService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Vazão da importação (linhas/s) em CSV e NDJSON contra o lote via JPA
+ * ({@link TaskService#createAll}), e da exportação direto do cursor. A tabela volta a ter
+ * {@code size} linhas antes de cada iteração. H2 em memória: vale a comparação, não os absolutos.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ImportExportBenchmark {
+
+  private static final int SIZE = 10_000;
+
+  private ConfigurableApplicationContext context;
+  private TaskImporter importer;
+  private TaskExporter exporter;
+  private TaskService service;
+  private JdbcTemplate jdbc;
+
+  private byte[] csv;
+  private byte[] ndjson;
+
+  @Setup
+  public void setUp() throws IOException {
+    context = SpringApplication.run(TaskManagerApplication.class,
+        "--spring.main.web-application-type=none",
+        "--spring.datasource.url=jdbc:h2:mem:import-export;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "--spring.datasource.username=sa",
+        "--spring.datasource.password=",
+        "--spring.flyway.enabled=false",
+        "--spring.jpa.hibernate.ddl-auto=create-drop",
+        "--spring.jpa.show-sql=false",
+        "--app.events.bus=memory",
+        "--app.cache.enabled=false",
+        "--app.archive.enabled=false",
+        "--logging.level.root=WARN");
+    importer = context.getBean(TaskImporter.class);
+    exporter = context.getBean(TaskExporter.class);
+    service = context.getBean(TaskService.class);
+    jdbc = context.getBean(JdbcTemplate.class);
+
+    StringBuilder file = new StringBuilder("title,description,dueDate,priority\n");
+    for (int i = 0; i < SIZE; i++) {
+      TaskCreateRequest row = BenchmarkData.createRequest(i);
+      file.append(row.title()).append(",\"").append(row.description()).append("\",")
+          .append(row.dueDate()).append(',').append(row.priority()).append('\n');
+    }
+    csv = file.toString().getBytes(StandardCharsets.UTF_8);
+    reset();
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    exporter.writeNdjson(out);
+    ndjson = out.toByteArray();
+  }
+
+  @Setup(Level.Iteration)
+  public void reset() throws IOException {
+    jdbc.update("delete from tasks");
+    importer.importCsv(new ByteArrayInputStream(csv));
+  }
+
+  @TearDown
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public TaskImportResponse importCsv() throws IOException {
+    return importer.importCsv(new ByteArrayInputStream(csv));
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public TaskImportResponse importNdjson() throws IOException {
+    return importer.importNdjson(new ByteArrayInputStream(ndjson));
+  }
+
+  /** Referência: o mesmo volume pelo lote JPA, em blocos do tamanho máximo aceito. */
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public int createAllJpa() {
+    int created = 0;
+    List<TaskCreateRequest> batch = new ArrayList<>(TaskService.MAX_BATCH_SIZE);
+    for (int i = 0; i < SIZE; i++) {
+      batch.add(BenchmarkData.createRequest(i));
+      if (batch.size() == TaskService.MAX_BATCH_SIZE) {
+        created += service.createAll(batch).size();
+        batch.clear();
+      }
+    }
+    return created;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public long exportCsv() throws IOException {
+    CountingStream out = new CountingStream();
+    exporter.writeCsv(out);
+    return out.count;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public long exportNdjson() throws IOException {
+    CountingStream out = new CountingStream();
+    exporter.writeNdjson(out);
+    return out.count;
+  }
+
+  /** Descarta a saída, como um cliente rápido do outro lado. */
+  private static final class CountingStream extends OutputStream {
+    long count;
+
+    @Override
+    public void write(int b) {
+      count++;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+      count += len;
+    }
+  }
+}
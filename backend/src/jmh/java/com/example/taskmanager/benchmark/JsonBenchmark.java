@@ -0,0 +1,71 @@
+package com.example.taskmanager.benchmark;
+
+import com.example.taskmanager.dto.TaskCreateRequest;
+import com.example.taskmanager.dto.TaskResponse;
+import com.example.taskmanager.mapper.TaskMapper;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialização das respostas (incluindo LocalDate/LocalDateTime) e leitura + validação
+ * do corpo de criação, com o ObjectMapper configurado como o do Spring Boot.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonBenchmark {
+
+  @Param({"100", "1000"})
+  public int size;
+
+  private ObjectMapper mapper;
+  private ValidatorFactory validatorFactory;
+  private Validator validator;
+  private List<TaskResponse> responses;
+  private byte[] createBody;
+
+  @Setup
+  public void setUp() throws IOException {
+    mapper = Jackson2ObjectMapperBuilder.json()
+        .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+        .build();
+    validatorFactory = Validation.buildDefaultValidatorFactory();
+    validator = validatorFactory.getValidator();
+    responses = BenchmarkData.tasks(size).stream().map(TaskMapper::toResponse).toList();
+    createBody = mapper.writeValueAsBytes(BenchmarkData.createRequest(1));
+  }
+
+  @TearDown
+  public void tearDown() {
+    validatorFactory.close();
+  }
+
+  @Benchmark
+  public byte[] serializeList() throws IOException {
+    return mapper.writeValueAsBytes(responses);
+  }
+
+  @Benchmark
+  public TaskCreateRequest deserializeCreateRequest() throws IOException {
+    return mapper.readValue(createBody, TaskCreateRequest.class);
+  }
+
+  @Benchmark
+  public Set<ConstraintViolation<TaskCreateRequest>> deserializeAndValidateCreateRequest() throws IOException {
+    return validator.validate(mapper.readValue(createBody, TaskCreateRequest.class));
+  }
+}
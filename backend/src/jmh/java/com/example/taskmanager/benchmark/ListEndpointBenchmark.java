@@ -0,0 +1,90 @@
+package com.example.taskmanager.benchmark;
+
+import com.example.taskmanager.TaskManagerApplication;
+import com.example.taskmanager.dto.TaskCreateRequest;
+import com.example.taskmanager.service.TaskService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GET /api/tasks de ponta a ponta (Tomcat, MVC, serviço, JPA, Jackson) contra um H2 em
+ * memória. Usa HTTP de verdade: o MockMvc grava a resposta byte a byte e distorce a medição.
+ * Os números medem o caminho do código e não valem como absolutos para o MySQL.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ListEndpointBenchmark {
+
+  @Param({"1000"})
+  public int size;
+
+  @Param({"true", "false"})
+  public boolean cache;
+
+  private ConfigurableApplicationContext context;
+  private HttpClient client;
+  private HttpRequest list;
+  private HttpRequest page;
+
+  @Setup
+  public void setUp() {
+    context = SpringApplication.run(TaskManagerApplication.class,
+        "--server.port=0",
+        "--spring.datasource.url=jdbc:h2:mem:bench;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "--spring.datasource.username=sa",
+        "--spring.datasource.password=",
+        "--spring.flyway.enabled=false",
+        "--spring.jpa.hibernate.ddl-auto=create-drop",
+        "--spring.jpa.show-sql=false",
+        "--app.events.bus=memory",
+        "--app.cache.enabled=" + cache,
+        "--logging.level.root=WARN");
+
+    TaskService service = context.getBean(TaskService.class);
+    List<TaskCreateRequest> batch = new ArrayList<>();
+    for (int i = 0; i < size; i++) {
+      batch.add(BenchmarkData.createRequest(i));
+      if (batch.size() == TaskService.MAX_BATCH_SIZE) {
+        service.createAll(batch);
+        batch.clear();
+      }
+    }
+    if (!batch.isEmpty()) service.createAll(batch);
+
+    int port = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+    // HTTP/1.1 fixo: o padrão tentaria o upgrade h2c a cada requisição
+    client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    list = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/tasks")).build();
+    page = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/tasks?limit=100")).build();
+  }
+
+  @TearDown
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  public byte[] listAll() throws IOException, InterruptedException {
+    return client.send(list, HttpResponse.BodyHandlers.ofByteArray()).body();
+  }
+
+  @Benchmark
+  public byte[] firstPage() throws IOException, InterruptedException {
+    return client.send(page, HttpResponse.BodyHandlers.ofByteArray()).body();
+  }
+}
@@ -0,0 +1,90 @@
+package com.example.taskmanager.benchmark;
+
+import com.example.taskmanager.TaskManagerApplication;
+import com.example.taskmanager.dto.TaskCardResponse;
+import com.example.taskmanager.dto.TaskCreateRequest;
+import com.example.taskmanager.dto.TaskResponse;
+import com.example.taskmanager.mapper.TaskMapper;
+import com.example.taskmanager.repository.TaskRepository;
+import com.example.taskmanager.service.TaskService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Leitura do quadro inteiro sem cache: entidades gerenciadas + {@link TaskMapper} contra a
+ * projeção direto no DTO e a visão compacta (sem descrição). Rode com {@code -prof gc}
+ * para ver a alocação por operação. H2 em memória: vale a comparação, não os absolutos.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReadPathBenchmark {
+
+  @Param({"10000"})
+  public int size;
+
+  private ConfigurableApplicationContext context;
+  private TaskRepository repository;
+  private TransactionTemplate readOnly;
+
+  @Setup
+  public void setUp() {
+    context = SpringApplication.run(TaskManagerApplication.class,
+        "--spring.main.web-application-type=none",
+        "--spring.datasource.url=jdbc:h2:mem:read-path;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "--spring.datasource.username=sa",
+        "--spring.datasource.password=",
+        "--spring.flyway.enabled=false",
+        "--spring.jpa.hibernate.ddl-auto=create-drop",
+        "--spring.jpa.show-sql=false",
+        "--app.events.bus=memory",
+        "--app.cache.enabled=false",
+        "--logging.level.root=WARN");
+
+    TaskService service = context.getBean(TaskService.class);
+    List<TaskCreateRequest> batch = new ArrayList<>();
+    for (int i = 0; i < size; i++) {
+      batch.add(BenchmarkData.createRequest(i));
+      if (batch.size() == TaskService.MAX_BATCH_SIZE) {
+        service.createAll(batch);
+        batch.clear();
+      }
+    }
+    if (!batch.isEmpty()) service.createAll(batch);
+
+    repository = context.getBean(TaskRepository.class);
+    readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+    readOnly.setReadOnly(true);
+  }
+
+  @TearDown
+  public void tearDown() {
+    context.close();
+  }
+
+  /** Caminho anterior: entidades no contexto de persistência, copiadas uma a uma. */
+  @Benchmark
+  public List<TaskResponse> entities() {
+    return readOnly.execute(status -> repository.findAll().stream().map(TaskMapper::toResponse).toList());
+  }
+
+  @Benchmark
+  public List<TaskResponse> projection() {
+    return repository.findAllResponses();
+  }
+
+  @Benchmark
+  public List<TaskCardResponse> compact() {
+    return repository.findAllCards();
+  }
+}
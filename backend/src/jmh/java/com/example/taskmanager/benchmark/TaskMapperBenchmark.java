@@ -0,0 +1,38 @@
+package com.example.taskmanager.benchmark;
+
+import com.example.taskmanager.dto.TaskResponse;
+import com.example.taskmanager.entity.Task;
+import com.example.taskmanager.mapper.TaskMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskMapperBenchmark {
+
+  private Task task;
+  private List<Task> board;
+
+  @Setup
+  public void setUp() {
+    task = BenchmarkData.task(1);
+    board = BenchmarkData.tasks(1000);
+  }
+
+  @Benchmark
+  public TaskResponse toResponse() {
+    return TaskMapper.toResponse(task);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(1000)
+  public List<TaskResponse> toResponseBoard() {
+    return board.stream().map(TaskMapper::toResponse).toList();
+  }
+}
@@ -0,0 +1,190 @@
+package com.example.taskmanager.benchmark;
+
+import com.example.taskmanager.entity.Task;
+import com.example.taskmanager.entity.UuidV7;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Chave primária da tabela de tarefas: CHAR(36) com UUID aleatório (o esquema da V1) contra
+ * BINARY(16) com UUIDv7 (V2). Mede a inserção em lotes e a leitura por status com a tabela já
+ * em {@code rows} linhas, no mesmo formato de {@code tasks} e com o índice (status, created_at).
+ * <p>
+ * Só roda contra um MySQL de desenvolvimento (BENCH_DATASOURCE_URL, _USERNAME, _PASSWORD) e
+ * fica fora do {@code mvn -Pjmh verify} padrão; chame pelo nome:
+ * {@code mvn -Pjmh verify -Djmh.args="UuidKeyBenchmark -rf json -rff target/jmh-uuid.json"}.
+ * As tabelas {@code bench_tasks_*} são reaproveitadas entre execuções e voltam a ter
+ * exatamente {@code rows} linhas no início de cada benchmark; a inserção medida cresce a partir daí.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class UuidKeyBenchmark {
+
+  private static final int BATCH = 1000;
+  private static final String COLUMNS = "id, title, description, status, priority, due_date, created_at, version";
+  private static final String[] STATUSES = {"TODO", "DOING", "DONE"};
+
+  @Param({"char36-random", "binary16-v7"})
+  public String key;
+
+  @Param("1000000")
+  public int rows;
+
+  private Connection connection;
+  private String table;
+  private boolean binary;
+  private PreparedStatement insert;
+  private PreparedStatement byStatus;
+  private PreparedStatement byStatusPage;
+  private LocalDateTime firstCreatedAt;
+  private long spanSeconds;
+  private int next;
+
+  @Setup
+  public void setUp() throws SQLException {
+    connection = DriverManager.getConnection(
+        env("BENCH_DATASOURCE_URL",
+            "jdbc:mysql://localhost:3306/task_manager_bench?createDatabaseIfNotExist=true&rewriteBatchedStatements=true"),
+        env("BENCH_DATASOURCE_USERNAME", "root"),
+        env("BENCH_DATASOURCE_PASSWORD", "root"));
+    binary = key.startsWith("binary16");
+    table = binary ? "bench_tasks_bin" : "bench_tasks_char";
+    try (Statement ddl = connection.createStatement()) {
+      ddl.execute("create table if not exists " + table + " ("
+          + "id " + (binary ? "BINARY(16)" : "CHAR(36)") + " NOT NULL,"
+          + "title VARCHAR(255) NOT NULL,"
+          + "description TEXT,"
+          + "status ENUM('TODO', 'DOING', 'DONE') NOT NULL,"
+          + "priority ENUM('LOW', 'MEDIUM', 'HIGH') NOT NULL,"
+          + "due_date DATE NOT NULL,"
+          + "created_at DATETIME(6) NOT NULL,"
+          + "version BIGINT NOT NULL,"
+          + "PRIMARY KEY (id),"
+          + "INDEX idx_" + table + "_status_created_at (status, created_at)"
+          + ") ENGINE = InnoDB");
+    }
+    connection.setAutoCommit(false);
+    insert = connection.prepareStatement("insert into " + table + " (" + COLUMNS + ") values (?, ?, ?, ?, ?, ?, ?, ?)");
+    byStatus = connection.prepareStatement("select " + COLUMNS + " from " + table + " where status = ?");
+    byStatusPage = connection.prepareStatement("select " + COLUMNS + " from " + table
+        + " where status = ? and created_at > ? order by created_at, id limit 100");
+
+    firstCreatedAt = BenchmarkData.task(0).getCreatedAt();
+    spanSeconds = Math.max(1, rows);
+    // A linha i é criada em firstCreatedAt + i s: volta às primeiras rows, apagando o que a inserção medida somou
+    try (PreparedStatement trim = connection.prepareStatement("delete from " + table + " where created_at >= ?")) {
+      trim.setTimestamp(1, Timestamp.valueOf(firstCreatedAt.plusSeconds(rows)));
+      trim.executeUpdate();
+    }
+    connection.commit();
+    next = count();
+    while (next < rows) insertBatch();
+    System.out.println(table + ": " + count() + " linhas, " + size());
+  }
+
+  @TearDown
+  public void tearDown() throws SQLException {
+    connection.close();
+  }
+
+  /** Linhas inseridas por segundo, em lotes de {@value #BATCH} com um commit cada. */
+  @Benchmark
+  @BenchmarkMode(Mode.Throughput)
+  @OutputTimeUnit(TimeUnit.SECONDS)
+  @OperationsPerInvocation(BATCH)
+  public int insert() throws SQLException {
+    return insertBatch();
+  }
+
+  /** {@code findByStatus}: um terço da tabela, pelo índice secundário e depois pela chave primária. */
+  @Benchmark
+  @BenchmarkMode(Mode.SampleTime)
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  @Measurement(iterations = 5, time = 10)
+  public int findByStatus() throws SQLException {
+    byStatus.setString(1, STATUSES[ThreadLocalRandom.current().nextInt(STATUSES.length)]);
+    return drain(byStatus);
+  }
+
+  /** Uma página de 100 a partir de um ponto aleatório, como a paginação por chave do quadro. */
+  @Benchmark
+  @BenchmarkMode(Mode.SampleTime)
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  public int findByStatusPage() throws SQLException {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    byStatusPage.setString(1, STATUSES[random.nextInt(STATUSES.length)]);
+    byStatusPage.setTimestamp(2, Timestamp.valueOf(firstCreatedAt.plusSeconds(random.nextLong(spanSeconds))));
+    return drain(byStatusPage);
+  }
+
+  private int insertBatch() throws SQLException {
+    for (int i = 0; i < BATCH; i++) {
+      Task task = BenchmarkData.task(next++);
+      // O UUID aleatório espalha as inserções pelo índice clusterizado; o v7 sempre entra no fim
+      if (binary) {
+        insert.setBytes(1, UuidV7.toBytes(UuidV7.next()));
+      } else {
+        insert.setString(1, UUID.randomUUID().toString());
+      }
+      insert.setString(2, task.getTitle());
+      insert.setString(3, task.getDescription());
+      insert.setString(4, task.getStatus().name());
+      insert.setString(5, task.getPriority().name());
+      insert.setObject(6, task.getDueDate());
+      insert.setTimestamp(7, Timestamp.valueOf(task.getCreatedAt()));
+      insert.setLong(8, task.getVersion());
+      insert.addBatch();
+    }
+    insert.executeBatch();
+    connection.commit();
+    return BATCH;
+  }
+
+  private int drain(PreparedStatement query) throws SQLException {
+    int read = 0;
+    try (ResultSet rs = query.executeQuery()) {
+      while (rs.next()) {
+        rs.getBytes(1);
+        read++;
+      }
+    }
+    connection.commit();
+    return read;
+  }
+
+  private int count() throws SQLException {
+    try (Statement st = connection.createStatement(); ResultSet rs = st.executeQuery("select count(*) from " + table)) {
+      rs.next();
+      return rs.getInt(1);
+    }
+  }
+
+  private String size() throws SQLException {
+    try (PreparedStatement st = connection.prepareStatement(
+        "select data_length, index_length from information_schema.tables where table_schema = database() and table_name = ?")) {
+      st.setString(1, table);
+      try (ResultSet rs = st.executeQuery()) {
+        if (!rs.next()) return "tamanho desconhecido";
+        return "dados " + rs.getLong(1) / (1024 * 1024) + " MB, índices " + rs.getLong(2) / (1024 * 1024) + " MB";
+      }
+    }
+  }
+
+  private static String env(String name, String fallback) {
+    String value = System.getenv(name);
+    return value == null || value.isBlank() ? fallback : value;
+  }
+}
@@ -0,0 +1,131 @@
+package com.example.taskmanager.benchmark;
+
+import com.example.taskmanager.dto.TaskResponse;
+import com.example.taskmanager.mapper.TaskMapper;
+import com.example.taskmanager.mapper.TaskProtoMapper;
+import com.example.taskmanager.proto.TaskList;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Custo de serializar e desserializar a lista do quadro em cada formato negociável
+ * (JSON, CBOR, Smile, Protobuf), com e sem gzip. Os tamanhos de cada corpo saem no
+ * início da execução; o gzip é o mesmo nível padrão usado pelo Tomcat.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WireFormatBenchmark {
+
+  @Param({"1000", "10000"})
+  public int size;
+
+  private ObjectMapper json;
+  private ObjectMapper cbor;
+  private ObjectMapper smile;
+  private List<TaskResponse> responses;
+  private byte[] jsonBody;
+  private byte[] cborBody;
+  private byte[] smileBody;
+  private byte[] protobufBody;
+
+  @Setup
+  public void setUp() throws IOException {
+    json = mapper(null);
+    cbor = mapper(new CBORFactory());
+    smile = mapper(new SmileFactory());
+    responses = BenchmarkData.tasks(size).stream().map(TaskMapper::toResponse).toList();
+    jsonBody = json.writeValueAsBytes(responses);
+    cborBody = cbor.writeValueAsBytes(responses);
+    smileBody = smile.writeValueAsBytes(responses);
+    protobufBody = protobuf().toByteArray();
+    System.out.printf("%n%d tarefas, bytes (sem gzip / com gzip): json %d/%d, cbor %d/%d, smile %d/%d, protobuf %d/%d%n",
+        size, jsonBody.length, gzip(jsonBody).length, cborBody.length, gzip(cborBody).length,
+        smileBody.length, gzip(smileBody).length, protobufBody.length, gzip(protobufBody).length);
+  }
+
+  private static ObjectMapper mapper(JsonFactory factory) {
+    Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json()
+        .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    if (factory != null) builder.factory(factory);
+    return builder.build();
+  }
+
+  private TaskList protobuf() {
+    TaskList.Builder list = TaskList.newBuilder();
+    responses.forEach(t -> list.addTasks(TaskProtoMapper.toProto(t)));
+    return list.build();
+  }
+
+  private static byte[] gzip(byte[] body) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4);
+    try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+      gzip.write(body);
+    }
+    return out.toByteArray();
+  }
+
+  @Benchmark
+  public byte[] writeJson() throws IOException {
+    return json.writeValueAsBytes(responses);
+  }
+
+  @Benchmark
+  public byte[] writeJsonGzip() throws IOException {
+    return gzip(json.writeValueAsBytes(responses));
+  }
+
+  @Benchmark
+  public byte[] writeCbor() throws IOException {
+    return cbor.writeValueAsBytes(responses);
+  }
+
+  @Benchmark
+  public byte[] writeSmile() throws IOException {
+    return smile.writeValueAsBytes(responses);
+  }
+
+  @Benchmark
+  public byte[] writeProtobuf() {
+    return protobuf().toByteArray();
+  }
+
+  @Benchmark
+  public byte[] writeProtobufGzip() throws IOException {
+    return gzip(protobuf().toByteArray());
+  }
+
+  @Benchmark
+  public TaskResponse[] readJson() throws IOException {
+    return json.readValue(jsonBody, TaskResponse[].class);
+  }
+
+  @Benchmark
+  public TaskResponse[] readCbor() throws IOException {
+    return cbor.readValue(cborBody, TaskResponse[].class);
+  }
+
+  @Benchmark
+  public TaskResponse[] readSmile() throws IOException {
+    return smile.readValue(smileBody, TaskResponse[].class);
+  }
+
+  @Benchmark
+  public TaskList readProtobuf() throws IOException {
+    return TaskList.parseFrom(protobufBody);
+  }
+}
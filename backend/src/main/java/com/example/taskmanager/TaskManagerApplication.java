@@ -1,9 +1,16 @@
 package com.example.taskmanager;
 
+import com.example.taskmanager.config.NativeHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@ConfigurationPropertiesScan
+@EnableScheduling
+@ImportRuntimeHints(NativeHints.class)
 public class TaskManagerApplication {
   public static void main(String[] args) {
     SpringApplication.run(TaskManagerApplication.class, args);
@@ -0,0 +1,71 @@
+package com.example.taskmanager.config;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Limite de concorrência AIMD: +1 a cada conclusão rápida com o limite em uso, ×{@code backoff}
+ * a cada conclusão lenta ou recusada pelo banco.
+ */
+final class AdaptiveLimiter {
+
+  private final int minLimit;
+  private final int maxLimit;
+  private final long targetNanos;
+  private final double backoff;
+  private final ReentrantLock lock = new ReentrantLock();
+  private double limit;
+  private int inFlight;
+
+  AdaptiveLimiter(LoadSheddingProperties properties) {
+    this.minLimit = properties.minLimit();
+    this.maxLimit = properties.maxLimit();
+    this.targetNanos = properties.targetLatency().toNanos();
+    this.backoff = properties.backoff();
+    this.limit = Math.max(minLimit, Math.min(maxLimit, properties.initialLimit()));
+  }
+
+  boolean tryAcquire() {
+    lock.lock();
+    try {
+      if (inFlight >= (int) limit) return false;
+      inFlight++;
+      return true;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  void release(long elapsedNanos, boolean dropped) {
+    lock.lock();
+    try {
+      // Só cresce se o limite atual estava sendo usado; ociosidade não prova capacidade
+      boolean saturated = inFlight * 2 >= limit;
+      inFlight--;
+      if (dropped || elapsedNanos > targetNanos) {
+        limit = Math.max(minLimit, limit * backoff);
+      } else if (saturated) {
+        limit = Math.min(maxLimit, limit + 1);
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  int limit() {
+    lock.lock();
+    try {
+      return (int) limit;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  int inFlight() {
+    lock.lock();
+    try {
+      return inFlight;
+    } finally {
+      lock.unlock();
+    }
+  }
+}
@@ -0,0 +1,22 @@
+package com.example.taskmanager.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Arquivamento de tarefas concluídas ({@code app.archive.*}).
+ *
+ * @param enabled   liga o job de arquivamento
+ * @param after     tempo desde a última alteração para uma tarefa concluída ser arquivada
+ * @param batchSize tarefas movidas por transação
+ * @param interval  intervalo entre as execuções
+ */
+@ConfigurationProperties("app.archive")
+public record ArchiveProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue("30d") Duration after,
+    @DefaultValue("500") int batchSize,
+    @DefaultValue("PT10M") Duration interval
+) {}
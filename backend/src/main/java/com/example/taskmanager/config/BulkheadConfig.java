@@ -0,0 +1,32 @@
+package com.example.taskmanager.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Põe o bulkhead na frente do pool do Hikari criado pelo Boot. Com réplicas, os pools ficam
+ * fora do contexto e o {@link ReplicaConfig} põe um em cada; o proxy de roteamento não é
+ * envolvido, senão um limite só somaria primário e réplicas.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.bulkhead.enabled", havingValue = "true", matchIfMissing = true)
+public class BulkheadConfig {
+
+  // static: o post-processor precisa existir antes do DataSource ser criado
+  @Bean
+  static BeanPostProcessor bulkheadDataSourcePostProcessor(ObjectProvider<BulkheadProperties> properties) {
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof HikariDataSource pool) {
+          return new BulkheadDataSource(pool, properties.getObject());
+        }
+        return bean;
+      }
+    };
+  }
+}
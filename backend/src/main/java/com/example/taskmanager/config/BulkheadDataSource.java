@@ -0,0 +1,147 @@
+package com.example.taskmanager.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bulkhead na frente do pool: no máximo {@code maxConcurrent} conexões emprestadas e
+ * {@code maxWaiting} threads na fila. Com threads virtuais o Tomcat deixa de limitar a
+ * concorrência, e sem isso milhares de requisições ficariam presas esperando o Hikari.
+ * A permissão é devolvida no {@code close()} da conexão. Cada pool do Hikari (primário e
+ * cada réplica) tem o seu, do tamanho do próprio pool.
+ */
+public class BulkheadDataSource extends DelegatingDataSource implements MeterBinder {
+
+  private final String pool;
+  private final Semaphore permits;
+  private final int maxWaiting;
+  private final long acquireTimeoutNanos;
+  private final AtomicInteger waiting = new AtomicInteger();
+  private final AtomicLong rejected = new AtomicLong();
+
+  public BulkheadDataSource(DataSource target, BulkheadProperties properties) {
+    this(target, "primary", properties.maxConcurrent(), properties);
+  }
+
+  public BulkheadDataSource(DataSource target, String pool, int maxConcurrent, BulkheadProperties properties) {
+    super(target);
+    this.pool = pool;
+    this.permits = new Semaphore(maxConcurrent, true);
+    this.maxWaiting = properties.maxWaiting();
+    this.acquireTimeoutNanos = properties.acquireTimeout().toNanos();
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    acquire();
+    return borrow(() -> super.getConnection());
+  }
+
+  @Override
+  public Connection getConnection(String username, String password) throws SQLException {
+    acquire();
+    return borrow(() -> super.getConnection(username, password));
+  }
+
+  public int available() {
+    return permits.availablePermits();
+  }
+
+  public int waiting() {
+    return waiting.get();
+  }
+
+  public long rejected() {
+    return rejected.get();
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    Gauge.builder("app.datasource.bulkhead.available", this, BulkheadDataSource::available)
+        .description("Conexões que ainda podem ser emprestadas")
+        .tag("pool", pool).register(registry);
+    Gauge.builder("app.datasource.bulkhead.waiting", this, BulkheadDataSource::waiting)
+        .description("Requisições esperando uma conexão")
+        .tag("pool", pool).register(registry);
+    FunctionCounter.builder("app.datasource.bulkhead.rejected", this, BulkheadDataSource::rejected)
+        .description("Requisições recusadas com 503 por falta de conexão")
+        .tag("pool", pool).register(registry);
+  }
+
+  private void acquire() throws SQLException {
+    if (permits.tryAcquire()) return;
+
+    if (waiting.incrementAndGet() > maxWaiting) {
+      waiting.decrementAndGet();
+      rejected.incrementAndGet();
+      throw new Rejected("Fila de espera por conexão cheia");
+    }
+    try {
+      if (!permits.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS)) {
+        rejected.incrementAndGet();
+        throw new Rejected("Tempo esgotado aguardando conexão");
+      }
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new SQLTransientConnectionException("Interrompido aguardando conexão", ex);
+    } finally {
+      waiting.decrementAndGet();
+    }
+  }
+
+  private Connection borrow(ConnectionSupplier supplier) throws SQLException {
+    Connection connection;
+    try {
+      connection = supplier.get();
+    } catch (SQLException | RuntimeException ex) {
+      permits.release();
+      throw ex;
+    }
+    AtomicBoolean released = new AtomicBoolean();
+    return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+        (proxy, method, args) -> {
+          if (method.getName().equals("close")) {
+            if (released.compareAndSet(false, true)) {
+              try {
+                connection.close();
+              } finally {
+                permits.release();
+              }
+            }
+            return null;
+          }
+          try {
+            return method.invoke(connection, args);
+          } catch (InvocationTargetException ex) {
+            throw ex.getCause();
+          }
+        });
+  }
+
+  /** Recusa do bulkhead: o pool está saturado, não fora do ar. */
+  public static final class Rejected extends SQLTransientConnectionException {
+    Rejected(String message) {
+      super(message);
+    }
+  }
+
+  @FunctionalInterface
+  private interface ConnectionSupplier {
+    Connection get() throws SQLException;
+  }
+}
@@ -0,0 +1,21 @@
+package com.example.taskmanager.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Limite de acesso ao pool de conexões ({@code app.datasource.bulkhead.*}).
+ *
+ * @param maxConcurrent  conexões em uso ao mesmo tempo; normalmente igual ao tamanho do pool
+ * @param maxWaiting     requisições aguardando conexão; acima disso a resposta é 503 imediato
+ * @param acquireTimeout espera máxima por uma conexão antes de responder 503
+ */
+@ConfigurationProperties("app.datasource.bulkhead")
+public record BulkheadProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue("20") int maxConcurrent,
+    @DefaultValue("200") int maxWaiting,
+    @DefaultValue("2s") Duration acquireTimeout
+) {}
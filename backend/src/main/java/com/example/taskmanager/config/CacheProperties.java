@@ -0,0 +1,21 @@
+package com.example.taskmanager.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Cache de leitura de tarefas ({@code app.cache.*}).
+ *
+ * @param maxTasks       quantidade máxima de tarefas individuais em cache
+ * @param maxListEntries soma máxima de tarefas guardadas nas listas por status
+ * @param ttl            validade máxima de uma entrada, como rede de segurança
+ */
+@ConfigurationProperties("app.cache")
+public record CacheProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue("10000") long maxTasks,
+    @DefaultValue("200000") long maxListEntries,
+    @DefaultValue("10m") Duration ttl
+) {}
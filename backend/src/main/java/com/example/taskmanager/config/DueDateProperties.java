@@ -0,0 +1,23 @@
+package com.example.taskmanager.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.time.ZoneId;
+
+/**
+ * Agendador de datas limite ({@code app.due.*}).
+ *
+ * @param enabled      liga os eventos de lembrete e de atraso
+ * @param tick         resolução da roda de tempo e intervalo do job
+ * @param remindBefore antecedência do lembrete em relação ao fim do dia da data limite; zero desliga
+ * @param zone         fuso em que o dia da data limite termina; vazio usa o do sistema
+ */
+@ConfigurationProperties("app.due")
+public record DueDateProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue("PT1M") Duration tick,
+    @DefaultValue("1d") Duration remindBefore,
+    ZoneId zone
+) {}
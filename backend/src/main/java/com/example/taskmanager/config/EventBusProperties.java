@@ -0,0 +1,32 @@
+package com.example.taskmanager.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Canal de mudanças entre réplicas ({@code app.events.*}).
+ *
+ * @param bus          implementação: {@code outbox} (tabela no MySQL) ou {@code memory} (processo único/testes)
+ * @param nodeId       identificador desta réplica; gerado quando não informado
+ * @param pollInterval intervalo de leitura do outbox, que limita o atraso entre réplicas
+ * @param pollBatch    máximo de eventos lidos por ciclo
+ * @param retention    tempo que um evento fica no outbox antes de ser apagado
+ */
+@ConfigurationProperties("app.events")
+public record EventBusProperties(
+    @DefaultValue("outbox") String bus,
+    String nodeId,
+    @DefaultValue("1s") Duration pollInterval,
+    @DefaultValue("500") int pollBatch,
+    @DefaultValue("1h") Duration retention
+) {
+
+  public EventBusProperties {
+    if (nodeId == null || nodeId.isBlank()) {
+      nodeId = UUID.randomUUID().toString().substring(0, 8);
+    }
+  }
+}
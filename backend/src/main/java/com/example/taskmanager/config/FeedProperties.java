@@ -0,0 +1,24 @@
+package com.example.taskmanager.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Feed de mudanças via Server-Sent Events ({@code app.feed.*}).
+ *
+ * @param replaySize  quantos eventos recentes ficam guardados para retomada via Last-Event-ID
+ * @param clientQueue eventos pendentes por cliente antes de ele ser desconectado por lentidão
+ * @param timeout     duração máxima de uma conexão (o navegador reconecta sozinho)
+ * @param heartbeat   intervalo dos comentários que mantêm a conexão aberta em proxies
+ * @param senders     threads que enviam aos clientes quando as threads virtuais estão desligadas
+ */
+@ConfigurationProperties("app.feed")
+public record FeedProperties(
+    @DefaultValue("1000") int replaySize,
+    @DefaultValue("256") int clientQueue,
+    @DefaultValue("30m") Duration timeout,
+    @DefaultValue("15s") Duration heartbeat,
+    @DefaultValue("8") int senders
+) {}
@@ -0,0 +1,78 @@
+package com.example.taskmanager.config;
+
+import com.example.taskmanager.exception.OverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+/**
+ * Aplica o {@link AdaptiveLimiter} às escritas (ver {@link LoadSheddingProperties}): numa
+ * rajada de escritas com o banco lento, as excedentes recebem 503 com {@code Retry-After}
+ * em vez de ocupar conexões, e os GETs do quadro continuam encontrando o pool livre.
+ */
+public class LoadSheddingInterceptor implements HandlerInterceptor {
+
+  private static final String STARTED_AT = LoadSheddingInterceptor.class.getName() + ".startedAt";
+
+  private final Set<String> methods;
+  private final AdaptiveLimiter limiter;
+  private final LongSupplier clock;
+  private final Counter shed;
+
+  public LoadSheddingInterceptor(LoadSheddingProperties properties, MeterRegistry registry) {
+    this(properties, registry, System::nanoTime);
+  }
+
+  LoadSheddingInterceptor(LoadSheddingProperties properties, MeterRegistry registry, LongSupplier clock) {
+    this.methods = properties.methods().stream()
+        .map(m -> m.trim().toUpperCase(Locale.ROOT))
+        .collect(Collectors.toUnmodifiableSet());
+    this.limiter = new AdaptiveLimiter(properties);
+    this.clock = clock;
+    this.shed = Counter.builder("app.http.rejected")
+        .description("Requisições recusadas antes de chegar ao controller")
+        .tag("reason", "load-shedding")
+        .register(registry);
+    Gauge.builder("app.load-shedding.limit", limiter, AdaptiveLimiter::limit)
+        .description("Escritas simultâneas permitidas no momento")
+        .register(registry);
+    Gauge.builder("app.load-shedding.in-flight", limiter, AdaptiveLimiter::inFlight)
+        .description("Escritas em andamento")
+        .register(registry);
+  }
+
+  @Override
+  public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+    if (request.getDispatcherType() != DispatcherType.REQUEST || !methods.contains(request.getMethod())) return true;
+    if (!limiter.tryAcquire()) {
+      shed.increment();
+      throw new OverloadedException("Muitas escritas simultâneas, tente novamente");
+    }
+    request.setAttribute(STARTED_AT, clock.getAsLong());
+    return true;
+  }
+
+  @Override
+  public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                              Exception ex) {
+    if (!(request.getAttribute(STARTED_AT) instanceof Long startedAt)) return;
+    request.removeAttribute(STARTED_AT);
+    // 503 aqui é falta de conexão (bulkhead/Hikari): o banco já está saturado
+    boolean dropped = response.getStatus() == HttpStatus.SERVICE_UNAVAILABLE.value();
+    limiter.release(clock.getAsLong() - startedAt, dropped);
+  }
+
+  int limit() {
+    return limiter.limit();
+  }
+}
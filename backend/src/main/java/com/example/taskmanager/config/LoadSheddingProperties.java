@@ -0,0 +1,31 @@
+package com.example.taskmanager.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Limite adaptativo de escritas simultâneas ({@code app.load-shedding.*}). O limite sobe
+ * um a um enquanto as escritas terminam abaixo de {@code targetLatency} e cai
+ * multiplicativamente quando passam dela ou quando falta conexão; acima dele a escrita é
+ * recusada com 503, deixando o pool para as leituras do quadro.
+ *
+ * @param methods       métodos HTTP sujeitos ao limite
+ * @param initialLimit  limite ao subir a aplicação
+ * @param minLimit      piso: sempre passam pelo menos estas escritas simultâneas
+ * @param maxLimit      teto; normalmente abaixo do tamanho do pool de conexões
+ * @param targetLatency tempo de uma escrita acima do qual o banco é considerado sob pressão
+ * @param backoff       fator aplicado ao limite a cada escrita lenta ou recusada
+ */
+@ConfigurationProperties("app.load-shedding")
+public record LoadSheddingProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue({"POST", "PUT", "PATCH", "DELETE"}) List<String> methods,
+    @DefaultValue("10") int initialLimit,
+    @DefaultValue("2") int minLimit,
+    @DefaultValue("15") int maxLimit,
+    @DefaultValue("250ms") Duration targetLatency,
+    @DefaultValue("0.9") double backoff
+) {}
@@ -0,0 +1,38 @@
+package com.example.taskmanager.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Métricas além das automáticas do Actuator (requisições HTTP, chamadas aos repositórios,
+ * pool do Hikari e estatísticas do Hibernate): comandos SQL por requisição e a fila do
+ * bulkhead na frente do pool.
+ */
+@Configuration
+public class MetricsConfig {
+
+  // Declarado aqui, e não como @Component, para não ser puxado pelos testes @WebMvcTest
+  @Bean
+  StatementMetrics statementMetrics(MeterRegistry registry, MetricsProperties properties) {
+    return new StatementMetrics(registry, properties);
+  }
+
+  @Bean
+  HibernatePropertiesCustomizer statementMetricsCustomizer(StatementMetrics statementMetrics) {
+    return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, statementMetrics);
+  }
+
+  // Com réplicas o DataSource é o proxy de roteamento: os bulkheads de cada pool são registrados no ReplicaConfig
+  @Bean
+  MeterBinder bulkheadMetrics(DataSource dataSource) {
+    return registry -> {
+      if (dataSource instanceof BulkheadDataSource bulkhead) bulkhead.bindTo(registry);
+    };
+  }
+}
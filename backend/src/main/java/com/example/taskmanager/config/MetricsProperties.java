@@ -0,0 +1,15 @@
+package com.example.taskmanager.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Métricas da aplicação ({@code app.metrics.*}).
+ *
+ * @param statementWarnThreshold comandos SQL numa única requisição acima dos quais ela é logada
+ *                               como suspeita de N+1
+ */
+@ConfigurationProperties("app.metrics")
+public record MetricsProperties(
+    @DefaultValue("20") int statementWarnThreshold
+) {}
@@ -0,0 +1,63 @@
+package com.example.taskmanager.config;
+
+import com.example.taskmanager.dto.CacheStatsResponse;
+import com.example.taskmanager.dto.EventBusStatsResponse;
+import com.example.taskmanager.dto.TaskBatchDeleteRequest;
+import com.example.taskmanager.dto.TaskBatchItemResult;
+import com.example.taskmanager.dto.TaskBatchStatusUpdateRequest;
+import com.example.taskmanager.dto.TaskCardResponse;
+import com.example.taskmanager.dto.TaskChangeMessage;
+import com.example.taskmanager.dto.TaskCreateRequest;
+import com.example.taskmanager.dto.TaskImportResponse;
+import com.example.taskmanager.dto.TaskImportRow;
+import com.example.taskmanager.dto.TaskResponse;
+import com.example.taskmanager.dto.TaskStatusUpdateRequest;
+import com.example.taskmanager.dto.TaskSummaryResponse;
+import com.example.taskmanager.dto.TaskUpdateRequest;
+import com.example.taskmanager.entity.Task;
+import com.example.taskmanager.entity.UuidV7Generator;
+import com.example.taskmanager.event.TaskChangedEvent;
+import com.example.taskmanager.exception.ApiError;
+import com.example.taskmanager.proto.TaskCreate;
+import com.example.taskmanager.proto.TaskList;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+import java.util.List;
+
+/**
+ * Reflexão que o Spring AOT não deduz sozinho para a imagem nativa. Ele cobre corpos e
+ * retornos dos controllers; aqui ficam os tipos que o Jackson vê por outros caminhos
+ * (exportação, outbox, SSE, importação, o {@link ApiError} dos handlers de
+ * {@code GlobalExceptionHandler}), os DTOs montados pelo Hibernate em {@code select new},
+ * a entidade com seu gerador de id e as mensagens Protobuf.
+ */
+public class NativeHints implements RuntimeHintsRegistrar {
+
+  static final List<Class<?>> JSON_TYPES = List.of(
+      TaskResponse.class, TaskCardResponse.class, TaskSummaryResponse.class, TaskChangeMessage.class,
+      TaskCreateRequest.class, TaskUpdateRequest.class, TaskStatusUpdateRequest.class,
+      TaskBatchStatusUpdateRequest.class, TaskBatchDeleteRequest.class, TaskBatchItemResult.class,
+      TaskImportRow.class, TaskImportResponse.class, CacheStatsResponse.class, EventBusStatsResponse.class,
+      TaskChangedEvent.class, ApiError.class);
+
+  @Override
+  public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+    new BindingReflectionHintsRegistrar().registerReflectionHints(hints.reflection(),
+        JSON_TYPES.toArray(Class<?>[]::new));
+    // Construtores das consultas com "select new"
+    hints.reflection()
+        .registerType(TaskResponse.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS)
+        .registerType(TaskCardResponse.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS)
+        .registerType(Task.class, MemberCategory.DECLARED_FIELDS, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+            MemberCategory.INVOKE_DECLARED_METHODS)
+        .registerType(UuidV7Generator.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+    // equals/hashCode/toString das mensagens geradas passam pelos acessores via reflexão
+    for (Class<?> message : List.of(TaskList.class, TaskList.Builder.class, com.example.taskmanager.proto.Task.class,
+        com.example.taskmanager.proto.Task.Builder.class, TaskCreate.class, TaskCreate.Builder.class)) {
+      hints.reflection().registerType(message, MemberCategory.INVOKE_PUBLIC_METHODS);
+    }
+  }
+}
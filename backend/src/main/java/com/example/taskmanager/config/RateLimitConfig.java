@@ -0,0 +1,23 @@
+package com.example.taskmanager.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/** Proteções de entrada registradas pelo {@link WebConfig}, se ligadas. */
+@Configuration
+public class RateLimitConfig {
+
+  @Bean
+  @ConditionalOnProperty(name = "app.rate-limit.enabled", havingValue = "true", matchIfMissing = true)
+  RateLimitInterceptor rateLimitInterceptor(RateLimitProperties properties, MeterRegistry registry) {
+    return new RateLimitInterceptor(properties, registry);
+  }
+
+  @Bean
+  @ConditionalOnProperty(name = "app.load-shedding.enabled", havingValue = "true", matchIfMissing = true)
+  LoadSheddingInterceptor loadSheddingInterceptor(LoadSheddingProperties properties, MeterRegistry registry) {
+    return new LoadSheddingInterceptor(properties, registry);
+  }
+}
@@ -0,0 +1,96 @@
+package com.example.taskmanager.config;
+
+import com.example.taskmanager.exception.TooManyRequestsException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+/**
+ * Recusa com 429 e {@code Retry-After} as requisições de um cliente que esgotou o bucket
+ * da rota (ver {@link RateLimitProperties}). Roda antes de qualquer acesso ao banco.
+ */
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+  private final List<Rule> rules;
+  private final String keyHeader;
+  private final Cache<String, TokenBucket> buckets;
+  private final LongSupplier clock;
+  private final Counter rejected;
+
+  public RateLimitInterceptor(RateLimitProperties properties, MeterRegistry registry) {
+    this(properties, registry, System::nanoTime);
+  }
+
+  RateLimitInterceptor(RateLimitProperties properties, MeterRegistry registry, LongSupplier clock) {
+    this.rules = properties.routes().stream().map(Rule::of).toList();
+    this.keyHeader = properties.keyHeader();
+    this.buckets = Caffeine.newBuilder()
+        .maximumSize(properties.maxClients())
+        .expireAfterAccess(properties.idleExpiry())
+        .build();
+    this.clock = clock;
+    this.rejected = Counter.builder("app.http.rejected")
+        .description("Requisições recusadas antes de chegar ao controller")
+        .tag("reason", "rate-limit")
+        .register(registry);
+  }
+
+  @Override
+  public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+    if (request.getDispatcherType() != DispatcherType.REQUEST) return true;
+    PathContainer path = PathContainer.parsePath(request.getRequestURI().substring(request.getContextPath().length()));
+    for (int i = 0; i < rules.size(); i++) {
+      Rule rule = rules.get(i);
+      if (!rule.matches(request.getMethod(), path)) continue;
+      long now = clock.getAsLong();
+      TokenBucket bucket = buckets.get(i + ":" + client(request), key -> rule.newBucket(now));
+      long waitNanos = bucket.tryConsume(now);
+      if (waitNanos > 0) {
+        rejected.increment();
+        long seconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999));
+        throw new TooManyRequestsException("Limite de requisições excedido, tente novamente em " + seconds + "s",
+            seconds);
+      }
+      return true;
+    }
+    return true;
+  }
+
+  private String client(HttpServletRequest request) {
+    String key = request.getHeader(keyHeader);
+    return key != null && !key.isBlank() ? "key:" + key : "ip:" + request.getRemoteAddr();
+  }
+
+  private record Rule(Set<String> methods, PathPattern pattern, RateLimitProperties.Route route) {
+
+    static Rule of(RateLimitProperties.Route route) {
+      Set<String> methods = route.methods().stream()
+          .map(m -> m.trim().toUpperCase(Locale.ROOT))
+          .collect(Collectors.toUnmodifiableSet());
+      return new Rule(methods, PathPatternParser.defaultInstance.parse(route.pattern()), route);
+    }
+
+    boolean matches(String method, PathContainer path) {
+      return (methods.isEmpty() || methods.contains(method)) && pattern.matches(path);
+    }
+
+    TokenBucket newBucket(long now) {
+      return new TokenBucket(route.capacity(), route.refillPerSecond(), now);
+    }
+  }
+}
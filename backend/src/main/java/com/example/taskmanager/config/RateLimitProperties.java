@@ -0,0 +1,38 @@
+package com.example.taskmanager.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Limite de taxa por cliente ({@code app.rate-limit.*}): um token bucket por rota e cliente.
+ * O cliente é o valor do header {@code keyHeader} (chave de API) ou, sem ele, o IP de origem.
+ *
+ * @param maxClients buckets mantidos em memória; os menos usados saem primeiro
+ * @param idleExpiry tempo sem requisições após o qual o bucket de um cliente é descartado
+ * @param routes     regras avaliadas em ordem; vale a primeira que casar com método e caminho
+ */
+@ConfigurationProperties("app.rate-limit")
+public record RateLimitProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue("X-Api-Key") String keyHeader,
+    @DefaultValue("100000") long maxClients,
+    @DefaultValue("10m") Duration idleExpiry,
+    @DefaultValue List<Route> routes
+) {
+
+  /**
+   * @param methods         métodos HTTP cobertos; vazio = todos
+   * @param pattern         caminho no formato do Spring MVC ({@code /api/tasks/**})
+   * @param capacity        rajada máxima (tokens no bucket cheio)
+   * @param refillPerSecond tokens repostos por segundo (a taxa sustentada)
+   */
+  public record Route(
+      @DefaultValue List<String> methods,
+      String pattern,
+      int capacity,
+      double refillPerSecond
+  ) {}
+}
@@ -0,0 +1,37 @@
+package com.example.taskmanager.config;
+
+import java.util.function.Supplier;
+
+/**
+ * Marca a thread atual para ler do primário mesmo em transações read-only. Usado pelo
+ * {@link ReplicaStickinessInterceptor} e por quem não pode ler dado atrasado da réplica.
+ * Sem réplicas configuradas não tem efeito.
+ */
+public final class ReadRouting {
+
+  private static final ThreadLocal<Boolean> PRIMARY = new ThreadLocal<>();
+
+  private ReadRouting() {}
+
+  public static boolean primaryRequired() {
+    return PRIMARY.get() != null;
+  }
+
+  public static void requirePrimary() {
+    PRIMARY.set(Boolean.TRUE);
+  }
+
+  public static void clear() {
+    PRIMARY.remove();
+  }
+
+  public static <T> T onPrimary(Supplier<T> action) {
+    if (primaryRequired()) return action.get();
+    requirePrimary();
+    try {
+      return action.get();
+    } finally {
+      clear();
+    }
+  }
+}
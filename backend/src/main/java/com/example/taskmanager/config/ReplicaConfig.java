@@ -0,0 +1,78 @@
+package com.example.taskmanager.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Com {@code app.datasource.replicas.enabled}, troca o DataSource do Boot pelo roteamento
+ * primário/réplicas. O pool do primário continua configurado por {@code spring.datasource.*};
+ * os pools ficam fora do contexto para o Boot ver um DataSource só. Cada pool recebe o seu
+ * bulkhead, com o próprio tamanho: o do primário não limita as leituras nas réplicas.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.replicas.enabled", havingValue = "true")
+public class ReplicaConfig {
+
+  @Bean(destroyMethod = "close")
+  ReplicaRouter replicaRouter(DataSourceProperties dataSource, ReplicaProperties properties, Environment environment,
+                              BulkheadProperties bulkhead, MeterRegistry registry) {
+    HikariDataSource primary = dataSource.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+    if (primary.getPoolName() == null) primary.setPoolName("primary");
+    // Fora do contexto o Boot não registra as métricas hikaricp_* dos pools
+    primary.setMetricRegistry(registry);
+
+    List<DataSource> replicas = new ArrayList<>();
+    long timeout = properties.timeout().toMillis();
+    for (ReplicaProperties.Node node : properties.nodes()) {
+      HikariDataSource replica = DataSourceBuilder.create()
+          .type(HikariDataSource.class)
+          .url(node.url())
+          .username(node.username() != null ? node.username() : dataSource.determineUsername())
+          .password(node.password() != null ? node.password() : dataSource.determinePassword())
+          .build();
+      replica.setPoolName("replica-" + (replicas.size() + 1));
+      replica.setMaximumPoolSize(properties.maxPoolSize());
+      replica.setConnectionTimeout(timeout);
+      replica.setValidationTimeout(timeout);
+      replica.setReadOnly(true);
+      // Réplica fora no boot não impede a subida; a verificação de saúde a deixa de fora
+      replica.setInitializationFailTimeout(-1);
+      replica.setMetricRegistry(registry);
+      replicas.add(bulkhead(replica, properties.maxPoolSize(), bulkhead, registry));
+    }
+    return new ReplicaRouter(bulkhead(primary, bulkhead.maxConcurrent(), bulkhead, registry), replicas, properties,
+        registry);
+  }
+
+  private static DataSource bulkhead(HikariDataSource pool, int maxConcurrent, BulkheadProperties properties,
+                                     MeterRegistry registry) {
+    if (!properties.enabled()) return pool;
+    BulkheadDataSource bulkhead = new BulkheadDataSource(pool, pool.getPoolName(), maxConcurrent, properties);
+    bulkhead.bindTo(registry);
+    return bulkhead;
+  }
+
+  @Bean
+  DataSource dataSource(ReplicaRouter router) {
+    return new LazyConnectionDataSourceProxy(router.dataSource());
+  }
+
+  @Bean
+  ReplicaStickinessInterceptor replicaStickinessInterceptor(ReplicaProperties properties, MeterRegistry registry) {
+    return new ReplicaStickinessInterceptor(properties, registry);
+  }
+}
@@ -0,0 +1,34 @@
+package com.example.taskmanager.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Réplicas de leitura ({@code app.datasource.replicas.*}).
+ *
+ * @param nodes               réplicas; usuário e senha vazios herdam os de {@code spring.datasource}
+ * @param maxPoolSize         conexões por réplica
+ * @param timeout             espera máxima por conexão (e pela validação) de uma réplica
+ * @param healthCheckInterval intervalo entre verificações; réplica fora volta quando responder
+ * @param stickyWindow        depois de uma escrita, por quanto tempo o cliente lê do primário;
+ *                            deve passar do atraso normal de replicação
+ * @param clientHeader        header que identifica o cliente; sem ele vale o IP
+ * @param maxStickyClients    clientes lembrados ao mesmo tempo
+ */
+@ConfigurationProperties("app.datasource.replicas")
+public record ReplicaProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue List<Node> nodes,
+    @DefaultValue("10") int maxPoolSize,
+    @DefaultValue("1s") Duration timeout,
+    @DefaultValue("PT5S") Duration healthCheckInterval,
+    @DefaultValue("2s") Duration stickyWindow,
+    @DefaultValue("X-Api-Key") String clientHeader,
+    @DefaultValue("100000") int maxStickyClients
+) {
+
+  public record Node(String url, String username, String password) {}
+}
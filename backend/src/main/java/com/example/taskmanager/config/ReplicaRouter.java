@@ -0,0 +1,168 @@
+package com.example.taskmanager.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Escolhe o banco de cada conexão: transações read-only vão para as réplicas em rodízio,
+ * todo o resto para o primário. Réplica que falha ao entregar conexão ou na verificação
+ * periódica sai do rodízio até responder de novo; bulkhead cheio não conta como falha.
+ * Sem réplica disponível, a leitura vai para o primário. Fica atrás de um {@code LazyConnectionDataSourceProxy}, para a conexão
+ * só ser pedida quando a transação já sabe se é read-only.
+ */
+public class ReplicaRouter implements AutoCloseable {
+
+  private static final Logger log = LoggerFactory.getLogger(ReplicaRouter.class);
+
+  private final DataSource primary;
+  private final List<Replica> replicas = new ArrayList<>();
+  private final int validationTimeoutSeconds;
+  private final AtomicInteger next = new AtomicInteger();
+  private final Counter primaryReads;
+  private final Counter fallbacks;
+
+  public ReplicaRouter(DataSource primary, List<DataSource> replicas, ReplicaProperties properties,
+                       MeterRegistry registry) {
+    this.primary = primary;
+    this.validationTimeoutSeconds = (int) Math.max(1, properties.timeout().toSeconds());
+    for (int i = 0; i < replicas.size(); i++) {
+      Replica replica = new Replica("replica-" + (i + 1), replicas.get(i), registry);
+      Gauge.builder("app.datasource.replica.up", replica, r -> r.up ? 1 : 0)
+          .description("1 se a réplica está no rodízio de leitura")
+          .tag("replica", replica.name).register(registry);
+      this.replicas.add(replica);
+    }
+    this.primaryReads = Counter.builder("app.datasource.reads")
+        .description("Conexões de transações read-only, por destino")
+        .tag("target", "primary").register(registry);
+    this.fallbacks = Counter.builder("app.datasource.replica.fallbacks")
+        .description("Leituras enviadas ao primário por falta de réplica disponível").register(registry);
+    checkHealth();
+  }
+
+  public DataSource dataSource() {
+    return new RoutingDataSource(this);
+  }
+
+  Connection getConnection() throws SQLException {
+    if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly() || replicas.isEmpty()) {
+      return primary.getConnection();
+    }
+    if (!ReadRouting.primaryRequired()) {
+      int start = Math.floorMod(next.getAndIncrement(), replicas.size());
+      for (int i = 0; i < replicas.size(); i++) {
+        Replica replica = replicas.get((start + i) % replicas.size());
+        if (!replica.up) continue;
+        try {
+          Connection connection = replica.dataSource.getConnection();
+          replica.reads.increment();
+          return connection;
+        } catch (BulkheadDataSource.Rejected ex) {
+          // Réplica saturada, não fora do ar: continua no rodízio e a leitura tenta a próxima
+        } catch (SQLException ex) {
+          markDown(replica, ex);
+        }
+      }
+      fallbacks.increment();
+    }
+    primaryReads.increment();
+    return primary.getConnection();
+  }
+
+  /** Valida cada réplica e devolve ao rodízio as que voltaram. */
+  @Scheduled(fixedDelayString = "${app.datasource.replicas.health-check-interval:PT5S}")
+  public void checkHealth() {
+    for (Replica replica : replicas) {
+      try (Connection connection = replica.dataSource.getConnection()) {
+        if (!connection.isValid(validationTimeoutSeconds)) {
+          markDown(replica, null);
+          continue;
+        }
+        if (!replica.up) {
+          replica.up = true;
+          log.info("Réplica {} de volta ao rodízio de leitura", replica.name);
+        }
+      } catch (BulkheadDataSource.Rejected ex) {
+        // Todas as conexões emprestadas a leituras: a réplica está ocupada, não fora do ar
+        log.debug("Verificação da réplica {} adiada: bulkhead cheio", replica.name);
+      } catch (SQLException ex) {
+        markDown(replica, ex);
+      }
+    }
+  }
+
+  public boolean isUp(int index) {
+    return replicas.get(index).up;
+  }
+
+  private static void markDown(Replica replica, SQLException cause) {
+    if (!replica.up) return;
+    replica.up = false;
+    log.warn("Réplica {} fora do rodízio de leitura: {}", replica.name,
+        cause != null ? cause.getMessage() : "conexão inválida");
+  }
+
+  @Override
+  public void close() throws Exception {
+    for (Replica replica : replicas) {
+      close(replica.dataSource);
+    }
+    close(primary);
+  }
+
+  private static void close(DataSource dataSource) throws Exception {
+    // O bulkhead não é dono do pool: quem fecha é o roteador
+    DataSource pool = dataSource instanceof DelegatingDataSource delegating ? delegating.getTargetDataSource() : dataSource;
+    if (pool instanceof AutoCloseable closeable) closeable.close();
+  }
+
+  private static final class Replica {
+    final String name;
+    final DataSource dataSource;
+    final Counter reads;
+    // A primeira verificação roda no construtor, antes de qualquer leitura
+    volatile boolean up = true;
+
+    Replica(String name, DataSource dataSource, MeterRegistry registry) {
+      this.name = name;
+      this.dataSource = dataSource;
+      this.reads = Counter.builder("app.datasource.reads")
+          .description("Conexões de transações read-only, por destino")
+          .tag("target", name).register(registry);
+    }
+  }
+
+  /** O {@link DataSource} que a aplicação enxerga: cada conexão passa pelo roteador. */
+  static final class RoutingDataSource extends AbstractDataSource {
+
+    private final ReplicaRouter router;
+
+    RoutingDataSource(ReplicaRouter router) {
+      this.router = router;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+      return router.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+      return router.primary.getConnection(username, password);
+    }
+  }
+}
@@ -0,0 +1,71 @@
+package com.example.taskmanager.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.util.Set;
+
+/**
+ * Leitura das próprias escritas: depois de uma escrita o cliente lê do primário por
+ * {@code app.datasource.replicas.sticky-window}, para um cartão arrastado não voltar de
+ * coluna por causa do atraso da réplica. As escritas em si também leem do primário.
+ * A memória é por instância: com várias réplicas da aplicação, vale enquanto o balanceador
+ * mandar o cliente para a mesma.
+ */
+public class ReplicaStickinessInterceptor implements AsyncHandlerInterceptor {
+
+  private static final Set<String> SAFE_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+
+  private final String clientHeader;
+  private final Cache<String, Boolean> recentWriters;
+  private final Counter stickyReads;
+
+  public ReplicaStickinessInterceptor(ReplicaProperties properties, MeterRegistry registry) {
+    this.clientHeader = properties.clientHeader();
+    this.recentWriters = Caffeine.newBuilder()
+        .expireAfterWrite(properties.stickyWindow())
+        .maximumSize(properties.maxStickyClients())
+        .build();
+    this.stickyReads = Counter.builder("app.datasource.sticky.reads")
+        .description("Requisições de leitura enviadas ao primário por escrita recente do cliente")
+        .register(registry);
+  }
+
+  @Override
+  public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+    if (writes(request)) {
+      recentWriters.put(client(request), Boolean.TRUE);
+      ReadRouting.requirePrimary();
+    } else if (recentWriters.getIfPresent(client(request)) != null) {
+      stickyReads.increment();
+      ReadRouting.requirePrimary();
+    }
+    return true;
+  }
+
+  @Override
+  public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+    ReadRouting.clear();
+  }
+
+  @Override
+  public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+    // A janela conta a partir do fim da escrita, não do início
+    if (writes(request)) recentWriters.put(client(request), Boolean.TRUE);
+    ReadRouting.clear();
+  }
+
+  private static boolean writes(HttpServletRequest request) {
+    return !SAFE_METHODS.contains(request.getMethod());
+  }
+
+  private String client(HttpServletRequest request) {
+    String key = request.getHeader(clientHeader);
+    return key != null && !key.isBlank() ? "key:" + key : "ip:" + request.getRemoteAddr();
+  }
+}
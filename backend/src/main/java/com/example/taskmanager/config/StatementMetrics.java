@@ -0,0 +1,74 @@
+package com.example.taskmanager.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Quantos comandos SQL o Hibernate prepara em cada requisição, por endpoint
+ * ({@code hibernate.statements.per.request}). Um aumento no máximo ou na média de um
+ * endpoint é o sinal de um N+1 novo; acima de {@code app.metrics.statement-warn-threshold}
+ * a requisição também é logada. Consultas via JdbcTemplate não passam pelo Hibernate e
+ * não entram na conta.
+ */
+public class StatementMetrics implements StatementInspector, AsyncHandlerInterceptor {
+
+  private static final Logger log = LoggerFactory.getLogger(StatementMetrics.class);
+
+  // Só conta nas threads que estão atendendo uma requisição
+  private static final ThreadLocal<int[]> current = new ThreadLocal<>();
+
+  private final MeterRegistry registry;
+  private final int warnThreshold;
+
+  public StatementMetrics(MeterRegistry registry, MetricsProperties properties) {
+    this.registry = registry;
+    this.warnThreshold = properties.statementWarnThreshold();
+  }
+
+  @Override
+  public String inspect(String sql) {
+    int[] count = current.get();
+    if (count != null) count[0]++;
+    return sql;
+  }
+
+  @Override
+  public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+    current.set(new int[1]);
+    return true;
+  }
+
+  @Override
+  public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+                                             Object handler) {
+    // O restante (streaming, SSE) roda em outra thread
+    current.remove();
+  }
+
+  @Override
+  public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                              Exception ex) {
+    int[] count = current.get();
+    if (count == null) return;
+    current.remove();
+    Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+    String uri = pattern == null ? "UNKNOWN" : pattern.toString();
+    DistributionSummary.builder("hibernate.statements.per.request")
+        .description("Comandos SQL preparados pelo Hibernate por requisição")
+        .tag("method", request.getMethod())
+        .tag("uri", uri)
+        .register(registry)
+        .record(count[0]);
+    if (count[0] > warnThreshold) {
+      log.warn("{} {} executou {} comandos SQL (limite {}); possível N+1", request.getMethod(), uri, count[0],
+          warnThreshold);
+    }
+  }
+}
@@ -0,0 +1,20 @@
+package com.example.taskmanager.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Resumo do quadro ({@code app.summary.*}).
+ *
+ * @param dueSoonDays       quantos dias à frente (a partir de hoje) contam como "vence em breve"
+ * @param refreshInterval   intervalo da recontagem depois de mudanças sem o estado anterior
+ * @param reconcileInterval intervalo da conferência dos contadores com o banco
+ */
+@ConfigurationProperties("app.summary")
+public record SummaryProperties(
+    @DefaultValue("3") int dueSoonDays,
+    @DefaultValue("PT2S") Duration refreshInterval,
+    @DefaultValue("PT5M") Duration reconcileInterval
+) {}
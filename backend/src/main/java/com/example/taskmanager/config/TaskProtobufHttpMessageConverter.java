@@ -0,0 +1,89 @@
+package com.example.taskmanager.config;
+
+import com.example.taskmanager.dto.TaskCardResponse;
+import com.example.taskmanager.dto.TaskCreateRequest;
+import com.example.taskmanager.dto.TaskResponse;
+import com.example.taskmanager.mapper.TaskProtoMapper;
+import com.example.taskmanager.proto.TaskCreate;
+import com.example.taskmanager.proto.TaskList;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.Message;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.Collection;
+
+/**
+ * {@code application/x-protobuf} para os DTOs de tarefa, sem mudar os controllers: escreve
+ * {@link TaskResponse} e {@link TaskCardResponse} (sozinhos ou em lista, como {@code TaskList})
+ * e lê {@link TaskCreateRequest}. Outros tipos (erros, resumo) seguem em JSON.
+ */
+public class TaskProtobufHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+  public static final MediaType PROTOBUF = new MediaType("application", "x-protobuf");
+
+  public TaskProtobufHttpMessageConverter() {
+    super(PROTOBUF);
+  }
+
+  @Override
+  protected boolean supports(Class<?> clazz) {
+    return clazz == TaskResponse.class || clazz == TaskCardResponse.class || clazz == TaskCreateRequest.class
+        || Collection.class.isAssignableFrom(clazz);
+  }
+
+  @Override
+  public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+    return type == TaskCreateRequest.class && canRead(mediaType);
+  }
+
+  @Override
+  public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+    return writable(type != null ? ResolvableType.forType(type) : ResolvableType.forClass(clazz)) && canWrite(mediaType);
+  }
+
+  private static boolean writable(ResolvableType type) {
+    Class<?> raw = type.toClass();
+    if (Collection.class.isAssignableFrom(raw)) {
+      Class<?> element = type.asCollection().getGeneric(0).toClass();
+      return element == TaskResponse.class || element == TaskCardResponse.class;
+    }
+    return raw == TaskResponse.class || raw == TaskCardResponse.class;
+  }
+
+  @Override
+  public Object read(Type type, Class<?> contextClass, HttpInputMessage input) throws IOException {
+    return readInternal(TaskCreateRequest.class, input);
+  }
+
+  @Override
+  protected Object readInternal(Class<?> clazz, HttpInputMessage input) throws IOException {
+    try {
+      return TaskProtoMapper.fromProto(TaskCreate.parseFrom(input.getBody()));
+    } catch (InvalidProtocolBufferException ex) {
+      throw new HttpMessageNotReadableException("Protobuf inválido: " + ex.getMessage(), ex, input);
+    }
+  }
+
+  @Override
+  protected void writeInternal(Object body, Type type, HttpOutputMessage output) throws IOException {
+    toMessage(body).writeTo(output.getBody());
+  }
+
+  private static Message toMessage(Object body) {
+    if (body instanceof TaskResponse task) return TaskProtoMapper.toProto(task);
+    if (body instanceof TaskCardResponse card) return TaskProtoMapper.toProto(card);
+    TaskList.Builder list = TaskList.newBuilder();
+    for (Object item : (Collection<?>) body) {
+      list.addTasks(item instanceof TaskCardResponse card
+          ? TaskProtoMapper.toProto(card) : TaskProtoMapper.toProto((TaskResponse) item));
+    }
+    return list.build();
+  }
+}
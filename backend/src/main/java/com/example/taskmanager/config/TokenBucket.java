@@ -0,0 +1,36 @@
+package com.example.taskmanager.config;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/** Token bucket com reposição contínua; o relógio (nanos) é passado pelo chamador. */
+final class TokenBucket {
+
+  private final double capacity;
+  private final double tokensPerNano;
+  private final ReentrantLock lock = new ReentrantLock();
+  private double tokens;
+  private long updatedAt;
+
+  TokenBucket(int capacity, double refillPerSecond, long now) {
+    this.capacity = capacity;
+    this.tokensPerNano = refillPerSecond / 1_000_000_000d;
+    this.tokens = capacity;
+    this.updatedAt = now;
+  }
+
+  /** Consome um token; devolve 0 se conseguiu ou, se não, quantos nanos faltam para o próximo. */
+  long tryConsume(long now) {
+    lock.lock();
+    try {
+      tokens = Math.min(capacity, tokens + (now - updatedAt) * tokensPerNano);
+      updatedAt = now;
+      if (tokens >= 1) {
+        tokens -= 1;
+        return 0;
+      }
+      return (long) Math.ceil((1 - tokens) / tokensPerNano);
+    } finally {
+      lock.unlock();
+    }
+  }
+}
@@ -1,16 +1,43 @@
 package com.example.taskmanager.config;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
+
+  private final ObjectProvider<RateLimitInterceptor> rateLimit;
+  private final ObjectProvider<LoadSheddingInterceptor> loadShedding;
+  private final ObjectProvider<ReplicaStickinessInterceptor> replicaStickiness;
+  private final ObjectProvider<StatementMetrics> statementMetrics;
+
+  public WebConfig(ObjectProvider<RateLimitInterceptor> rateLimit, ObjectProvider<LoadSheddingInterceptor> loadShedding,
+                   ObjectProvider<ReplicaStickinessInterceptor> replicaStickiness,
+                   ObjectProvider<StatementMetrics> statementMetrics) {
+    this.rateLimit = rateLimit;
+    this.loadShedding = loadShedding;
+    this.replicaStickiness = replicaStickiness;
+    this.statementMetrics = statementMetrics;
+  }
+
   @Override
   public void addCorsMappings(CorsRegistry registry) {
     registry.addMapping("/api/**")
         .allowedOrigins("http://localhost:5173")
         .allowedMethods("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS")
-        .allowedHeaders("*");
+        .allowedHeaders("*")
+        .exposedHeaders("X-Next-Cursor", "ETag", "Retry-After");
+  }
+
+  @Override
+  public void addInterceptors(InterceptorRegistry registry) {
+    // Na ordem: o limite por cliente é o mais barato e não ocupa vaga no limite adaptativo
+    rateLimit.ifAvailable(limiter -> registry.addInterceptor(limiter).addPathPatterns("/api/**"));
+    loadShedding.ifAvailable(limiter -> registry.addInterceptor(limiter).addPathPatterns("/api/**"));
+    replicaStickiness.ifAvailable(sticky -> registry.addInterceptor(sticky).addPathPatterns("/api/**"));
+    statementMetrics.ifAvailable(metrics -> registry.addInterceptor(metrics).addPathPatterns("/api/**"));
   }
 }
@@ -0,0 +1,40 @@
+package com.example.taskmanager.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Formatos escolhidos pelo {@code Accept} (e pelo {@code Content-Type} na criação): JSON,
+ * CBOR ({@code application/cbor}), Smile ({@code application/x-jackson-smile}) e Protobuf
+ * ({@code application/x-protobuf}, só para tarefas). O JSON continua primeiro: é o que recebe
+ * quem não pede formato (Accept ausente ou curinga).
+ */
+@Configuration
+public class WireFormatConfig implements WebMvcConfigurer {
+
+  // Mesmo ObjectMapper do JSON (spring.jackson.*, datas ISO); só o formato muda
+  @Bean
+  MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+    return new MappingJackson2CborHttpMessageConverter(builder.createXmlMapper(false).factory(new CBORFactory()).build());
+  }
+
+  @Bean
+  MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+    return new MappingJackson2SmileHttpMessageConverter(builder.createXmlMapper(false).factory(new SmileFactory()).build());
+  }
+
+  @Override
+  public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+    // No fim da lista: como bean iria para o início e viraria o padrão
+    converters.add(new TaskProtobufHttpMessageConverter());
+  }
+}
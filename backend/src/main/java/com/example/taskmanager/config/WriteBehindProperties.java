@@ -0,0 +1,27 @@
+package com.example.taskmanager.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Escrita adiada das mudanças de status sem If-Match ({@code app.write-behind.*}).
+ *
+ * @param enabled    desligado, cada PATCH de status vai direto ao banco
+ * @param window     intervalo entre gravações; mudanças da mesma tarefa dentro dele viram uma só
+ * @param ack        {@code flushed}: a resposta espera o commit do lote (durável, latência de até
+ *                   uma janela); {@code buffered}: responde 202 ao enfileirar e a mudança se perde
+ *                   se o processo cair antes da gravação
+ * @param maxPending tarefas com mudança pendente; acima disso as novas vão direto ao banco
+ */
+@ConfigurationProperties("app.write-behind")
+public record WriteBehindProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue("PT0.2S") Duration window,
+    @DefaultValue("flushed") Ack ack,
+    @DefaultValue("10000") int maxPending
+) {
+
+  public enum Ack { FLUSHED, BUFFERED }
+}
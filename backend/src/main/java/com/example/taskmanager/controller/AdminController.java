@@ -0,0 +1,45 @@
+package com.example.taskmanager.controller;
+
+import com.example.taskmanager.dto.CacheStatsResponse;
+import com.example.taskmanager.dto.EventBusStatsResponse;
+import com.example.taskmanager.event.TaskEventBridge;
+import com.example.taskmanager.service.TaskCache;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin")
+@Tag(name = "Admin", description = "Operação e diagnóstico da API")
+public class AdminController {
+
+  private final TaskCache cache;
+  private final TaskEventBridge eventBridge;
+
+  public AdminController(TaskCache cache, TaskEventBridge eventBridge) {
+    this.cache = cache;
+    this.eventBridge = eventBridge;
+  }
+
+  @Operation(summary = "Estatísticas do cache", description = "Acertos, falhas, remoções e tamanho de cada cache.")
+  @GetMapping("/cache")
+  public ResponseEntity<List<CacheStatsResponse>> cacheStats() {
+    return ResponseEntity.ok(cache.stats());
+  }
+
+  @Operation(summary = "Limpar cache", description = "Descarta todas as entradas do cache de tarefas.")
+  @DeleteMapping("/cache")
+  public ResponseEntity<Void> clearCache() {
+    cache.invalidateAll();
+    return ResponseEntity.noContent().build();
+  }
+
+  @Operation(summary = "Canal de eventos", description = "Eventos recebidos de outras réplicas e o atraso observado.")
+  @GetMapping("/events")
+  public ResponseEntity<EventBusStatsResponse> eventStats() {
+    return ResponseEntity.ok(eventBridge.stats());
+  }
+}
@@ -1,9 +1,20 @@
 package com.example.taskmanager.controller;
 
 import com.example.taskmanager.dto.*;
+import com.example.taskmanager.entity.TaskPriority;
 import com.example.taskmanager.entity.TaskStatus;
+import com.example.taskmanager.exception.BadRequestException;
+import com.example.taskmanager.exception.PreconditionFailedException;
 import com.example.taskmanager.mapper.TaskMapper;
+import com.example.taskmanager.service.BoardVersion;
+import com.example.taskmanager.service.StatusWriteBuffer;
+import com.example.taskmanager.service.TaskChangeFeed;
+import com.example.taskmanager.service.TaskExporter;
+import com.example.taskmanager.service.TaskImporter;
 import com.example.taskmanager.service.TaskService;
+import com.example.taskmanager.service.TaskSummary;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -12,12 +23,27 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @RestController
 @RequestMapping("/api/tasks")
@@ -25,10 +51,31 @@ import java.util.UUID;
 @CrossOrigin(origins = {"http://localhost:5173"})
 public class TaskController {
 
+  public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+  static final String RETURN_MINIMAL = "return=minimal";
+  static final String TEXT_CSV_VALUE = "text/csv";
+  static final MediaType TEXT_CSV = new MediaType("text", "csv", StandardCharsets.UTF_8);
+
   private final TaskService service;
+  private final BoardVersion boardVersion;
+  private final ObjectMapper objectMapper;
+  private final TaskChangeFeed changeFeed;
+  private final TaskSummary summary;
+  private final TaskImporter importer;
+  private final TaskExporter exporter;
+  private final StatusWriteBuffer writeBuffer;
 
-  public TaskController(TaskService service) {
+  public TaskController(TaskService service, BoardVersion boardVersion, ObjectMapper objectMapper,
+                        TaskChangeFeed changeFeed, TaskSummary summary, TaskImporter importer, TaskExporter exporter,
+                        StatusWriteBuffer writeBuffer) {
     this.service = service;
+    this.boardVersion = boardVersion;
+    this.objectMapper = objectMapper;
+    this.changeFeed = changeFeed;
+    this.summary = summary;
+    this.importer = importer;
+    this.exporter = exporter;
+    this.writeBuffer = writeBuffer;
   }
 
   @Operation(summary = "Criar tarefa", description = "Cria uma tarefa com status inicial TODO.")
@@ -39,48 +86,308 @@ public class TaskController {
   @PostMapping
   public ResponseEntity<TaskResponse> create(@Valid @RequestBody TaskCreateRequest dto) {
     var created = service.create(dto);
-    return ResponseEntity.status(HttpStatus.CREATED).body(TaskMapper.toResponse(created));
+    return ResponseEntity.status(HttpStatus.CREATED).eTag(etag(created.getVersion())).body(TaskMapper.toResponse(created));
+  }
+
+  @Operation(summary = "Criar tarefas em lote",
+      description = "Cria até " + TaskService.MAX_BATCH_SIZE + " tarefas numa única transação, com resultado por item.")
+  @ApiResponses({
+      @ApiResponse(responseCode = "200", description = "Lote processado (ver status de cada item)"),
+      @ApiResponse(responseCode = "400", description = "Lote acima do limite", content = @Content)
+  })
+  @PostMapping("/batch")
+  public ResponseEntity<List<TaskBatchItemResult>> createBatch(@RequestBody List<TaskCreateRequest> dtos) {
+    return ResponseEntity.ok(service.createAll(dtos));
+  }
+
+  @Operation(summary = "Importar tarefas (CSV ou NDJSON)",
+      description = "Lê o arquivo em streaming e grava as linhas válidas em blocos de 1000, cada bloco na sua "
+          + "transação. CSV com cabeçalho title, description, dueDate, priority e status (opcional), separado por "
+          + "vírgula ou ponto e vírgula; NDJSON com um objeto por linha. As linhas inválidas voltam no relatório.")
+  @ApiResponses({
+      @ApiResponse(responseCode = "200", description = "Arquivo processado (ver errors)"),
+      @ApiResponse(responseCode = "400", description = "Arquivo vazio ou cabeçalho incompleto", content = @Content)
+  })
+  @PostMapping(value = "/import", consumes = {TEXT_CSV_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+  public TaskImportResponse importTasks(@RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+                                        InputStream body) throws IOException {
+    return TEXT_CSV.includes(contentType) ? importer.importCsv(body) : importer.importNdjson(body);
+  }
+
+  @Operation(summary = "Exportar tarefas (CSV ou NDJSON)",
+      description = "Envia as tarefas do quadro direto do cursor do banco, com memória constante. "
+          + "O CSV pode ser importado de volta em /import.")
+  @ApiResponses({
+      @ApiResponse(responseCode = "200", description = "Ok"),
+      @ApiResponse(responseCode = "400", description = "Formato inválido", content = @Content)
+  })
+  @GetMapping("/export")
+  public ResponseEntity<StreamingResponseBody> export(
+      @Parameter(description = "ndjson (padrão) ou csv")
+      @RequestParam(defaultValue = "ndjson") String format
+  ) {
+    boolean csv = switch (format) {
+      case "csv" -> true;
+      case "ndjson" -> false;
+      default -> throw new BadRequestException("Formato inválido: " + format + " (use csv ou ndjson)");
+    };
+    StreamingResponseBody body = csv ? exporter::writeCsv : exporter::writeNdjson;
+    return ResponseEntity.ok()
+        .contentType(csv ? TEXT_CSV : MediaType.APPLICATION_NDJSON)
+        .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"tasks." + format + "\"")
+        .body(body);
+  }
+
+  @Operation(summary = "Atualizar status em lote", description = "Move várias tarefas para o mesmo status com um único UPDATE.")
+  @ApiResponses({
+      @ApiResponse(responseCode = "200", description = "Lote processado (ver status de cada item)"),
+      @ApiResponse(responseCode = "400", description = "Dados inválidos", content = @Content)
+  })
+  @PatchMapping("/batch/status")
+  public ResponseEntity<List<TaskBatchItemResult>> updateStatusBatch(@Valid @RequestBody TaskBatchStatusUpdateRequest dto) {
+    return ResponseEntity.ok(service.updateStatusAll(dto.ids(), dto.status()));
+  }
+
+  @Operation(summary = "Excluir tarefas em lote", description = "Remove várias tarefas com um único DELETE.")
+  @ApiResponses({
+      @ApiResponse(responseCode = "200", description = "Lote processado (ver status de cada item)"),
+      @ApiResponse(responseCode = "400", description = "Dados inválidos", content = @Content)
+  })
+  @DeleteMapping("/batch")
+  public ResponseEntity<List<TaskBatchItemResult>> deleteBatch(@Valid @RequestBody TaskBatchDeleteRequest dto) {
+    return ResponseEntity.ok(service.deleteAll(dto.ids()));
   }
 
-  @Operation(summary = "Listar tarefas", description = "Lista todas as tarefas, com filtro opcional por status.")
+  @Operation(summary = "Listar tarefas", description = "Lista as tarefas, com filtros opcionais. "
+      + "Só com status (um valor) a listagem vem do cache; com limit e/ou cursor é paginada por (createdAt, id). "
+      + "Com vários status, prioridade, intervalos de datas ou sort, a listagem é filtrada no banco e paginada "
+      + "pela ordenação escolhida. O próximo cursor volta em X-Next-Cursor.")
+  @ApiResponses({
+      @ApiResponse(responseCode = "200", description = "Ok"),
+      @ApiResponse(responseCode = "304", description = "Quadro inalterado desde o ETag em If-None-Match", content = @Content),
+      @ApiResponse(responseCode = "400", description = "Cursor, limite ou ordenação inválidos", content = @Content)
+  })
   @GetMapping
   public ResponseEntity<List<TaskResponse>> list(
+      @Parameter(description = "Filtro por status (TODO, DOING, DONE); aceita vários")
+      @RequestParam(required = false) List<TaskStatus> status,
+      @Parameter(description = "Filtro por prioridade (LOW, MEDIUM, HIGH); aceita vários")
+      @RequestParam(required = false) List<TaskPriority> priority,
+      @Parameter(description = "Data limite a partir de (inclusive)", example = "2026-02-01")
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueFrom,
+      @Parameter(description = "Data limite até (inclusive)", example = "2026-02-07")
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueTo,
+      @Parameter(description = "Criada a partir de (inclusive)", example = "2026-01-01T00:00:00")
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+      @Parameter(description = "Criada até (inclusive)", example = "2026-01-31T23:59:59")
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo,
+      @Parameter(description = "Ordenação: createdAt, dueDate, -createdAt ou -dueDate")
+      @RequestParam(required = false) String sort,
+      @Parameter(description = "Token de continuação recebido em X-Next-Cursor")
+      @RequestParam(required = false) String cursor,
+      @Parameter(description = "Tamanho da página (máx. " + TaskService.MAX_PAGE_SIZE + ")")
+      @RequestParam(required = false) Integer limit,
+      WebRequest request
+  ) {
+    // Lido antes da consulta: se o quadro mudar no meio, o ETag antigo só provoca um novo download
+    if (request.checkNotModified(boardVersion.etag())) {
+      return null;
+    }
+    if (limit != null && limit < 1) {
+      throw new BadRequestException("O limite deve ser maior que zero");
+    }
+    int size = limit == null ? TaskService.DEFAULT_PAGE_SIZE : Math.min(limit, TaskService.MAX_PAGE_SIZE);
+
+    var filter = new TaskFilter(status == null ? null : Set.copyOf(status), priority == null ? null : Set.copyOf(priority),
+        dueFrom, dueTo, createdFrom, createdTo);
+    if (sort != null || !filter.isStatusOnly()) {
+      var order = TaskSort.parse(sort);
+      var after = cursor == null ? null : SortCursor.decode(cursor, order);
+      var page = service.filter(filter, order, after, size);
+      var response = ResponseEntity.ok();
+      if (page.size() == size) {
+        response.header(NEXT_CURSOR_HEADER, SortCursor.of(order, page.get(page.size() - 1)).encode());
+      }
+      return response.body(page.stream().map(TaskMapper::toResponse).toList());
+    }
+
+    TaskStatus single = filter.statuses().isEmpty() ? null : filter.statuses().iterator().next();
+    if (cursor == null && limit == null) {
+      return ResponseEntity.ok(service.list(single));
+    }
+
+    var after = cursor == null ? null : TaskCursor.decode(cursor);
+    var page = service.findPage(single, after, size);
+
+    var response = ResponseEntity.ok();
+    if (page.size() == size) {
+      response.header(NEXT_CURSOR_HEADER, TaskCursor.of(page.get(page.size() - 1)).encode());
+    }
+    return response.body(page.stream().map(TaskMapper::toResponse).toList());
+  }
+
+  @Operation(summary = "Listar tarefas (visão compacta)",
+      description = "Mesma listagem do quadro sem a descrição, que não é lida do banco; "
+          + "quando necessária, vem em GET /api/tasks/{id}.")
+  @ApiResponses({
+      @ApiResponse(responseCode = "200", description = "Ok"),
+      @ApiResponse(responseCode = "304", description = "Quadro inalterado desde o ETag em If-None-Match", content = @Content)
+  })
+  @GetMapping(params = "view=compact")
+  public ResponseEntity<List<TaskCardResponse>> listCompact(
+      @Parameter(description = "Filtro por status (TODO, DOING, DONE)")
+      @RequestParam(required = false) TaskStatus status,
+      WebRequest request
+  ) {
+    if (request.checkNotModified(boardVersion.etag())) {
+      return null;
+    }
+    return ResponseEntity.ok(service.listCards(status));
+  }
+
+  @Operation(summary = "Resumo do quadro",
+      description = "Contagens por status e prioridade, atrasadas e que vencem em breve, mantidas em memória "
+          + "(sem percorrer as tarefas).")
+  @GetMapping("/summary")
+  public TaskSummaryResponse summary() {
+    return summary.summary();
+  }
+
+  @Operation(summary = "Buscar tarefas por texto",
+      description = "Busca palavras (também como prefixo) no título e na descrição, com as mais relevantes primeiro. "
+          + "O próximo cursor volta em X-Next-Cursor.")
+  @ApiResponses({
+      @ApiResponse(responseCode = "200", description = "Ok"),
+      @ApiResponse(responseCode = "400", description = "Busca vazia, cursor ou limite inválido", content = @Content)
+  })
+  @GetMapping("/search")
+  public ResponseEntity<List<TaskResponse>> search(
+      @Parameter(description = "Palavras a buscar", example = "relatório mensal")
+      @RequestParam(required = false) String q,
+      @Parameter(description = "Token de continuação recebido em X-Next-Cursor")
+      @RequestParam(required = false) String cursor,
+      @Parameter(description = "Tamanho da página (máx. " + TaskService.MAX_SEARCH_SIZE + ")")
+      @RequestParam(required = false) Integer limit
+  ) {
+    if (limit != null && limit < 1) {
+      throw new BadRequestException("O limite deve ser maior que zero");
+    }
+    int size = limit == null ? TaskService.DEFAULT_SEARCH_SIZE : Math.min(limit, TaskService.MAX_SEARCH_SIZE);
+    int offset = cursor == null ? 0 : SearchCursor.decode(cursor).offset();
+    var found = service.search(q, offset, size);
+
+    var response = ResponseEntity.ok();
+    if (found.size() == size) {
+      response.header(NEXT_CURSOR_HEADER, new SearchCursor(offset + size).encode());
+    }
+    return response.body(found.stream().map(TaskMapper::toResponse).toList());
+  }
+
+  @Operation(summary = "Listar tarefas em streaming (NDJSON)",
+      description = "Envia uma tarefa por linha à medida que é lida do banco, com memória constante.")
+  @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+  public ResponseEntity<StreamingResponseBody> stream(
       @Parameter(description = "Filtro por status (TODO, DOING, DONE)")
       @RequestParam(required = false) TaskStatus status
   ) {
-    var list = service.findAll(status).stream().map(TaskMapper::toResponse).toList();
-    return ResponseEntity.ok(list);
+    StreamingResponseBody body = out -> {
+      try (JsonGenerator gen = objectMapper.getFactory().createGenerator(out)) {
+        gen.setRootValueSeparator(null);
+        service.streamAll(status, task -> {
+          try {
+            gen.writeObject(TaskMapper.toResponse(task));
+            gen.writeRaw('\n');
+          } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+          }
+        });
+      }
+    };
+    return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+  }
+
+  @Operation(summary = "Feed de mudanças (SSE)",
+      description = "Envia created/updated/status/deleted a cada mudança confirmada. Ao reconectar com Last-Event-ID "
+          + "o cliente recebe os eventos perdidos; se eles não estiverem mais disponíveis, recebe \"reset\" e deve recarregar o quadro.")
+  @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  public SseEmitter events(
+      @Parameter(description = "Id do último evento recebido (enviado automaticamente pelo EventSource)")
+      @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId
+  ) {
+    return changeFeed.subscribe(lastEventId);
   }
 
   @Operation(summary = "Buscar tarefa por ID")
   @ApiResponses({
       @ApiResponse(responseCode = "200", description = "Ok"),
+      @ApiResponse(responseCode = "304", description = "Inalterada desde o ETag em If-None-Match", content = @Content),
       @ApiResponse(responseCode = "404", description = "Não encontrada", content = @Content)
   })
   @GetMapping("/{id}")
   public ResponseEntity<TaskResponse> getById(@PathVariable UUID id) {
-    return ResponseEntity.ok(TaskMapper.toResponse(service.findById(id)));
+    // Com ETag na resposta o Spring responde 304 sozinho quando If-None-Match confere
+    var task = service.get(id);
+    return ResponseEntity.ok().eTag(etag(task.version())).body(task);
   }
 
   @Operation(summary = "Atualizar tarefa", description = "Atualiza campos (título/descrição/status/prioridade/data).")
   @ApiResponses({
       @ApiResponse(responseCode = "200", description = "Atualizada"),
-      @ApiResponse(responseCode = "404", description = "Não encontrada", content = @Content)
+      @ApiResponse(responseCode = "404", description = "Não encontrada", content = @Content),
+      @ApiResponse(responseCode = "409", description = "Alteração concorrente", content = @Content),
+      @ApiResponse(responseCode = "412", description = "Versão diferente da informada em If-Match", content = @Content)
   })
   @PutMapping("/{id}")
-  public ResponseEntity<TaskResponse> update(@PathVariable UUID id, @RequestBody TaskUpdateRequest dto) {
-    return ResponseEntity.ok(TaskMapper.toResponse(service.update(id, dto)));
+  public ResponseEntity<TaskResponse> update(
+      @PathVariable UUID id,
+      @RequestBody TaskUpdateRequest dto,
+      @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
+  ) {
+    var updated = service.update(id, dto, expectedVersion(ifMatch));
+    return ResponseEntity.ok().eTag(etag(updated.getVersion())).body(TaskMapper.toResponse(updated));
   }
 
-  @Operation(summary = "Atualizar status", description = "Atualiza apenas o status (ideal para drag & drop).")
+  @Operation(summary = "Atualizar status", description = "Atualiza apenas o status (ideal para drag & drop). "
+      + "Com o header Prefer: return=minimal responde 204 sem reler a tarefa. Com app.write-behind ligado, "
+      + "mudanças sem If-Match são agrupadas e gravadas em lote a cada janela.")
   @ApiResponses({
       @ApiResponse(responseCode = "200", description = "Atualizada"),
+      @ApiResponse(responseCode = "202", description = "Aceita, ainda não gravada (app.write-behind.ack=buffered)",
+          content = @Content),
+      @ApiResponse(responseCode = "204", description = "Atualizada (Prefer: return=minimal)"),
       @ApiResponse(responseCode = "400", description = "Dados inválidos", content = @Content),
-      @ApiResponse(responseCode = "404", description = "Não encontrada", content = @Content)
+      @ApiResponse(responseCode = "404", description = "Não encontrada", content = @Content),
+      @ApiResponse(responseCode = "412", description = "Versão diferente da informada em If-Match", content = @Content)
   })
   @PatchMapping("/{id}/status")
-  public ResponseEntity<TaskResponse> updateStatus(@PathVariable UUID id, @Valid @RequestBody TaskStatusUpdateRequest dto) {
-    return ResponseEntity.ok(TaskMapper.toResponse(service.updateStatus(id, dto)));
+  public ResponseEntity<TaskResponse> updateStatus(
+      @PathVariable UUID id,
+      @Valid @RequestBody TaskStatusUpdateRequest dto,
+      @RequestHeader(value = "Prefer", required = false) String prefer,
+      @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
+  ) {
+    Long expected = expectedVersion(ifMatch);
+    boolean minimal = prefer != null && prefer.contains(RETURN_MINIMAL);
+    if (expected == null && writeBuffer.enabled()) {
+      CompletableFuture<Void> written = writeBuffer.submit(id, dto.status());
+      // null: buffer cheio, segue pelo caminho direto
+      if (written != null) {
+        if (!writeBuffer.waitsForFlush()) return ResponseEntity.accepted().build();
+        await(written);
+        if (minimal) return ResponseEntity.noContent().header("Preference-Applied", RETURN_MINIMAL).build();
+        TaskResponse current = service.get(id);
+        return ResponseEntity.ok().eTag(etag(current.version())).body(current);
+      }
+    }
+    if (minimal) {
+      service.applyStatus(id, dto.status(), expected);
+      var response = ResponseEntity.noContent().header("Preference-Applied", RETURN_MINIMAL);
+      // O UPDATE condicional incrementa exatamente uma versão
+      if (expected != null) response.eTag(etag(expected + 1));
+      return response.build();
+    }
+    var updated = service.updateStatus(id, dto, expected);
+    return ResponseEntity.ok().eTag(etag(updated.getVersion())).body(TaskMapper.toResponse(updated));
   }
 
   @Operation(summary = "Excluir tarefa", description = "Remove a tarefa do banco (remoção física).")
@@ -93,4 +400,35 @@ public class TaskController {
     service.delete(id);
     return ResponseEntity.noContent().build();
   }
+
+  private static void await(CompletableFuture<Void> written) {
+    try {
+      written.join();
+    } catch (CompletionException ex) {
+      if (ex.getCause() instanceof RuntimeException cause) throw cause;
+      throw ex;
+    }
+  }
+
+  private static String etag(long version) {
+    return "\"" + version + "\"";
+  }
+
+  /**
+   * Converte o If-Match na versão esperada. Ausente ou "*" significa escrita incondicional.
+   */
+  static Long expectedVersion(String ifMatch) {
+    if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+      return null;
+    }
+    String tag = ifMatch.trim();
+    if (tag.length() < 3 || !tag.startsWith("\"") || !tag.endsWith("\"")) {
+      throw new PreconditionFailedException("If-Match exige um ETag forte da tarefa");
+    }
+    try {
+      return Long.parseLong(tag.substring(1, tag.length() - 1));
+    } catch (NumberFormatException ex) {
+      throw new PreconditionFailedException("If-Match exige um ETag forte da tarefa");
+    }
+  }
 }
@@ -0,0 +1,13 @@
+package com.example.taskmanager.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Estatísticas de um cache")
+public record CacheStatsResponse(
+    @Schema(example = "tasks")
+    String name,
+    long hits,
+    long misses,
+    long evictions,
+    long size
+) {}
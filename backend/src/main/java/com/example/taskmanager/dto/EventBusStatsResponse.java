@@ -0,0 +1,21 @@
+package com.example.taskmanager.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Situação do canal de mudanças entre réplicas")
+public record EventBusStatsResponse(
+    @Schema(example = "a1b2c3d4")
+    String nodeId,
+
+    @Schema(example = "outbox")
+    String bus,
+
+    @Schema(description = "Eventos recebidos de outras réplicas")
+    long received,
+
+    @Schema(description = "Atraso do último evento recebido, em ms")
+    long lastLagMillis,
+
+    @Schema(description = "Maior atraso observado, em ms")
+    long maxLagMillis
+) {}
@@ -0,0 +1,29 @@
+package com.example.taskmanager.dto;
+
+import com.example.taskmanager.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Posição de continuação da busca textual. A ordem é por relevância, que não forma
+ * uma chave estável, então o token carrega o deslocamento; trafega em {@code X-Next-Cursor}.
+ */
+public record SearchCursor(int offset) {
+
+  public String encode() {
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(("s|" + offset).getBytes(StandardCharsets.UTF_8));
+  }
+
+  public static SearchCursor decode(String token) {
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+      if (!raw.startsWith("s|")) throw new IllegalArgumentException(raw);
+      int offset = Integer.parseInt(raw.substring(2));
+      if (offset < 0) throw new IllegalArgumentException(raw);
+      return new SearchCursor(offset);
+    } catch (RuntimeException ex) {
+      throw new BadRequestException("Cursor inválido");
+    }
+  }
+}
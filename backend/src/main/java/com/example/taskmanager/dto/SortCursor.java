@@ -0,0 +1,35 @@
+package com.example.taskmanager.dto;
+
+import com.example.taskmanager.entity.Task;
+import com.example.taskmanager.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Posição de continuação da listagem filtrada: valor da coluna de ordenação e id da
+ * última tarefa entregue. Trafega como token opaco no header {@code X-Next-Cursor}.
+ */
+public record SortCursor(TaskSort sort, Comparable<?> value, UUID id) {
+
+  public static SortCursor of(TaskSort sort, Task task) {
+    return new SortCursor(sort, sort.valueOf(task), task.getId());
+  }
+
+  public String encode() {
+    String raw = sort.name() + "|" + value + "|" + id;
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /** O cursor só vale para a mesma ordenação em que foi emitido. */
+  public static SortCursor decode(String token, TaskSort sort) {
+    try {
+      String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split("\\|", -1);
+      if (parts.length != 3 || !parts[0].equals(sort.name())) throw new IllegalArgumentException(token);
+      return new SortCursor(sort, sort.parseValue(parts[1]), UUID.fromString(parts[2]));
+    } catch (RuntimeException ex) {
+      throw new BadRequestException("Cursor inválido");
+    }
+  }
+}
@@ -0,0 +1,14 @@
+package com.example.taskmanager.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+import java.util.UUID;
+
+@Schema(description = "Exclusão em lote")
+public record TaskBatchDeleteRequest(
+    @NotEmpty(message = "Informe ao menos um id")
+    List<@NotNull UUID> ids
+) {}
@@ -0,0 +1,19 @@
+package com.example.taskmanager.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.UUID;
+
+@Schema(description = "Resultado de um item de uma operação em lote")
+public record TaskBatchItemResult(
+    @Schema(description = "Posição do item na requisição", example = "0")
+    int index,
+
+    UUID id,
+
+    @Schema(description = "Status HTTP equivalente ao item", example = "201")
+    int status,
+
+    @Schema(description = "Motivo da falha, quando houver")
+    String message
+) {}
@@ -0,0 +1,19 @@
+package com.example.taskmanager.dto;
+
+import com.example.taskmanager.entity.TaskStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+import java.util.UUID;
+
+@Schema(description = "Atualização de status em lote")
+public record TaskBatchStatusUpdateRequest(
+    @NotEmpty(message = "Informe ao menos um id")
+    List<@NotNull UUID> ids,
+
+    @Schema(example = "DONE")
+    @NotNull(message = "Status é obrigatório")
+    TaskStatus status
+) {}
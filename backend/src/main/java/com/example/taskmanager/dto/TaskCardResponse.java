@@ -0,0 +1,21 @@
+package com.example.taskmanager.dto;
+
+import com.example.taskmanager.entity.TaskPriority;
+import com.example.taskmanager.entity.TaskStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Schema(description = "Tarefa na visão compacta do quadro (sem descrição; ela vem em GET /api/tasks/{id})")
+public record TaskCardResponse(
+    UUID id,
+    String title,
+    TaskStatus status,
+    TaskPriority priority,
+    LocalDate dueDate,
+    LocalDateTime createdAt,
+    @Schema(description = "Versão da tarefa", example = "3")
+    long version
+) {}
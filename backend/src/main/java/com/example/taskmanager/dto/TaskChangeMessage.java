@@ -0,0 +1,59 @@
+package com.example.taskmanager.dto;
+
+import com.example.taskmanager.entity.TaskStatus;
+import com.example.taskmanager.event.TaskChangedEvent;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+@Schema(description = "Mudança enviada pelo feed de eventos (SSE)")
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record TaskChangeMessage(
+    @Schema(example = "updated")
+    String type,
+
+    UUID id,
+
+    @Schema(example = "DOING")
+    TaskStatus status,
+
+    @Schema(description = "Tarefa completa (criação, ou atualização sem estado anterior conhecido)")
+    TaskResponse task,
+
+    @Schema(description = "Apenas os campos alterados, com os novos valores")
+    Map<String, Object> changes
+) {
+
+  public static TaskChangeMessage of(TaskChangedEvent event) {
+    return switch (event.type()) {
+      case CREATED -> new TaskChangeMessage("created", event.id(), event.status(), event.current(), null);
+      case UPDATED -> event.previous() == null
+          ? new TaskChangeMessage("updated", event.id(), event.status(), event.current(), null)
+          : new TaskChangeMessage("updated", event.id(), event.status(), null, diff(event.previous(), event.current()));
+      case STATUS_CHANGED -> new TaskChangeMessage("status", event.id(), event.status(), null, null);
+      case DELETED -> new TaskChangeMessage("deleted", event.id(), null, null, null);
+      case ARCHIVED -> new TaskChangeMessage("archived", event.id(), null, null, null);
+      // Várias tarefas de uma vez: o cliente recarrega o quadro
+      case IMPORTED -> new TaskChangeMessage("imported", null, null, null, null);
+    };
+  }
+
+  private static Map<String, Object> diff(TaskResponse before, TaskResponse after) {
+    Map<String, Object> changes = new LinkedHashMap<>();
+    put(changes, "title", before.title(), after.title());
+    put(changes, "description", before.description(), after.description());
+    put(changes, "status", before.status(), after.status());
+    put(changes, "priority", before.priority(), after.priority());
+    put(changes, "dueDate", before.dueDate(), after.dueDate());
+    changes.put("version", after.version());
+    return changes;
+  }
+
+  private static void put(Map<String, Object> changes, String field, Object before, Object after) {
+    if (!Objects.equals(before, after)) changes.put(field, after);
+  }
+}
@@ -0,0 +1,35 @@
+package com.example.taskmanager.dto;
+
+import com.example.taskmanager.entity.Task;
+import com.example.taskmanager.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Posição de continuação da paginação por chave (createdAt, id).
+ * Trafega como token opaco (Base64 URL-safe) no header {@code X-Next-Cursor}.
+ */
+public record TaskCursor(LocalDateTime createdAt, UUID id) {
+
+  public static TaskCursor of(Task task) {
+    return new TaskCursor(task.getCreatedAt(), task.getId());
+  }
+
+  public String encode() {
+    String raw = createdAt + "|" + id;
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  public static TaskCursor decode(String token) {
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+      int sep = raw.indexOf('|');
+      return new TaskCursor(LocalDateTime.parse(raw.substring(0, sep)), UUID.fromString(raw.substring(sep + 1)));
+    } catch (RuntimeException ex) {
+      throw new BadRequestException("Cursor inválido");
+    }
+  }
+}
@@ -0,0 +1,43 @@
+package com.example.taskmanager.dto;
+
+import com.example.taskmanager.entity.TaskPriority;
+import com.example.taskmanager.entity.TaskStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Filtros da listagem. Conjuntos vazios significam "qualquer valor"; os intervalos
+ * são inclusivos e cada extremo é opcional.
+ */
+public record TaskFilter(
+    Set<TaskStatus> statuses,
+    Set<TaskPriority> priorities,
+    LocalDate dueFrom,
+    LocalDate dueTo,
+    LocalDateTime createdFrom,
+    LocalDateTime createdTo
+) {
+
+  public TaskFilter {
+    statuses = statuses == null || statuses.isEmpty() ? Set.of() : Set.copyOf(statuses);
+    priorities = priorities == null || priorities.isEmpty() ? Set.of() : Set.copyOf(priorities);
+  }
+
+  /** Só um status (ou nenhum) e nada mais: atendido pela listagem simples e pelo cache. */
+  public boolean isStatusOnly() {
+    return statuses.size() <= 1 && priorities.isEmpty()
+        && dueFrom == null && dueTo == null && createdFrom == null && createdTo == null;
+  }
+
+  /** Status filtrados, ou todos; cada um vira uma consulta por igualdade no índice. */
+  public Set<TaskStatus> statusesOrAll() {
+    return statuses.isEmpty() ? EnumSet.allOf(TaskStatus.class) : statuses;
+  }
+
+  public Set<TaskPriority> prioritiesOrAll() {
+    return priorities.isEmpty() ? EnumSet.allOf(TaskPriority.class) : priorities;
+  }
+}
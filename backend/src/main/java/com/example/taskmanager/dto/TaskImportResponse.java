@@ -0,0 +1,21 @@
+package com.example.taskmanager.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Resultado de uma importação")
+public record TaskImportResponse(
+    @Schema(example = "99998")
+    long imported,
+
+    @Schema(example = "2")
+    long failed,
+
+    @Schema(description = "Linhas rejeitadas (index = número da linha de dados, a partir de 1), limitadas às primeiras "
+        + "1000")
+    List<TaskBatchItemResult> errors,
+
+    @Schema(description = "Se houve mais erros do que os listados")
+    boolean errorsTruncated
+) {}
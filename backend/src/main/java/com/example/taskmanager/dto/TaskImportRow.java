@@ -0,0 +1,29 @@
+package com.example.taskmanager.dto;
+
+import com.example.taskmanager.entity.TaskPriority;
+import com.example.taskmanager.entity.TaskStatus;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalDate;
+
+/**
+ * Linha de uma importação (CSV ou NDJSON). Mesmos campos da criação, mais o status
+ * opcional, para que um arquivo exportado possa ser importado de volta.
+ */
+public record TaskImportRow(
+    @NotBlank(message = "Título é obrigatório")
+    @Size(max = 255, message = "Título deve ter no máximo 255 caracteres")
+    String title,
+
+    String description,
+
+    @NotNull(message = "Data limite é obrigatória")
+    LocalDate dueDate,
+
+    @NotNull(message = "Prioridade é obrigatória")
+    TaskPriority priority,
+
+    TaskStatus status
+) {}
@@ -16,5 +16,7 @@ public record TaskResponse(
     TaskStatus status,
     TaskPriority priority,
     LocalDate dueDate,
-    LocalDateTime createdAt
+    LocalDateTime createdAt,
+    @Schema(description = "Versão da tarefa (também enviada no header ETag)", example = "3")
+    long version
 ) {}
@@ -0,0 +1,74 @@
+package com.example.taskmanager.dto;
+
+import com.example.taskmanager.entity.Task;
+import com.example.taskmanager.exception.BadRequestException;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Ordenações aceitas pela listagem filtrada. Cada uma tem um índice
+ * (status, priority, coluna) que entrega as linhas já na ordem pedida.
+ */
+public enum TaskSort {
+  CREATED_AT("createdAt", false, Task::getCreatedAt, LocalDateTime::parse),
+  CREATED_AT_DESC("createdAt", true, Task::getCreatedAt, LocalDateTime::parse),
+  DUE_DATE("dueDate", false, Task::getDueDate, LocalDate::parse),
+  DUE_DATE_DESC("dueDate", true, Task::getDueDate, LocalDate::parse);
+
+  private final String attribute;
+  private final boolean descending;
+  private final Function<Task, Comparable<?>> extractor;
+  private final Function<String, Comparable<?>> parser;
+
+  TaskSort(String attribute, boolean descending, Function<Task, Comparable<?>> extractor,
+           Function<String, Comparable<?>> parser) {
+    this.attribute = attribute;
+    this.descending = descending;
+    this.extractor = extractor;
+    this.parser = parser;
+  }
+
+  /** {@code createdAt}, {@code dueDate} e as variantes decrescentes com "-" na frente. */
+  public static TaskSort parse(String value) {
+    if (value == null || value.isBlank()) return CREATED_AT;
+    boolean desc = value.startsWith("-");
+    String name = desc ? value.substring(1) : value;
+    for (TaskSort sort : values()) {
+      if (sort.attribute.equals(name) && sort.descending == desc) return sort;
+    }
+    throw new BadRequestException("Ordenação não suportada: " + value + " (use createdAt, dueDate, -createdAt ou -dueDate)");
+  }
+
+  public String attribute() {
+    return attribute;
+  }
+
+  public boolean descending() {
+    return descending;
+  }
+
+  public Comparable<?> valueOf(Task task) {
+    return extractor.apply(task);
+  }
+
+  public Comparable<?> parseValue(String value) {
+    return parser.apply(value);
+  }
+
+  /** Mesma ordem do banco: coluna e, no empate, o id (comparado como o BINARY(16) do MySQL). */
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  public Comparator<Task> comparator() {
+    Comparator<Task> byValue = Comparator.comparing(task -> (Comparable) extractor.apply(task));
+    Comparator<Task> order = byValue.thenComparing(Task::getId, TaskSort::compareUnsigned);
+    return descending ? order.reversed() : order;
+  }
+
+  private static int compareUnsigned(UUID a, UUID b) {
+    int msb = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+    return msb != 0 ? msb : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+  }
+}
@@ -0,0 +1,31 @@
+package com.example.taskmanager.dto;
+
+import com.example.taskmanager.entity.TaskPriority;
+import com.example.taskmanager.entity.TaskStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+@Schema(description = "Contagens do quadro")
+public record TaskSummaryResponse(
+    long total,
+
+    @Schema(description = "Tarefas por status")
+    Map<TaskStatus, Long> byStatus,
+
+    @Schema(description = "Tarefas por status e prioridade")
+    Map<TaskStatus, Map<TaskPriority, Long>> byStatusAndPriority,
+
+    @Schema(description = "Tarefas não concluídas com data limite antes de hoje, por status")
+    Map<TaskStatus, Long> overdue,
+
+    @Schema(description = "Tarefas não concluídas que vencem de hoje até hoje + dueSoonDays, por status")
+    Map<TaskStatus, Long> dueSoon,
+
+    @Schema(example = "3")
+    int dueSoonDays,
+
+    @Schema(description = "Data usada como hoje", example = "2026-02-10")
+    LocalDate date
+) {}
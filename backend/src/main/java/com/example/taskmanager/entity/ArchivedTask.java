@@ -0,0 +1,65 @@
+package com.example.taskmanager.entity;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Tarefa concluída movida para {@code tasks_archive} pelo arquivamento. Somente leitura:
+ * as linhas entram por INSERT ... SELECT a partir de {@code tasks}.
+ */
+@Entity
+@Immutable
+@Table(name = "tasks_archive")
+public class ArchivedTask {
+
+  @Id
+  @JdbcTypeCode(SqlTypes.BINARY)
+  @Column(columnDefinition = "binary(16)")
+  private UUID id;
+
+  @Column(nullable = false, length = 255)
+  private String title;
+
+  @Column(columnDefinition = "text")
+  private String description;
+
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false, length = 16)
+  private TaskStatus status;
+
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false, length = 16)
+  private TaskPriority priority;
+
+  @Column(name = "due_date", nullable = false)
+  private LocalDate dueDate;
+
+  @Column(nullable = false)
+  private long version;
+
+  @Column(name = "created_at", nullable = false)
+  private LocalDateTime createdAt;
+
+  @Column(name = "updated_at", nullable = false)
+  private LocalDateTime updatedAt;
+
+  @Column(name = "archived_at", nullable = false)
+  private LocalDateTime archivedAt;
+
+  public UUID getId() { return id; }
+  public String getTitle() { return title; }
+  public String getDescription() { return description; }
+  public TaskStatus getStatus() { return status; }
+  public TaskPriority getPriority() { return priority; }
+  public LocalDate getDueDate() { return dueDate; }
+  public long getVersion() { return version; }
+  public LocalDateTime getCreatedAt() { return createdAt; }
+  public LocalDateTime getUpdatedAt() { return updatedAt; }
+  public LocalDateTime getArchivedAt() { return archivedAt; }
+}
@@ -6,16 +6,24 @@ import org.hibernate.type.SqlTypes;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.UUID;
 
 @Entity
-@Table(name = "tasks")
+@Table(name = "tasks", indexes = {
+    @Index(name = "idx_tasks_created_at", columnList = "created_at"),
+    @Index(name = "idx_tasks_status_created_at", columnList = "status, created_at"),
+    @Index(name = "idx_tasks_due_date_status", columnList = "due_date, status"),
+    @Index(name = "idx_tasks_status_priority_created_at", columnList = "status, priority, created_at"),
+    @Index(name = "idx_tasks_status_priority_due_date", columnList = "status, priority, due_date"),
+    @Index(name = "idx_tasks_status_updated_at", columnList = "status, updated_at")
+})
 public class Task {
 
   @Id
-  @GeneratedValue
-  @JdbcTypeCode(SqlTypes.CHAR)
-  @Column(columnDefinition = "char(36)")
+  @GeneratedUuidV7
+  @JdbcTypeCode(SqlTypes.BINARY)
+  @Column(columnDefinition = "binary(16)")
   private UUID id;
 
   @Column(nullable = false, length = 255)
@@ -35,8 +43,22 @@ public class Task {
   @Column(name = "due_date", nullable = false)
   private LocalDate dueDate;
 
+  @Version
+  @Column(nullable = false)
+  private long version;
+
   @Column(name = "created_at", nullable = false, updatable = false)
-  private LocalDateTime createdAt = LocalDateTime.now();
+  // DATETIME(6) guarda microssegundos; truncar evita divergência entre o valor em memória e o do banco
+  private LocalDateTime createdAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+
+  // As escritas em um único comando (JPQL) atualizam a coluna na própria consulta
+  @Column(name = "updated_at", nullable = false)
+  private LocalDateTime updatedAt = createdAt;
+
+  @PreUpdate
+  void touch() {
+    updatedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+  }
 
   public UUID getId() { return id; }
   public void setId(UUID id) { this.id = id; }
@@ -56,6 +78,12 @@ public class Task {
   public LocalDate getDueDate() { return dueDate; }
   public void setDueDate(LocalDate dueDate) { this.dueDate = dueDate; }
 
+  public long getVersion() { return version; }
+  public void setVersion(long version) { this.version = version; }
+
   public LocalDateTime getCreatedAt() { return createdAt; }
   public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+
+  public LocalDateTime getUpdatedAt() { return updatedAt; }
+  public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
 }
@@ -0,0 +1,33 @@
+package com.example.taskmanager.entity;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+/**
+ * UUIDs versão 7 (RFC 9562): 48 bits de timestamp em milissegundos seguidos de bits aleatórios.
+ * Como os ids crescem com o tempo, novas linhas entram no fim do índice clusterizado do InnoDB.
+ */
+public final class UuidV7 {
+  private UuidV7() {}
+
+  public static UUID next() {
+    return at(System.currentTimeMillis());
+  }
+
+  static UUID at(long epochMillis) {
+    UUID random = UUID.randomUUID();
+    long msb = (epochMillis << 16) | 0x7000L | (random.getMostSignificantBits() & 0x0FFFL);
+    // Os bits de variante (10xx) do UUID aleatório já são os exigidos pela versão 7
+    return new UUID(msb, random.getLeastSignificantBits());
+  }
+
+  /** Bytes na ordem usada pelo Hibernate em colunas BINARY(16) (big-endian), para acesso via JDBC. */
+  public static byte[] toBytes(UUID id) {
+    return ByteBuffer.allocate(16).putLong(id.getMostSignificantBits()).putLong(id.getLeastSignificantBits()).array();
+  }
+
+  public static UUID fromBytes(byte[] bytes) {
+    ByteBuffer buffer = ByteBuffer.wrap(bytes);
+    return new UUID(buffer.getLong(), buffer.getLong());
+  }
+}
@@ -0,0 +1,21 @@
+package com.example.taskmanager.entity;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+import java.util.EnumSet;
+
+public class UuidV7Generator implements BeforeExecutionGenerator {
+
+  @Override
+  public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue, EventType eventType) {
+    return UuidV7.next();
+  }
+
+  @Override
+  public EnumSet<EventType> getEventTypes() {
+    return EventTypeSets.INSERT_ONLY;
+  }
+}
@@ -0,0 +1,16 @@
+package com.example.taskmanager.event;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Lembrete ou atraso de uma tarefa em aberto, disparado pelo {@code DueDateScheduler}.
+ *
+ * @param dueAt instante em que o evento venceu: o fim do dia da data limite (atraso) ou
+ *              {@code app.due.remind-before} antes dele (lembrete)
+ */
+public record DueDateEvent(Type type, UUID taskId, LocalDate dueDate, Instant dueAt) {
+
+  public enum Type { REMINDER, OVERDUE }
+}
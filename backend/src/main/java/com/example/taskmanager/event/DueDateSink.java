@@ -0,0 +1,13 @@
+package com.example.taskmanager.event;
+
+/**
+ * Destino dos eventos de data limite: todo bean que implementa a interface recebe cada
+ * evento, na thread do agendador e fora de transação. Uma falha é logada, não impede os
+ * demais destinos e o evento é entregue de novo a este destino a cada tick até ser aceito.
+ * A entrega é de pelo menos uma vez: após uma falha ou um reinício, o mesmo evento pode chegar
+ * mais de uma vez.
+ */
+public interface DueDateSink {
+
+  void accept(DueDateEvent event);
+}
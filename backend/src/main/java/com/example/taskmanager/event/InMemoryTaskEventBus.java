@@ -0,0 +1,44 @@
+package com.example.taskmanager.event;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Entrega síncrona dentro do processo, após o commit. Serve para uma única réplica
+ * e para testes; várias instâncias podem compartilhar o mesmo bus para simular réplicas.
+ */
+@Component
+@ConditionalOnProperty(name = "app.events.bus", havingValue = "memory")
+public class InMemoryTaskEventBus implements TaskEventBus {
+
+  private final List<Consumer<TaskChangedEvent>> listeners = new CopyOnWriteArrayList<>();
+
+  @Override
+  public void publish(TaskChangedEvent event) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      deliver(event);
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        deliver(event);
+      }
+    });
+  }
+
+  @Override
+  public void subscribe(Consumer<TaskChangedEvent> listener) {
+    listeners.add(listener);
+  }
+
+  private void deliver(TaskChangedEvent event) {
+    listeners.forEach(listener -> listener.accept(event));
+  }
+}
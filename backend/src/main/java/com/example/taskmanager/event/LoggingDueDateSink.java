@@ -0,0 +1,20 @@
+package com.example.taskmanager.event;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/** Destino padrão dos eventos de data limite: uma linha de log por evento. */
+@Component
+public class LoggingDueDateSink implements DueDateSink {
+
+  private static final Logger log = LoggerFactory.getLogger(LoggingDueDateSink.class);
+
+  @Override
+  public void accept(DueDateEvent event) {
+    switch (event.type()) {
+      case REMINDER -> log.info("Tarefa {} vence em {}", event.taskId(), event.dueDate());
+      case OVERDUE -> log.info("Tarefa {} atrasada (data limite {})", event.taskId(), event.dueDate());
+    }
+  }
+}
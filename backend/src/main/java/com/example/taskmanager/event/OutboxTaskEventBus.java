@@ -0,0 +1,195 @@
+package com.example.taskmanager.event;
+
+import com.example.taskmanager.config.EventBusProperties;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Outbox transacional na tabela {@code task_outbox}. As mudanças são gravadas na
+ * mesma transação da escrita (em um único INSERT em lote no commit) e cada réplica
+ * lê periodicamente as linhas novas pela chave primária, ignorando as próprias.
+ */
+@Component
+@ConditionalOnProperty(name = "app.events.bus", havingValue = "outbox", matchIfMissing = true)
+public class OutboxTaskEventBus implements TaskEventBus {
+
+  private static final Logger log = LoggerFactory.getLogger(OutboxTaskEventBus.class);
+
+  // Transações confirmadas fora de ordem deixam buracos temporários na sequência de ids
+  private static final Duration GAP_TIMEOUT = Duration.ofSeconds(30);
+  private static final int MAX_GAPS = 1000;
+
+  private final JdbcTemplate jdbc;
+  private final ObjectMapper objectMapper;
+  private final EventBusProperties properties;
+  private final List<Consumer<TaskChangedEvent>> listeners = new CopyOnWriteArrayList<>();
+
+  // Estado do leitor: acessado apenas pela thread do agendador
+  private final Map<Long, Instant> gaps = new HashMap<>();
+  private long lastId = -1;
+  // Publicada só no fim de cada leitura, depois de entregar as linhas aos listeners
+  private volatile Position position = new Position(-1, 0);
+  // Último commit local com mudanças: uma leitura iniciada antes dele pode não ter visto as linhas
+  private volatile long localCommit = System.nanoTime();
+
+  public OutboxTaskEventBus(JdbcTemplate jdbc, ObjectMapper objectMapper, EventBusProperties properties) {
+    this.jdbc = jdbc;
+    this.objectMapper = objectMapper;
+    this.properties = properties;
+  }
+
+  @Override
+  public void publish(TaskChangedEvent event) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      insert(List.of(event));
+      localCommit = System.nanoTime();
+      return;
+    }
+    @SuppressWarnings("unchecked")
+    List<TaskChangedEvent> pending = (List<TaskChangedEvent>) TransactionSynchronizationManager.getResource(this);
+    if (pending == null) {
+      List<TaskChangedEvent> buffer = new ArrayList<>();
+      TransactionSynchronizationManager.bindResource(this, buffer);
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void beforeCommit(boolean readOnly) {
+          insert(buffer);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+          TransactionSynchronizationManager.unbindResourceIfPossible(OutboxTaskEventBus.this);
+        }
+      });
+      // Separada da gravação, que fica por último no beforeCommit: marca o commit antes da invalidação do cache
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public int getOrder() {
+          return Ordered.HIGHEST_PRECEDENCE;
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+          if (status == STATUS_COMMITTED) localCommit = System.nanoTime();
+        }
+      });
+      pending = buffer;
+    }
+    pending.add(event);
+  }
+
+  @Override
+  public void subscribe(Consumer<TaskChangedEvent> listener) {
+    listeners.add(listener);
+  }
+
+  @Scheduled(fixedDelayString = "${app.events.poll-interval:PT1S}")
+  public void poll() {
+    long started = System.nanoTime();
+    if (lastId < 0) {
+      // Na subida não há nada em cache para invalidar: começa do fim da fila
+      lastId = jdbc.queryForObject("select coalesce(max(id), 0) from task_outbox", Long.class);
+      position = new Position(lastId, started);
+      return;
+    }
+
+    Instant now = Instant.now();
+    List<OutboxRow> rows = new ArrayList<>();
+    if (!gaps.isEmpty()) {
+      String placeholders = String.join(",", Collections.nCopies(gaps.size(), "?"));
+      rows.addAll(jdbc.query("select id, node_id, payload from task_outbox where id in (" + placeholders + ")",
+          ROW_MAPPER, gaps.keySet().toArray()));
+    }
+    List<OutboxRow> fresh = jdbc.query("select id, node_id, payload from task_outbox where id > ? order by id limit ?",
+        ROW_MAPPER, lastId, properties.pollBatch());
+    rows.addAll(fresh);
+
+    for (OutboxRow row : rows) {
+      gaps.remove(row.id());
+      if (row.id() > lastId) {
+        for (long missing = lastId + 1; missing < row.id() && gaps.size() < MAX_GAPS; missing++) {
+          gaps.put(missing, now.plus(GAP_TIMEOUT));
+        }
+        lastId = row.id();
+      }
+      if (!properties.nodeId().equals(row.nodeId())) {
+        deliver(row);
+      }
+    }
+    gaps.values().removeIf(deadline -> deadline.isBefore(now));
+    // Com buracos, réplicas no mesmo lastId podem ter aplicado conjuntos diferentes; com o lote cheio, há mais a ler
+    boolean caughtUp = gaps.isEmpty() && fresh.size() < properties.pollBatch();
+    position = new Position(caughtUp ? lastId : -1, started);
+  }
+
+  @Override
+  public long position() {
+    Position current = position;
+    return current.asOf() - localCommit > 0 ? current.id() : -1;
+  }
+
+  @Scheduled(fixedDelayString = "PT1M", initialDelayString = "PT1M")
+  public void purge() {
+    Timestamp cutoff = Timestamp.from(Instant.now().minus(properties.retention()));
+    jdbc.update("delete from task_outbox where created_at < ? limit 10000", cutoff);
+  }
+
+  private void insert(List<TaskChangedEvent> events) {
+    if (events.isEmpty()) return;
+    List<Object[]> args = new ArrayList<>(events.size());
+    for (TaskChangedEvent event : events) {
+      try {
+        args.add(new Object[]{properties.nodeId(), objectMapper.writeValueAsString(event)});
+      } catch (JsonProcessingException ex) {
+        throw new IllegalStateException("Falha ao serializar evento da tarefa " + event.id(), ex);
+      }
+    }
+    jdbc.batchUpdate("insert into task_outbox (node_id, payload) values (?, ?)", args);
+  }
+
+  private void deliver(OutboxRow row) {
+    TaskChangedEvent event;
+    try {
+      event = objectMapper.readValue(row.payload(), TaskChangedEvent.class).withOrigin(row.nodeId());
+    } catch (JsonProcessingException ex) {
+      log.warn("Evento {} do outbox ignorado: payload inválido", row.id(), ex);
+      return;
+    }
+    for (Consumer<TaskChangedEvent> listener : listeners) {
+      try {
+        listener.accept(event);
+      } catch (RuntimeException ex) {
+        log.warn("Falha ao processar evento {} do outbox", row.id(), ex);
+      }
+    }
+  }
+
+  private record OutboxRow(long id, String nodeId, String payload) {}
+
+  // Id até onde a leitura iniciada em asOf (System.nanoTime) entregou tudo, ou -1
+  private record Position(long id, long asOf) {}
+
+  private static final RowMapper<OutboxRow> ROW_MAPPER = (rs, i) ->
+      new OutboxRow(rs.getLong("id"), rs.getString("node_id"), rs.getString("payload"));
+}
@@ -0,0 +1,90 @@
+package com.example.taskmanager.event;
+
+import com.example.taskmanager.dto.TaskResponse;
+import com.example.taskmanager.entity.TaskPriority;
+import com.example.taskmanager.entity.TaskStatus;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Mudança em uma tarefa, publicada pelo {@code TaskService} dentro da transação.
+ * {@code previous} e {@code current} só são preenchidos quando o serviço já tem o
+ * estado em mãos; os caminhos de escrita em um único comando não releem a linha e
+ * trazem só o {@code before}, lido e travado na mesma transação.
+ *
+ * @param status     status após a mudança, quando conhecido
+ * @param before     status, prioridade e data limite antes de uma mudança de status, exclusão
+ *                   ou arquivamento; nulo quando não lido (ou vindo de uma réplica mais antiga)
+ * @param occurredAt instante em que a mudança foi feita
+ * @param origin     réplica de origem; nulo para mudanças feitas neste processo
+ */
+public record TaskChangedEvent(
+    Type type,
+    UUID id,
+    TaskStatus status,
+    TaskResponse previous,
+    TaskResponse current,
+    Slot before,
+    Instant occurredAt,
+    String origin
+) {
+
+  public enum Type { CREATED, UPDATED, STATUS_CHANGED, DELETED, ARCHIVED, IMPORTED }
+
+  /** O que o resumo do quadro conta de uma tarefa. */
+  public record Slot(TaskStatus status, TaskPriority priority, LocalDate dueDate) {}
+
+  public static TaskChangedEvent created(TaskResponse current) {
+    return local(Type.CREATED, current.id(), current.status(), null, current, null);
+  }
+
+  public static TaskChangedEvent updated(TaskResponse previous, TaskResponse current) {
+    return local(Type.UPDATED, current.id(), current.status(), previous, current, null);
+  }
+
+  public static TaskChangedEvent statusChanged(UUID id, TaskStatus status) {
+    return statusChanged(id, status, null);
+  }
+
+  public static TaskChangedEvent statusChanged(UUID id, TaskStatus status, Slot before) {
+    return local(Type.STATUS_CHANGED, id, status, null, null, before);
+  }
+
+  public static TaskChangedEvent deleted(UUID id) {
+    return deleted(id, null);
+  }
+
+  public static TaskChangedEvent deleted(UUID id, Slot before) {
+    return local(Type.DELETED, id, null, null, null, before);
+  }
+
+  /** Saiu da tabela do quadro para o arquivo; continua disponível por id. */
+  public static TaskChangedEvent archived(UUID id, Slot before) {
+    return local(Type.ARCHIVED, id, TaskStatus.DONE, null, null, before);
+  }
+
+  /**
+   * Um bloco de tarefas criado de uma vez pela importação. Sem id nem estado: quem mantém
+   * algo em memória recarrega do banco, em vez de receber um evento por tarefa.
+   */
+  public static TaskChangedEvent imported() {
+    return local(Type.IMPORTED, null, null, null, null, null);
+  }
+
+  private static TaskChangedEvent local(Type type, UUID id, TaskStatus status, TaskResponse previous,
+                                        TaskResponse current, Slot before) {
+    return new TaskChangedEvent(type, id, status, previous, current, before, Instant.now(), null);
+  }
+
+  @JsonIgnore
+  public boolean isRemote() {
+    return origin != null;
+  }
+
+  public TaskChangedEvent withOrigin(String origin) {
+    return new TaskChangedEvent(type, id, status, previous, current, before, occurredAt, origin);
+  }
+}
@@ -0,0 +1,58 @@
+package com.example.taskmanager.event;
+
+import com.example.taskmanager.config.EventBusProperties;
+import com.example.taskmanager.dto.EventBusStatsResponse;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Liga os eventos locais do Spring ao {@link TaskEventBus}: mudanças feitas aqui
+ * seguem para as outras réplicas, e as recebidas delas são republicadas como
+ * {@link TaskChangedEvent} remotos para os mesmos listeners (cache, versão do quadro...).
+ */
+@Component
+public class TaskEventBridge {
+
+  private final TaskEventBus bus;
+  private final ApplicationEventPublisher publisher;
+  private final EventBusProperties properties;
+
+  private final AtomicLong received = new AtomicLong();
+  private final AtomicLong lastLagMillis = new AtomicLong();
+  private final AtomicLong maxLagMillis = new AtomicLong();
+
+  public TaskEventBridge(TaskEventBus bus, ApplicationEventPublisher publisher, EventBusProperties properties) {
+    this.bus = bus;
+    this.publisher = publisher;
+    this.properties = properties;
+    bus.subscribe(this::receive);
+  }
+
+  // Listener síncrono: roda dentro da transação da escrita, que decide se o evento sai
+  @EventListener
+  public void forward(TaskChangedEvent event) {
+    if (!event.isRemote()) {
+      bus.publish(event.withOrigin(properties.nodeId()));
+    }
+  }
+
+  void receive(TaskChangedEvent event) {
+    if (properties.nodeId().equals(event.origin())) return;
+
+    long lag = Math.max(0, Duration.between(event.occurredAt(), Instant.now()).toMillis());
+    received.incrementAndGet();
+    lastLagMillis.set(lag);
+    maxLagMillis.accumulateAndGet(lag, Math::max);
+    publisher.publishEvent(event);
+  }
+
+  public EventBusStatsResponse stats() {
+    return new EventBusStatsResponse(properties.nodeId(), properties.bus(), received.get(),
+        lastLagMillis.get(), maxLagMillis.get());
+  }
+}
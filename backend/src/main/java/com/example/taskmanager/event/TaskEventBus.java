@@ -0,0 +1,31 @@
+package com.example.taskmanager.event;
+
+import java.util.function.Consumer;
+
+/**
+ * Canal que leva as mudanças de tarefas de uma réplica às demais, para que caches
+ * e estados pré-calculados em memória convirjam.
+ */
+public interface TaskEventBus {
+
+  /**
+   * Publica uma mudança local. Chamado dentro da transação da escrita: a entrega
+   * só acontece se ela for confirmada.
+   */
+  void publish(TaskChangedEvent event);
+
+  /**
+   * Registra quem recebe as mudanças publicadas pelas réplicas.
+   */
+  void subscribe(Consumer<TaskChangedEvent> listener);
+
+  /**
+   * Posição na sequência compartilhada de mudanças até a qual todas, de todas as réplicas,
+   * já foram entregues a este processo, inclusive as que ele mesmo confirmou; a mesma posição
+   * em duas réplicas quer dizer o mesmo conjunto de mudanças aplicado. -1 se o canal não tem
+   * sequência compartilhada ou se ainda há mudanças não lidas ou buracos não resolvidos.
+   */
+  default long position() {
+    return -1;
+  }
+}
@@ -1,7 +1,12 @@
 package com.example.taskmanager.exception;
 
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -20,6 +25,44 @@ public class GlobalExceptionHandler {
     );
   }
 
+  @ExceptionHandler(BadRequestException.class)
+  public ResponseEntity<ApiError> handleBadRequest(BadRequestException ex) {
+    return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(
+        new ApiError(400, ex.getMessage(), LocalDateTime.now(), null)
+    );
+  }
+
+  @ExceptionHandler(PreconditionFailedException.class)
+  public ResponseEntity<ApiError> handlePreconditionFailed(PreconditionFailedException ex) {
+    return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(
+        new ApiError(412, ex.getMessage(), LocalDateTime.now(), null)
+    );
+  }
+
+  @ExceptionHandler(OptimisticLockingFailureException.class)
+  public ResponseEntity<ApiError> handleOptimisticLock(OptimisticLockingFailureException ex) {
+    return ResponseEntity.status(HttpStatus.CONFLICT).body(
+        new ApiError(409, "A tarefa foi alterada por outra requisição", LocalDateTime.now(), null)
+    );
+  }
+
+  @ExceptionHandler(TooManyRequestsException.class)
+  public ResponseEntity<ApiError> handleTooManyRequests(TooManyRequestsException ex) {
+    return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+        .header(HttpHeaders.RETRY_AFTER, Long.toString(ex.getRetryAfterSeconds()))
+        .body(new ApiError(429, ex.getMessage(), LocalDateTime.now(), null));
+  }
+
+  // Pool de conexões saturado (bulkhead ou Hikari) ou escritas cortadas pelo limite adaptativo:
+  // o cliente deve tentar de novo em instantes
+  @ExceptionHandler({CannotCreateTransactionException.class, CannotGetJdbcConnectionException.class,
+      OverloadedException.class})
+  public ResponseEntity<ApiError> handleUnavailable(Exception ex) {
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "1").body(
+        new ApiError(503, "Servidor sobrecarregado, tente novamente", LocalDateTime.now(), null)
+    );
+  }
+
   @ExceptionHandler(MethodArgumentNotValidException.class)
   public ResponseEntity<ApiError> handleValidation(MethodArgumentNotValidException ex) {
     Map<String, String> fieldErrors = new LinkedHashMap<>();
@@ -31,6 +74,14 @@ public class GlobalExceptionHandler {
     );
   }
 
+  // Corpo ausente ou que não pôde ser lido (JSON, CBOR, Smile ou Protobuf malformado)
+  @ExceptionHandler(HttpMessageNotReadableException.class)
+  public ResponseEntity<ApiError> handleNotReadable(HttpMessageNotReadableException ex) {
+    return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(
+        new ApiError(400, "Corpo da requisição inválido", LocalDateTime.now(), null)
+    );
+  }
+
   @ExceptionHandler(Exception.class)
   public ResponseEntity<ApiError> handleGeneric(Exception ex) {
     return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(
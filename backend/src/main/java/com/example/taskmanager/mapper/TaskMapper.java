@@ -1,8 +1,15 @@
 package com.example.taskmanager.mapper;
 
+import com.example.taskmanager.dto.TaskCreateRequest;
 import com.example.taskmanager.dto.TaskResponse;
+import com.example.taskmanager.dto.TaskUpdateRequest;
 import com.example.taskmanager.entity.Task;
+import com.example.taskmanager.entity.TaskStatus;
 
+/**
+ * Conversões entre a entidade e os DTOs. Compartilhado com a variante reativa
+ * ({@code backend-reactive}), que compila este arquivo a partir daqui.
+ */
 public class TaskMapper {
   private TaskMapper() {}
 
@@ -14,7 +21,31 @@ public class TaskMapper {
         t.getStatus(),
         t.getPriority(),
         t.getDueDate(),
-        t.getCreatedAt()
+        t.getCreatedAt(),
+        t.getVersion()
     );
   }
+
+  /** Tarefa nova, sempre em TODO; o id fica com quem grava. */
+  public static Task toEntity(TaskCreateRequest dto) {
+    Task task = new Task();
+    task.setTitle(dto.title().trim());
+    task.setDescription(dto.description());
+    task.setDueDate(dto.dueDate());
+    task.setPriority(dto.priority());
+    task.setStatus(TaskStatus.TODO);
+    return task;
+  }
+
+  /** Aplica os campos informados; título em branco é ignorado. */
+  public static void applyUpdate(Task task, TaskUpdateRequest dto) {
+    if (dto.title() != null) {
+      String t = dto.title().trim();
+      if (!t.isEmpty()) task.setTitle(t);
+    }
+    if (dto.description() != null) task.setDescription(dto.description());
+    if (dto.status() != null) task.setStatus(dto.status());
+    if (dto.priority() != null) task.setPriority(dto.priority());
+    if (dto.dueDate() != null) task.setDueDate(dto.dueDate());
+  }
 }
@@ -0,0 +1,59 @@
+package com.example.taskmanager.mapper;
+
+import com.example.taskmanager.dto.TaskCardResponse;
+import com.example.taskmanager.dto.TaskCreateRequest;
+import com.example.taskmanager.dto.TaskResponse;
+import com.example.taskmanager.entity.TaskPriority;
+import com.example.taskmanager.entity.TaskStatus;
+import com.example.taskmanager.entity.UuidV7;
+import com.example.taskmanager.proto.Priority;
+import com.example.taskmanager.proto.Status;
+import com.example.taskmanager.proto.Task;
+import com.example.taskmanager.proto.TaskCreate;
+import com.google.protobuf.ByteString;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+/** Conversão entre os DTOs e as mensagens de {@code task.proto}. */
+public class TaskProtoMapper {
+  private TaskProtoMapper() {}
+
+  public static Task toProto(TaskResponse t) {
+    Task.Builder task = base(t.id(), t.title(), t.status(), t.priority(), t.dueDate(), t.createdAt(), t.version());
+    if (t.description() != null) task.setDescription(t.description());
+    return task.build();
+  }
+
+  /** O cartão é a mesma mensagem, sem a descrição. */
+  public static Task toProto(TaskCardResponse c) {
+    return base(c.id(), c.title(), c.status(), c.priority(), c.dueDate(), c.createdAt(), c.version()).build();
+  }
+
+  public static TaskCreateRequest fromProto(TaskCreate t) {
+    return new TaskCreateRequest(
+        t.getTitle(),
+        t.hasDescription() ? t.getDescription() : null,
+        t.hasDueDate() ? LocalDate.ofEpochDay(t.getDueDate()) : null,
+        t.getPriority() == Priority.PRIORITY_UNSPECIFIED || t.getPriority() == Priority.UNRECOGNIZED
+            ? null : TaskPriority.valueOf(t.getPriority().name()));
+  }
+
+  public static long toMicros(LocalDateTime time) {
+    return time.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + time.getNano() / 1000;
+  }
+
+  private static Task.Builder base(UUID id, String title, TaskStatus status, TaskPriority priority,
+                                   LocalDate dueDate, LocalDateTime createdAt, long version) {
+    return Task.newBuilder()
+        .setId(ByteString.copyFrom(UuidV7.toBytes(id)))
+        .setTitle(title)
+        .setStatus(Status.valueOf(status.name()))
+        .setPriority(Priority.valueOf(priority.name()))
+        .setDueDate((int) dueDate.toEpochDay())
+        .setCreatedAt(toMicros(createdAt))
+        .setVersion(version);
+  }
+}
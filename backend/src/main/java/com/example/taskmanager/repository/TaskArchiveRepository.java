@@ -0,0 +1,36 @@
+package com.example.taskmanager.repository;
+
+import com.example.taskmanager.dto.TaskResponse;
+import com.example.taskmanager.entity.ArchivedTask;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.UUID;
+
+// Consultas read-only por padrão: fora de uma transação do serviço, vão para a réplica de leitura
+@Transactional(readOnly = true)
+public interface TaskArchiveRepository extends JpaRepository<ArchivedTask, UUID> {
+
+  @Query("""
+      select new com.example.taskmanager.dto.TaskResponse(
+        a.id, a.title, a.description, a.status, a.priority, a.dueDate, a.createdAt, a.version)
+      from ArchivedTask a where a.id = :id
+      """)
+  Optional<TaskResponse> findResponseById(@Param("id") UUID id);
+
+  // Cópia feita no banco, sem trazer as linhas (e a descrição) para a aplicação
+  @Transactional
+  @Modifying(flushAutomatically = true)
+  @Query("""
+      insert into ArchivedTask (id, title, description, status, priority, dueDate, version, createdAt, updatedAt, archivedAt)
+      select t.id, t.title, t.description, t.status, t.priority, t.dueDate, t.version, t.createdAt, t.updatedAt, :archivedAt
+      from Task t where t.id in :ids
+      """)
+  int copyFromTasks(@Param("ids") Collection<UUID> ids, @Param("archivedAt") LocalDateTime archivedAt);
+}
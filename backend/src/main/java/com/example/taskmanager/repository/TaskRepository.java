@@ -1,12 +1,208 @@
 package com.example.taskmanager.repository;
 
+import com.example.taskmanager.dto.TaskCardResponse;
+import com.example.taskmanager.dto.TaskResponse;
 import com.example.taskmanager.entity.Task;
+import com.example.taskmanager.entity.TaskPriority;
 import com.example.taskmanager.entity.TaskStatus;
+import com.example.taskmanager.event.TaskChangedEvent;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
-public interface TaskRepository extends JpaRepository<Task, UUID> {
+// Consultas read-only por padrão: fora de uma transação do serviço, vão para a réplica de leitura
+@Transactional(readOnly = true)
+public interface TaskRepository extends JpaRepository<Task, UUID>, JpaSpecificationExecutor<Task> {
   List<Task> findByStatus(TaskStatus status);
+
+  // Leituras direto para o DTO: sem entidade gerenciada, snapshot nem dirty checking
+  @Query("""
+      select new com.example.taskmanager.dto.TaskResponse(
+        t.id, t.title, t.description, t.status, t.priority, t.dueDate, t.createdAt, t.version)
+      from Task t
+      """)
+  List<TaskResponse> findAllResponses();
+
+  @Query("""
+      select new com.example.taskmanager.dto.TaskResponse(
+        t.id, t.title, t.description, t.status, t.priority, t.dueDate, t.createdAt, t.version)
+      from Task t where t.status = :status
+      """)
+  List<TaskResponse> findResponsesByStatus(@Param("status") TaskStatus status);
+
+  @Query("""
+      select new com.example.taskmanager.dto.TaskResponse(
+        t.id, t.title, t.description, t.status, t.priority, t.dueDate, t.createdAt, t.version)
+      from Task t where t.id = :id
+      """)
+  Optional<TaskResponse> findResponseById(@Param("id") UUID id);
+
+  // Visão compacta: não lê a descrição (coluna TEXT)
+  @Query("""
+      select new com.example.taskmanager.dto.TaskCardResponse(
+        t.id, t.title, t.status, t.priority, t.dueDate, t.createdAt, t.version)
+      from Task t
+      """)
+  List<TaskCardResponse> findAllCards();
+
+  @Query("""
+      select new com.example.taskmanager.dto.TaskCardResponse(
+        t.id, t.title, t.status, t.priority, t.dueDate, t.createdAt, t.version)
+      from Task t where t.status = :status
+      """)
+  List<TaskCardResponse> findCardsByStatus(@Param("status") TaskStatus status);
+
+  // Paginação por chave (keyset) em (createdAt, id)
+  List<Task> findAllByOrderByCreatedAtAscIdAsc(Limit limit);
+
+  List<Task> findByStatusOrderByCreatedAtAscIdAsc(TaskStatus status, Limit limit);
+
+  @Query("""
+      select t from Task t
+      where t.createdAt > :createdAt or (t.createdAt = :createdAt and t.id > :id)
+      order by t.createdAt, t.id
+      """)
+  List<Task> findPageAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") UUID id, Limit limit);
+
+  @Query("""
+      select t from Task t
+      where t.status = :status
+        and (t.createdAt > :createdAt or (t.createdAt = :createdAt and t.id > :id))
+      order by t.createdAt, t.id
+      """)
+  List<Task> findPageAfterByStatus(@Param("status") TaskStatus status, @Param("createdAt") LocalDateTime createdAt,
+                                   @Param("id") UUID id, Limit limit);
+
+  // Leitura em streaming: entidades somente leitura, buscadas em lotes pelo driver
+  @QueryHints({
+      @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+      @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+  })
+  @Query("select t from Task t order by t.createdAt, t.id")
+  Stream<Task> streamAll();
+
+  @QueryHints({
+      @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+      @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+  })
+  @Query("select t from Task t where t.status = :status order by t.createdAt, t.id")
+  Stream<Task> streamByStatus(@Param("status") TaskStatus status);
+
+  // Resumo do quadro: atendido pelo índice (status, priority, due_date), uma linha por combinação
+  @Query("""
+      select t.status as status, t.priority as priority, t.dueDate as dueDate, count(t) as total
+      from Task t group by t.status, t.priority, t.dueDate
+      """)
+  List<SlotCount> countBySlot();
+
+  // Agendador de datas limite: carga das tarefas em aberto e, em lote, das reabertas
+  @Query("select t.id as id, t.dueDate as dueDate from Task t where t.status <> com.example.taskmanager.entity.TaskStatus.DONE")
+  List<TaskDue> findOpenDueDates();
+
+  @Query("""
+      select t.id as id, t.dueDate as dueDate from Task t
+      where t.id in :ids and t.status <> com.example.taskmanager.entity.TaskStatus.DONE
+      """)
+  List<TaskDue> findOpenDueDatesByIdIn(@Param("ids") Collection<UUID> ids);
+
+  // Busca textual pelo índice FULLTEXT (title, description), mais relevantes primeiro
+  @Query(value = """
+      select * from tasks
+      where match(title, description) against (:query in boolean mode)
+      order by match(title, description) against (:query in boolean mode) desc, id desc
+      limit :limit offset :offset
+      """, nativeQuery = true)
+  List<Task> search(@Param("query") String query, @Param("limit") int limit, @Param("offset") int offset);
+
+  // Escritas em um único comando, sem carregar a entidade antes
+  @Transactional
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query("""
+      update Task t set t.status = :status, t.version = t.version + 1, t.updatedAt = local datetime
+      where t.id = :id
+      """)
+  int updateStatusById(@Param("id") UUID id, @Param("status") TaskStatus status);
+
+  @Transactional
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query("""
+      update Task t set t.status = :status, t.version = t.version + 1, t.updatedAt = local datetime
+      where t.id = :id and t.version = :version
+      """)
+  int updateStatusByIdAndVersion(@Param("id") UUID id, @Param("version") long version,
+                                 @Param("status") TaskStatus status);
+
+  @Transactional
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query("delete from Task t where t.id = :id")
+  int removeById(@Param("id") UUID id);
+
+  // Antes de mudar o status ou excluir: quais existem e o que o resumo conta delas, travadas até o commit
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("select t.id as id, t.status as status, t.priority as priority, t.dueDate as dueDate from Task t where t.id in :ids")
+  List<TaskSlot> lockSlots(@Param("ids") Collection<UUID> ids);
+
+  // Operações em lote baseadas em conjunto (um único UPDATE/DELETE)
+
+  @Transactional
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query("""
+      update Task t set t.status = :status, t.version = t.version + 1, t.updatedAt = local datetime
+      where t.id in :ids
+      """)
+  int updateStatusByIdIn(@Param("ids") Collection<UUID> ids, @Param("status") TaskStatus status);
+
+  @Transactional
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query("delete from Task t where t.id in :ids")
+  int deleteByIdIn(@Param("ids") Collection<UUID> ids);
+
+  // Arquivamento: lote de concluídas antigas pelo índice (status, updated_at), travado até o commit
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("""
+      select t.id as id, t.status as status, t.priority as priority, t.dueDate as dueDate from Task t
+      where t.status = com.example.taskmanager.entity.TaskStatus.DONE and t.updatedAt < :cutoff
+      order by t.updatedAt
+      """)
+  List<TaskSlot> lockArchivable(@Param("cutoff") LocalDateTime cutoff, Limit limit);
+
+  interface SlotCount {
+    TaskStatus getStatus();
+    TaskPriority getPriority();
+    LocalDate getDueDate();
+    long getTotal();
+  }
+
+  interface TaskSlot {
+    UUID getId();
+    TaskStatus getStatus();
+    TaskPriority getPriority();
+    LocalDate getDueDate();
+
+    default TaskChangedEvent.Slot toSlot() {
+      return new TaskChangedEvent.Slot(getStatus(), getPriority(), getDueDate());
+    }
+  }
+
+  interface TaskDue {
+    UUID getId();
+    LocalDate getDueDate();
+  }
 }
@@ -0,0 +1,77 @@
+package com.example.taskmanager.repository;
+
+import com.example.taskmanager.dto.SortCursor;
+import com.example.taskmanager.dto.TaskSort;
+import com.example.taskmanager.entity.Task;
+import com.example.taskmanager.entity.TaskPriority;
+import com.example.taskmanager.entity.TaskStatus;
+import jakarta.persistence.criteria.Path;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/** Blocos da listagem filtrada; os que recebem só nulos não restringem nada. */
+public final class TaskSpecifications {
+
+  private TaskSpecifications() {}
+
+  public static Specification<Task> hasStatus(TaskStatus status) {
+    return (root, query, cb) -> cb.equal(root.get("status"), status);
+  }
+
+  public static Specification<Task> hasPriority(TaskPriority priority) {
+    return (root, query, cb) -> cb.equal(root.get("priority"), priority);
+  }
+
+  public static Specification<Task> dueBetween(LocalDate from, LocalDate to) {
+    return (root, query, cb) -> {
+      Path<LocalDate> due = root.get("dueDate");
+      if (from != null && to != null) return cb.between(due, from, to);
+      if (from != null) return cb.greaterThanOrEqualTo(due, from);
+      if (to != null) return cb.lessThanOrEqualTo(due, to);
+      return null;
+    };
+  }
+
+  public static Specification<Task> createdBetween(LocalDateTime from, LocalDateTime to) {
+    return (root, query, cb) -> {
+      Path<LocalDateTime> created = root.get("createdAt");
+      if (from != null && to != null) return cb.between(created, from, to);
+      if (from != null) return cb.greaterThanOrEqualTo(created, from);
+      if (to != null) return cb.lessThanOrEqualTo(created, to);
+      return null;
+    };
+  }
+
+  /**
+   * Ordena por (coluna, id). Feito aqui e não com {@code sortBy} da consulta fluente,
+   * que nesta versão do Spring Data repete as colunas no ORDER BY.
+   */
+  public static Specification<Task> orderedBy(TaskSort sort) {
+    return (root, query, cb) -> {
+      Path<?> key = root.get(sort.attribute());
+      Path<?> id = root.get("id");
+      query.orderBy(sort.descending()
+          ? List.of(cb.desc(key), cb.desc(id))
+          : List.of(cb.asc(key), cb.asc(id)));
+      return null;
+    };
+  }
+
+  /** Linhas depois do cursor na ordem (coluna, id) da ordenação dele. */
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  public static Specification<Task> after(SortCursor cursor) {
+    return (root, query, cb) -> {
+      if (cursor == null) return null;
+      Path<Comparable> key = root.get(cursor.sort().attribute());
+      Comparable value = cursor.value();
+      if (cursor.sort().descending()) {
+        return cb.or(cb.lessThan(key, value), cb.and(cb.equal(key, value), cb.lessThan(root.<UUID>get("id"), cursor.id())));
+      }
+      return cb.or(cb.greaterThan(key, value), cb.and(cb.equal(key, value), cb.greaterThan(root.<UUID>get("id"), cursor.id())));
+    };
+  }
+}
@@ -0,0 +1,75 @@
+package com.example.taskmanager.service;
+
+import com.example.taskmanager.event.TaskChangedEvent;
+import com.example.taskmanager.event.TaskEventBus;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Carimbo de versão do quadro, usado como ETag da listagem. É fraco: a mesma versão vale
+ * para todos os formatos (JSON, CBOR, Protobuf) e para o corpo comprimido, e o Tomcat não
+ * comprime respostas com ETag forte.
+ * <p>
+ * Com o outbox, o carimbo é a posição até onde esta réplica já aplicou as mudanças de todas
+ * ({@link TaskEventBus#position()}): réplicas em dia devolvem o mesmo ETag e o
+ * {@code If-None-Match} funciona atrás do balanceador. Enquanto houver uma escrita local
+ * ainda não aplicada ao cache, um buraco na sequência do outbox ou status pendentes no
+ * {@link StatusWriteBuffer} (que a listagem já mostra), o carimbo é o local: prefixo
+ * aleatório por processo e um contador que muda a cada commit, mais a geração do buffer.
+ */
+@Component
+public class BoardVersion {
+
+  private final String epoch = Long.toString(System.nanoTime() ^ System.currentTimeMillis(), 36);
+  private final AtomicLong counter = new AtomicLong();
+  // Escritas locais entre a publicação do evento e a invalidação do cache após o commit
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private final StatusWriteBuffer writeBuffer;
+  private final ObjectProvider<TaskEventBus> bus;
+
+  public BoardVersion(StatusWriteBuffer writeBuffer, ObjectProvider<TaskEventBus> bus) {
+    this.writeBuffer = writeBuffer;
+    this.bus = bus;
+  }
+
+  public String etag() {
+    boolean quiet = inFlight.get() == 0 && !writeBuffer.hasPending();
+    TaskEventBus events = bus.getIfAvailable();
+    long position = events == null ? -1 : events.position();
+    if (quiet && position >= 0) return "W/\"p" + position + "\"";
+    return "W/\"" + epoch + "-" + counter.get() + "." + writeBuffer.generation() + "\"";
+  }
+
+  // Síncrono, dentro da transação da escrita: a posição compartilhada fica suspensa até o cache ser invalidado
+  @EventListener
+  public void onLocalChange(TaskChangedEvent event) {
+    if (event.isRemote() || !TransactionSynchronizationManager.isSynchronizationActive()) return;
+    inFlight.incrementAndGet();
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public int getOrder() {
+        return TaskCache.INVALIDATION_ORDER + 1;
+      }
+
+      @Override
+      public void afterCompletion(int status) {
+        inFlight.decrementAndGet();
+      }
+    });
+  }
+
+  // Só depois da invalidação do TaskCache: quem vê o ETag novo não pode receber a lista antiga
+  @Order(TaskCache.INVALIDATION_ORDER + 1)
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onTaskChanged(TaskChangedEvent event) {
+    counter.incrementAndGet();
+  }
+}
@@ -0,0 +1,100 @@
+package com.example.taskmanager.service;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Leitor de CSV (RFC 4180) registro a registro, sem carregar o arquivo: campos entre
+ * aspas podem conter o separador, quebras de linha e aspas duplicadas ({@code ""}).
+ */
+final class CsvReader {
+
+  // Uma aspa sem fechamento engoliria o resto do arquivo num único campo
+  static final int MAX_FIELD_LENGTH = 65_535;
+
+  private final Reader in;
+  private final char delimiter;
+  private int unread = -2;
+  private long line = 1;
+
+  CsvReader(Reader in, char delimiter) {
+    this.in = in;
+    this.delimiter = delimiter;
+  }
+
+  /** Próximo registro, ou {@code null} no fim do arquivo. */
+  List<String> next() throws IOException {
+    int c = read();
+    if (c == -1) return null;
+    List<String> fields = new ArrayList<>();
+    StringBuilder field = new StringBuilder();
+    boolean quoted = false;
+    boolean wasQuoted = false;
+    while (true) {
+      if (quoted) {
+        if (c == -1) throw new CsvException("Aspas sem fechamento", line);
+        if (c == '"') {
+          int n = read();
+          if (n == '"') {
+            append(field, '"');
+          } else {
+            quoted = false;
+            c = n;
+            continue;
+          }
+        } else {
+          if (c == '\n') line++;
+          append(field, (char) c);
+        }
+      } else if (c == '"' && field.isEmpty() && !wasQuoted) {
+        quoted = wasQuoted = true;
+      } else if (c == delimiter) {
+        fields.add(field.toString());
+        field.setLength(0);
+        wasQuoted = false;
+      } else if (c == '\n' || c == -1) {
+        break;
+      } else if (c == '\r') {
+        int n = read();
+        if (n != '\n') unread = n;
+        break;
+      } else {
+        append(field, (char) c);
+      }
+      c = read();
+    }
+    fields.add(field.toString());
+    line++;
+    return fields;
+  }
+
+  /** Linha física em que começa o próximo registro. */
+  long line() {
+    return line;
+  }
+
+  private void append(StringBuilder field, char c) {
+    if (field.length() == MAX_FIELD_LENGTH) {
+      throw new CsvException("Campo com mais de " + MAX_FIELD_LENGTH + " caracteres", line);
+    }
+    field.append(c);
+  }
+
+  private int read() throws IOException {
+    if (unread != -2) {
+      int c = unread;
+      unread = -2;
+      return c;
+    }
+    return in.read();
+  }
+
+  /** Erro de formato que impede continuar a leitura. */
+  static final class CsvException extends RuntimeException {
+    CsvException(String message, long line) {
+      super(message + " (linha " + line + ")");
+    }
+  }
+}
@@ -0,0 +1,367 @@
+package com.example.taskmanager.service;
+
+import com.example.taskmanager.config.DueDateProperties;
+import com.example.taskmanager.config.ReadRouting;
+import com.example.taskmanager.entity.TaskStatus;
+import com.example.taskmanager.event.DueDateEvent;
+import com.example.taskmanager.event.DueDateSink;
+import com.example.taskmanager.event.TaskChangedEvent;
+import com.example.taskmanager.repository.TaskRepository;
+import com.example.taskmanager.repository.TaskRepository.TaskDue;
+import com.example.taskmanager.service.TimingWheel.Timer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Dispara, para as tarefas em aberto, um lembrete ({@code app.due.remind-before} antes do
+ * fim do dia da data limite) e o aviso de atraso (no fim desse dia) aos {@link DueDateSink}s.
+ * As datas ficam numa {@link TimingWheel} em memória, carregada do banco uma vez e mantida
+ * pelas mudanças publicadas pelo {@link TaskService}, inclusive as de outras réplicas: cada
+ * tick custa O(1) mais os eventos vencidos, sem varrer a tabela. Uma tarefa que sai de DONE
+ * não traz a data limite no evento; as reabertas são lidas juntas no tick seguinte, fora da
+ * thread da requisição. Um bloco da importação não traz as tarefas: a roda é recarregada do
+ * banco no tick seguinte, e só as tarefas novas podem disparar o que já venceu.
+ * <p>
+ * Entrega de pelo menos uma vez: o destino que falha recebe o evento de novo a cada tick até
+ * aceitar. Após cada tick é gravado em {@code scheduler_watermarks} o instante processado, mas
+ * nunca além do evento mais antigo ainda não entregue; ao subir, o que venceu entre essa marca
+ * e agora é disparado (só o atraso, se o lembrete também passou) e o que venceu antes dela não
+ * se repete. Sem marca, começa do instante atual. Com várias réplicas, todas disparam: deixe o
+ * agendador ligado em uma só ou deduplique no destino.
+ */
+@Component
+@ConditionalOnProperty(name = "app.due.enabled", havingValue = "true", matchIfMissing = true)
+public class DueDateScheduler {
+
+  private static final Logger log = LoggerFactory.getLogger(DueDateScheduler.class);
+
+  static final String WATERMARK = "due-dates";
+  // Tamanho da lista IN na leitura das tarefas reabertas
+  static final int REOPENED_BATCH = 500;
+
+  private final TaskRepository repository;
+  private final JdbcTemplate jdbc;
+  private final List<DueDateSink> sinks;
+  private final long tickMillis;
+  private final long remindBeforeMillis;
+  private final ZoneId zone;
+  private final Map<DueDateEvent.Type, Counter> fired = new EnumMap<>(DueDateEvent.Type.class);
+
+  private final ReentrantLock lock = new ReentrantLock();
+  private TimingWheel<DueDateEvent> wheel = new TimingWheel<>(0);
+  // Tarefas em aberto: a data limite agendada e os timers ainda pendentes
+  private Map<UUID, Entry> tasks = new HashMap<>();
+  private volatile boolean loaded;
+  // Mudanças recebidas durante a carga, reaplicadas sobre o resultado dela
+  private volatile List<Change> pending;
+  // Importação em bloco: a carga é refeita no próximo tick
+  private volatile boolean reloadRequested;
+  // Tarefas que saíram de DONE, com o carimbo do último evento: lidas do banco no próximo tick
+  private final Map<UUID, Long> reopened = new LinkedHashMap<>();
+  private long reopenStamp;
+  // Entregas que falharam; só a thread do agendador mexe aqui
+  private final List<Delivery> undelivered = new ArrayList<>();
+
+  public DueDateScheduler(TaskRepository repository, JdbcTemplate jdbc, List<DueDateSink> sinks,
+                          DueDateProperties properties, MeterRegistry registry) {
+    this.repository = repository;
+    this.jdbc = jdbc;
+    this.sinks = sinks;
+    this.tickMillis = properties.tick().toMillis();
+    this.remindBeforeMillis = properties.remindBefore().toMillis();
+    this.zone = properties.zone() != null ? properties.zone() : ZoneId.systemDefault();
+    for (DueDateEvent.Type type : DueDateEvent.Type.values()) {
+      fired.put(type, Counter.builder("app.due.events")
+          .description("Eventos de data limite disparados")
+          .tag("type", type.name().toLowerCase(Locale.ROOT)).register(registry));
+    }
+    Gauge.builder("app.due.scheduled", this, DueDateScheduler::scheduled)
+        .description("Lembretes e atrasos aguardando na roda de tempo").register(registry);
+    Gauge.builder("app.due.undelivered", undelivered, List::size)
+        .description("Entregas que falharam e serão repetidas no próximo tick").register(registry);
+  }
+
+  @Scheduled(fixedDelayString = "${app.due.tick:PT1M}")
+  public void tick() {
+    tick(Instant.now());
+  }
+
+  void tick(Instant now) {
+    if (!loaded || reloadRequested) load(now);
+    resolveReopened();
+    List<DueDateEvent> due = new ArrayList<>();
+    lock.lock();
+    try {
+      wheel.advance(floorTick(now), due::add);
+    } finally {
+      lock.unlock();
+    }
+    List<Delivery> retries = List.copyOf(undelivered);
+    undelivered.clear();
+    for (Delivery delivery : retries) {
+      deliver(delivery.event(), delivery.sink(), true);
+    }
+    for (DueDateEvent event : due) {
+      fired.get(event.type()).increment();
+      for (DueDateSink sink : sinks) {
+        deliver(event, sink, false);
+      }
+    }
+    writeWatermark(watermark(now));
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onTaskChanged(TaskChangedEvent event) {
+    if (!loaded && pending == null) return;
+    if (event.type() == TaskChangedEvent.Type.IMPORTED) {
+      reloadRequested = true;
+      return;
+    }
+    Change change = resolve(event);
+    lock.lock();
+    try {
+      if (change == null) {
+        // Mudou de coluna: só interessa se saiu de DONE, e aí a data limite vem do banco no próximo tick
+        if (event.type() == TaskChangedEvent.Type.STATUS_CHANGED && !tasks.containsKey(event.id())) {
+          reopened.put(event.id(), ++reopenStamp);
+        }
+        return;
+      }
+      // Um evento com o estado completo vale mais que a leitura pendente da reabertura
+      reopened.remove(event.id());
+      if (pending != null) pending.add(change);
+      if (loaded) apply(change, Long.MIN_VALUE, wheel.nextTick() - 1);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private static Change resolve(TaskChangedEvent event) {
+    return switch (event.type()) {
+      case CREATED, UPDATED -> {
+        if (event.current() == null) yield null;
+        yield event.current().status() == TaskStatus.DONE
+            ? new Change(event.id(), null)
+            : new Change(event.id(), event.current().dueDate());
+      }
+      case STATUS_CHANGED -> event.status() == TaskStatus.DONE ? new Change(event.id(), null) : null;
+      case DELETED, ARCHIVED -> new Change(event.id(), null);
+      case IMPORTED -> null;
+    };
+  }
+
+  /**
+   * Agenda as tarefas reabertas desde o último tick, com uma consulta por lote. Uma tarefa que
+   * recebeu outro evento enquanto a consulta rodava fica para o próximo tick.
+   */
+  private void resolveReopened() {
+    Map<UUID, Long> batch;
+    lock.lock();
+    try {
+      if (reopened.isEmpty()) return;
+      batch = new LinkedHashMap<>(reopened);
+    } finally {
+      lock.unlock();
+    }
+
+    Map<UUID, LocalDate> open = new HashMap<>();
+    List<UUID> ids = List.copyOf(batch.keySet());
+    try {
+      for (int from = 0; from < ids.size(); from += REOPENED_BATCH) {
+        List<UUID> chunk = ids.subList(from, Math.min(from + REOPENED_BATCH, ids.size()));
+        ReadRouting.onPrimary(() -> repository.findOpenDueDatesByIdIn(chunk))
+            .forEach(row -> open.put(row.getId(), row.getDueDate()));
+      }
+    } catch (RuntimeException ex) {
+      log.warn("Falha ao ler as datas limite de {} tarefas reabertas; nova tentativa no próximo tick", ids.size(), ex);
+      return;
+    }
+
+    lock.lock();
+    try {
+      batch.forEach((id, stamp) -> {
+        if (!reopened.remove(id, stamp)) return;
+        LocalDate dueDate = open.get(id);
+        if (dueDate != null && !tasks.containsKey(id)) {
+          apply(new Change(id, dueDate), Long.MIN_VALUE, wheel.nextTick() - 1);
+        }
+      });
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void deliver(DueDateEvent event, DueDateSink sink, boolean retry) {
+    try {
+      sink.accept(event);
+    } catch (RuntimeException ex) {
+      undelivered.add(new Delivery(event, sink));
+      if (!retry) {
+        log.error("Falha ao entregar {} da tarefa {} a {}; nova tentativa no próximo tick", event.type(),
+            event.taskId(), sink.getClass().getSimpleName(), ex);
+      }
+    }
+  }
+
+  /** Até onde tudo foi entregue: o tick anterior ao do evento mais antigo ainda pendente. */
+  private Instant watermark(Instant now) {
+    long oldest = Long.MAX_VALUE;
+    for (Delivery delivery : undelivered) {
+      oldest = Math.min(oldest, ceilTick(delivery.event().dueAt()));
+    }
+    if (oldest == Long.MAX_VALUE) return now;
+    return Instant.ofEpochMilli(Math.min(now.toEpochMilli(), oldest * tickMillis - 1));
+  }
+
+  private void load(Instant now) {
+    boolean reload = loaded;
+    Instant watermark = reload ? null : readWatermark(now);
+    reloadRequested = false;
+    lock.lock();
+    try {
+      pending = new ArrayList<>();
+    } finally {
+      lock.unlock();
+    }
+
+    List<TaskDue> rows;
+    try {
+      rows = ReadRouting.onPrimary(repository::findOpenDueDates);
+    } catch (RuntimeException ex) {
+      lock.lock();
+      try {
+        pending = null;
+      } finally {
+        lock.unlock();
+      }
+      if (reload) reloadRequested = true;
+      throw ex;
+    }
+
+    lock.lock();
+    try {
+      // Na recarga, a roda atual sabe até onde já disparou; na subida, a marca gravada
+      long firedUntil = reload ? wheel.nextTick() - 1 : floorTick(watermark);
+      long current = floorTick(now);
+      Map<UUID, Entry> known = tasks;
+      wheel = new TimingWheel<>(firedUntil + 1);
+      tasks = new HashMap<>(Math.max(16, rows.size() * 4 / 3 + 1));
+      for (TaskDue row : rows) {
+        // O que venceu até a marca já foi disparado; tarefa nova (importada) ainda não disparou nada
+        long skipBefore = reload && !known.containsKey(row.getId()) ? Long.MIN_VALUE : firedUntil + 1;
+        apply(new Change(row.getId(), row.getDueDate()), skipBefore, current);
+      }
+      List<Change> replay = pending;
+      pending = null;
+      replay.forEach(change -> apply(change, Long.MIN_VALUE, current));
+      loaded = true;
+      log.info("Agendador de datas limite carregado: {} tarefas em aberto, {} lembretes e atrasos agendados",
+          tasks.size(), wheel.size());
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Aplica uma mudança: timers antes de {@code skipBefore} são descartados e, se o atraso
+   * vence até {@code now}, o lembrete não é agendado.
+   */
+  private void apply(Change change, long skipBefore, long now) {
+    Entry previous = tasks.get(change.id());
+    if (previous != null) {
+      if (previous.dueDate().equals(change.dueDate())) return;
+      wheel.cancel(previous.reminder());
+      wheel.cancel(previous.overdue());
+      tasks.remove(change.id());
+    }
+    if (change.dueDate() == null) return;
+
+    Instant deadline = change.dueDate().plusDays(1).atStartOfDay(zone).toInstant();
+    long overdueTick = ceilTick(deadline);
+    Timer<DueDateEvent> overdue = null;
+    Timer<DueDateEvent> reminder = null;
+    if (overdueTick >= skipBefore) {
+      overdue = wheel.schedule(overdueTick,
+          new DueDateEvent(DueDateEvent.Type.OVERDUE, change.id(), change.dueDate(), deadline));
+    }
+    if (remindBeforeMillis > 0 && overdueTick > now) {
+      Instant remindAt = deadline.minusMillis(remindBeforeMillis);
+      long reminderTick = ceilTick(remindAt);
+      if (reminderTick >= skipBefore) {
+        reminder = wheel.schedule(reminderTick,
+            new DueDateEvent(DueDateEvent.Type.REMINDER, change.id(), change.dueDate(), remindAt));
+      }
+    }
+    tasks.put(change.id(), new Entry(change.dueDate(), reminder, overdue));
+  }
+
+  private Instant readWatermark(Instant now) {
+    try {
+      List<Long> rows = jdbc.queryForList("select fired_until from scheduler_watermarks where name = ?",
+          Long.class, WATERMARK);
+      return rows.isEmpty() ? now : Instant.ofEpochMilli(rows.get(0));
+    } catch (DataAccessException ex) {
+      log.warn("Marca do agendador de datas limite indisponível; começando do instante atual", ex);
+      return now;
+    }
+  }
+
+  private void writeWatermark(Instant now) {
+    try {
+      if (jdbc.update("update scheduler_watermarks set fired_until = ? where name = ?",
+          now.toEpochMilli(), WATERMARK) == 0) {
+        jdbc.update("insert into scheduler_watermarks (name, fired_until) values (?, ?)",
+            WATERMARK, now.toEpochMilli());
+      }
+    } catch (DataAccessException ex) {
+      log.warn("Falha ao gravar a marca do agendador de datas limite", ex);
+    }
+  }
+
+  private long floorTick(Instant instant) {
+    return Math.floorDiv(instant.toEpochMilli(), tickMillis);
+  }
+
+  // Um evento vence no primeiro tick em que o relógio já passou do seu instante
+  private long ceilTick(Instant instant) {
+    return -Math.floorDiv(-instant.toEpochMilli(), tickMillis);
+  }
+
+  int scheduled() {
+    lock.lock();
+    try {
+      return wheel.size();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /** Nova data limite de uma tarefa em aberto, ou {@code null} se ela saiu do quadro ou foi concluída. */
+  private record Change(UUID id, LocalDate dueDate) {}
+
+  private record Entry(LocalDate dueDate, Timer<DueDateEvent> reminder, Timer<DueDateEvent> overdue) {}
+
+  private record Delivery(DueDateEvent event, DueDateSink sink) {}
+}
@@ -0,0 +1,31 @@
+package com.example.taskmanager.service;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Converte o texto digitado na busca em uma expressão do {@code MATCH ... AGAINST} em
+ * modo booleano: cada palavra vira um termo obrigatório com prefixo ({@code +pal*}).
+ * Operadores do modo booleano digitados pelo usuário são descartados.
+ */
+final class FullTextQuery {
+
+  static final int MAX_TERMS = 8;
+
+  private static final Pattern SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+  private FullTextQuery() {}
+
+  /** Expressão para o modo booleano, ou vazio se não sobrar nenhuma palavra. */
+  static String booleanMode(String text) {
+    if (text == null) return "";
+    return Arrays.stream(SEPARATOR.split(text.toLowerCase(Locale.ROOT)))
+        .filter(term -> !term.isEmpty())
+        .distinct()
+        .limit(MAX_TERMS)
+        .map(term -> "+" + term + "*")
+        .collect(Collectors.joining(" "));
+  }
+}
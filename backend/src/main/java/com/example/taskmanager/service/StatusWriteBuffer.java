@@ -0,0 +1,244 @@
+package com.example.taskmanager.service;
+
+import com.example.taskmanager.config.WriteBehindProperties;
+import com.example.taskmanager.entity.TaskStatus;
+import com.example.taskmanager.event.TaskChangedEvent;
+import com.example.taskmanager.exception.ResourceNotFoundException;
+import com.example.taskmanager.repository.TaskRepository;
+import com.example.taskmanager.repository.TaskRepository.TaskSlot;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Mudanças de status do drag & drop gravadas em lote (write-behind). Cada tarefa guarda só
+ * o último status pedido; a cada {@code app.write-behind.window} as pendentes são gravadas
+ * com um SELECT de existência e um UPDATE por status de destino, numa transação.
+ * <p>
+ * Ordem: as gravações (do ciclo ou de {@link #flush(Collection)}) acontecem uma de cada vez,
+ * e o {@link TaskService} grava as pendentes de uma tarefa antes de qualquer outra escrita
+ * nela. Os eventos saem no commit do lote, como numa escrita direta.
+ * <p>
+ * A trava é do processo inteiro e quem a segura precisa de uma conexão: por isso
+ * {@link #flush(Collection)} recusa ser chamado com uma transação aberta.
+ */
+@Component
+public class StatusWriteBuffer {
+
+  private static final Logger log = LoggerFactory.getLogger(StatusWriteBuffer.class);
+
+  private final TaskRepository repository;
+  private final ApplicationEventPublisher events;
+  private final WriteBehindProperties properties;
+  private final TransactionTemplate transaction;
+
+  private final Map<UUID, Pending> pending = new ConcurrentHashMap<>();
+  // Uma gravação por vez: um ciclo em andamento não pode ser ultrapassado por outra escrita
+  private final ReentrantLock flushLock = new ReentrantLock();
+  private final ScheduledExecutorService flusher;
+  // Conta as mudanças recebidas: entra no ETag do quadro, que já mostra as pendentes
+  private final AtomicLong generation = new AtomicLong();
+
+  private final Counter submitted;
+  private final Counter written;
+  private final Counter statements;
+
+  public StatusWriteBuffer(TaskRepository repository, ApplicationEventPublisher events, WriteBehindProperties properties,
+                           PlatformTransactionManager transactionManager, MeterRegistry registry) {
+    this.repository = repository;
+    this.events = events;
+    this.properties = properties;
+    this.transaction = new TransactionTemplate(transactionManager);
+
+    this.submitted = Counter.builder("app.write-behind.submitted")
+        .description("Mudanças de status recebidas pelo buffer").register(registry);
+    this.written = Counter.builder("app.write-behind.written")
+        .description("Tarefas gravadas pelo buffer, após a coalescência").register(registry);
+    this.statements = Counter.builder("app.write-behind.statements")
+        .description("Comandos SQL executados pelo buffer").register(registry);
+    Gauge.builder("app.write-behind.pending", pending, Map::size)
+        .description("Tarefas com mudança de status ainda não gravada").register(registry);
+
+    if (properties.enabled()) {
+      long window = properties.window().toNanos();
+      this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "status-write-behind");
+        thread.setDaemon(true);
+        return thread;
+      });
+      this.flusher.scheduleWithFixedDelay(this::flushQuietly, window, window, TimeUnit.NANOSECONDS);
+    } else {
+      this.flusher = null;
+    }
+  }
+
+  public boolean enabled() {
+    return properties.enabled();
+  }
+
+  /** Se a resposta deve esperar o commit ({@code ack: flushed}). */
+  public boolean waitsForFlush() {
+    return properties.ack() == WriteBehindProperties.Ack.FLUSHED;
+  }
+
+  /**
+   * Enfileira o novo status da tarefa, substituindo o pendente. O futuro completa no commit do
+   * lote (com {@link ResourceNotFoundException} se a tarefa não existir mais); {@code null} se o
+   * buffer estiver cheio e a mudança tiver de ir direto ao banco.
+   */
+  public CompletableFuture<Void> submit(UUID id, TaskStatus status) {
+    if (pending.size() >= properties.maxPending() && !pending.containsKey(id)) return null;
+    CompletableFuture<Void> done = new CompletableFuture<>();
+    pending.compute(id, (key, current) -> {
+      Pending next = current == null ? new Pending() : current;
+      next.status = status;
+      next.waiters.add(done);
+      return next;
+    });
+    generation.incrementAndGet();
+    submitted.increment();
+    return done;
+  }
+
+  public Optional<TaskStatus> pendingStatus(UUID id) {
+    Pending p = pending.get(id);
+    return p == null ? Optional.empty() : Optional.of(p.status);
+  }
+
+  public boolean hasPending() {
+    return !pending.isEmpty();
+  }
+
+  /** Número de mudanças recebidas até agora; muda a cada {@link #submit}. */
+  public long generation() {
+    return generation.get();
+  }
+
+  /**
+   * Grava já as pendências destas tarefas (e espera um ciclo em andamento terminar).
+   * Deve ser chamado antes de abrir a transação da escrita que vem em seguida.
+   */
+  public void flush(Collection<UUID> ids) {
+    if (flusher == null) return;
+    if (TransactionSynchronizationManager.isActualTransactionActive()) {
+      throw new IllegalStateException("flush do write-behind dentro de uma transação: a conexão ficaria presa na espera");
+    }
+    flushLock.lock();
+    try {
+      Map<UUID, Pending> batch = new LinkedHashMap<>();
+      for (UUID id : ids) {
+        Pending p = id == null ? null : pending.remove(id);
+        if (p != null) batch.put(id, p);
+      }
+      write(batch);
+    } finally {
+      flushLock.unlock();
+    }
+  }
+
+  /** Grava todas as pendências; é o que roda a cada janela. */
+  public void flushAll() {
+    flushLock.lock();
+    try {
+      Map<UUID, Pending> batch = new LinkedHashMap<>();
+      for (UUID id : pending.keySet()) {
+        Pending p = pending.remove(id);
+        if (p != null) batch.put(id, p);
+      }
+      write(batch);
+    } finally {
+      flushLock.unlock();
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() throws InterruptedException {
+    if (flusher == null) return;
+    flusher.shutdown();
+    flusher.awaitTermination(5, TimeUnit.SECONDS);
+    flushQuietly();
+  }
+
+  private void flushQuietly() {
+    try {
+      flushAll();
+    } catch (RuntimeException ex) {
+      // Já reportado a quem esperava o lote; o ciclo continua no próximo intervalo
+      log.warn("Falha ao gravar mudanças de status pendentes", ex);
+    }
+  }
+
+  private void write(Map<UUID, Pending> batch) {
+    if (batch.isEmpty()) return;
+    Set<UUID> existing;
+    try {
+      existing = transaction.execute(status -> {
+        Map<UUID, TaskChangedEvent.Slot> found = new HashMap<>();
+        for (TaskSlot slot : repository.lockSlots(batch.keySet())) found.put(slot.getId(), slot.toSlot());
+        Map<TaskStatus, List<UUID>> byStatus = new EnumMap<>(TaskStatus.class);
+        batch.forEach((id, p) -> {
+          if (found.containsKey(id)) byStatus.computeIfAbsent(p.status, s -> new ArrayList<>()).add(id);
+        });
+        byStatus.forEach((target, ids) -> repository.updateStatusByIdIn(ids, target));
+        byStatus.forEach((target, ids) -> ids.forEach(
+            id -> events.publishEvent(TaskChangedEvent.statusChanged(id, target, found.get(id)))));
+        statements.increment(1 + byStatus.size());
+        return found.keySet();
+      });
+    } catch (RuntimeException ex) {
+      retryOrFail(batch, ex);
+      throw ex;
+    }
+    written.increment(existing.size());
+    batch.forEach((id, p) -> {
+      RuntimeException error = existing.contains(id) ? null : new ResourceNotFoundException("Task não encontrada: " + id);
+      p.waiters.forEach(w -> {
+        if (error == null) w.complete(null);
+        else w.completeExceptionally(error);
+      });
+    });
+  }
+
+  private void retryOrFail(Map<UUID, Pending> batch, RuntimeException ex) {
+    batch.forEach((id, p) -> {
+      if (waitsForFlush()) {
+        p.waiters.forEach(w -> w.completeExceptionally(ex));
+      } else {
+        // Sem ninguém esperando: volta para a fila, a menos que já exista um status mais novo
+        p.waiters.clear();
+        pending.putIfAbsent(id, p);
+      }
+    });
+  }
+
+  private static final class Pending {
+    volatile TaskStatus status;
+    final List<CompletableFuture<Void>> waiters = new ArrayList<>(1);
+  }
+}
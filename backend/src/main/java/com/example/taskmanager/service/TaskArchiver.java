@@ -0,0 +1,77 @@
+package com.example.taskmanager.service;
+
+import com.example.taskmanager.config.ArchiveProperties;
+import com.example.taskmanager.event.TaskChangedEvent;
+import com.example.taskmanager.repository.TaskArchiveRepository;
+import com.example.taskmanager.repository.TaskRepository;
+import com.example.taskmanager.repository.TaskRepository.TaskSlot;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Move as tarefas concluídas e sem alteração há mais de {@code app.archive.after} da
+ * tabela {@code tasks} para {@code tasks_archive}. Cada lote roda na sua própria transação
+ * e só as linhas dele ficam travadas, durante a cópia e a exclusão. Para o quadro a tarefa
+ * sai como numa exclusão (evento {@code ARCHIVED}); por id ela continua disponível.
+ */
+@Component
+@ConditionalOnProperty(name = "app.archive.enabled", havingValue = "true", matchIfMissing = true)
+public class TaskArchiver {
+
+  private static final Logger log = LoggerFactory.getLogger(TaskArchiver.class);
+
+  private final TaskRepository tasks;
+  private final TaskArchiveRepository archive;
+  private final ApplicationEventPublisher events;
+  private final ArchiveProperties properties;
+  private final TransactionTemplate transaction;
+
+  public TaskArchiver(TaskRepository tasks, TaskArchiveRepository archive, ApplicationEventPublisher events,
+                      ArchiveProperties properties, PlatformTransactionManager transactionManager) {
+    this.tasks = tasks;
+    this.archive = archive;
+    this.events = events;
+    this.properties = properties;
+    this.transaction = new TransactionTemplate(transactionManager);
+  }
+
+  @Scheduled(fixedDelayString = "${app.archive.interval:PT10M}", initialDelayString = "${app.archive.interval:PT10M}")
+  public void run() {
+    LocalDateTime cutoff = LocalDateTime.now().minus(properties.after());
+    int total = 0;
+    int moved;
+    do {
+      moved = archiveBatch(cutoff);
+      total += moved;
+    } while (moved == properties.batchSize());
+    if (total > 0) {
+      log.info("{} tarefas concluídas arquivadas (sem alteração desde {})", total, cutoff);
+    }
+  }
+
+  /** Arquiva até um lote de tarefas concluídas antes de {@code cutoff}; devolve quantas foram movidas. */
+  public int archiveBatch(LocalDateTime cutoff) {
+    Integer moved = transaction.execute(status -> {
+      List<TaskSlot> slots = tasks.lockArchivable(cutoff, Limit.of(properties.batchSize()));
+      if (slots.isEmpty()) return 0;
+      List<UUID> ids = slots.stream().map(TaskSlot::getId).toList();
+      archive.copyFromTasks(ids, LocalDateTime.now().truncatedTo(ChronoUnit.MICROS));
+      tasks.deleteByIdIn(ids);
+      slots.forEach(slot -> events.publishEvent(TaskChangedEvent.archived(slot.getId(), slot.toSlot())));
+      return ids.size();
+    });
+    return moved == null ? 0 : moved;
+  }
+}
@@ -0,0 +1,174 @@
+package com.example.taskmanager.service;
+
+import com.example.taskmanager.config.CacheProperties;
+import com.example.taskmanager.config.ReadRouting;
+import com.example.taskmanager.config.ReplicaProperties;
+import com.example.taskmanager.dto.CacheStatsResponse;
+import com.example.taskmanager.dto.TaskCardResponse;
+import com.example.taskmanager.dto.TaskResponse;
+import com.example.taskmanager.entity.TaskStatus;
+import com.example.taskmanager.event.TaskChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Cache de leitura (read-through) com snapshots imutáveis de {@link TaskResponse}:
+ * tarefas por id e as listas do quadro por status (completas e compactas). As entradas são invalidadas
+ * depois do commit de cada mutação publicada pelo {@link TaskService}. Com réplicas de leitura,
+ * as cargas logo após uma invalidação vêm do primário: uma réplica atrasada deixaria o dado
+ * antigo no cache até o ttl.
+ */
+@Component
+public class TaskCache implements MeterBinder {
+
+  /** Ordem do listener de invalidação: antes de quem anuncia a mudança (ETag, feed). */
+  public static final int INVALIDATION_ORDER = 0;
+
+  private static final String ALL = "ALL";
+  private static final String CARDS = "cards:";
+
+  private final boolean enabled;
+  private final Cache<UUID, TaskResponse> tasks;
+  private final Cache<String, List<?>> lists;
+  // Incrementado antes de cada invalidação; detecta cargas que cruzaram uma escrita
+  private final AtomicLong generation = new AtomicLong();
+  private final long primaryWindowNanos;
+  private volatile long lastInvalidation;
+
+  public TaskCache(CacheProperties properties, ReplicaProperties replicas) {
+    this.enabled = properties.enabled();
+    this.primaryWindowNanos = replicas.enabled() ? replicas.stickyWindow().toNanos() : 0;
+    this.lastInvalidation = System.nanoTime() - primaryWindowNanos;
+    this.tasks = Caffeine.newBuilder()
+        .maximumSize(properties.maxTasks())
+        .expireAfterWrite(properties.ttl())
+        .recordStats()
+        .build();
+    this.lists = Caffeine.newBuilder()
+        .maximumWeight(properties.maxListEntries())
+        .<String, List<?>>weigher((key, list) -> Math.max(1, list.size()))
+        .expireAfterWrite(properties.ttl())
+        .recordStats()
+        .build();
+  }
+
+  public TaskResponse getTask(UUID id, Function<UUID, TaskResponse> loader) {
+    if (!enabled) return loader.apply(id);
+    TaskResponse cached = tasks.getIfPresent(id);
+    if (cached != null) return cached;
+
+    // Fora do compute do cache: a consulta ali dentro prenderia a thread virtual ao carrier
+    long seen = generation.get();
+    TaskResponse loaded = fresh(() -> loader.apply(id));
+    tasks.put(id, loaded);
+    if (generation.get() != seen) {
+      tasks.invalidate(id);
+    }
+    return loaded;
+  }
+
+  public List<TaskResponse> getList(TaskStatus status, Supplier<List<TaskResponse>> loader) {
+    return load(column(status), loader);
+  }
+
+  public List<TaskCardResponse> getCards(TaskStatus status, Supplier<List<TaskCardResponse>> loader) {
+    return load(CARDS + column(status), loader);
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T> List<T> load(String key, Supplier<List<T>> loader) {
+    if (!enabled) return loader.get();
+
+    List<T> cached = (List<T>) lists.getIfPresent(key);
+    if (cached != null) return cached;
+
+    // Listas grandes não são carregadas dentro do cache para não bloquear as escritas
+    // que precisam invalidá-las; se houve escrita durante a carga, a entrada é descartada.
+    long seen = generation.get();
+    List<T> loaded = List.copyOf(fresh(loader));
+    lists.put(key, loaded);
+    if (generation.get() != seen) {
+      lists.invalidate(key);
+    }
+    return loaded;
+  }
+
+  @Order(INVALIDATION_ORDER)
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onTaskChanged(TaskChangedEvent event) {
+    if (!enabled) return;
+    if (event.type() == TaskChangedEvent.Type.IMPORTED) {
+      // Só tarefas novas: nenhuma estava no cache por id, mas todas as listas mudaram
+      lastInvalidation = System.nanoTime();
+      generation.incrementAndGet();
+      lists.invalidateAll();
+      return;
+    }
+
+    TaskStatus previousStatus = event.previous() != null ? event.previous().status() : null;
+    if (previousStatus == null && event.type() != TaskChangedEvent.Type.CREATED) {
+      TaskResponse cached = tasks.policy().getIfPresentQuietly(event.id());
+      previousStatus = cached != null ? cached.status() : null;
+    }
+
+    lastInvalidation = System.nanoTime();
+    generation.incrementAndGet();
+    tasks.invalidate(event.id());
+    invalidateColumn(ALL);
+    if (event.type() != TaskChangedEvent.Type.CREATED && previousStatus == null) {
+      // Estado anterior desconhecido: a tarefa pode ter saído de qualquer coluna
+      for (TaskStatus status : TaskStatus.values()) invalidateColumn(status.name());
+      return;
+    }
+    if (previousStatus != null) invalidateColumn(previousStatus.name());
+    if (event.status() != null) invalidateColumn(event.status().name());
+  }
+
+  private <T> T fresh(Supplier<T> loader) {
+    return System.nanoTime() - lastInvalidation < primaryWindowNanos ? ReadRouting.onPrimary(loader) : loader.get();
+  }
+
+  private void invalidateColumn(String column) {
+    lists.invalidate(column);
+    lists.invalidate(CARDS + column);
+  }
+
+  private static String column(TaskStatus status) {
+    return status == null ? ALL : status.name();
+  }
+
+  public void invalidateAll() {
+    lastInvalidation = System.nanoTime();
+    generation.incrementAndGet();
+    tasks.invalidateAll();
+    lists.invalidateAll();
+  }
+
+  /** Acertos, falhas, despejos e tamanho de cada cache, como {@code cache.*{cache=tasks|lists}}. */
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    CaffeineCacheMetrics.monitor(registry, tasks, "tasks");
+    CaffeineCacheMetrics.monitor(registry, lists, "lists");
+  }
+
+  public List<CacheStatsResponse> stats() {
+    return List.of(stats("tasks", tasks), stats("lists", lists));
+  }
+
+  private static CacheStatsResponse stats(String name, Cache<?, ?> cache) {
+    var s = cache.stats();
+    return new CacheStatsResponse(name, s.hitCount(), s.missCount(), s.evictionCount(), cache.estimatedSize());
+  }
+}
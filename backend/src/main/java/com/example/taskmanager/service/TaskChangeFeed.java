@@ -0,0 +1,218 @@
+package com.example.taskmanager.service;
+
+import com.example.taskmanager.config.FeedProperties;
+import com.example.taskmanager.dto.TaskChangeMessage;
+import com.example.taskmanager.event.TaskChangedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Feed de mudanças do quadro via Server-Sent Events. Cada mudança confirmada (local
+ * ou vinda de outra réplica) recebe um id sequencial e fica em um buffer circular
+ * para que clientes reconectando com {@code Last-Event-ID} recebam só o que perderam.
+ * O envio é feito fora da thread da escrita, por uma fila limitada por cliente;
+ * clientes que não acompanham são desconectados e retomam pelo último id recebido.
+ * <p>
+ * Com {@code spring.threads.virtual.enabled} cada envio roda numa thread virtual; sem
+ * elas, num pool de até {@code app.feed.senders} threads. Cada cliente tem no máximo um
+ * envio na fila do pool, então ela não passa do número de clientes conectados.
+ */
+@Component
+public class TaskChangeFeed implements DisposableBean {
+
+  private static final Logger log = LoggerFactory.getLogger(TaskChangeFeed.class);
+
+  static final String RESET = "reset";
+
+  // Ids de outra instância (ou de antes de um restart) não são comparáveis com os locais
+  private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+  private final FeedProperties properties;
+  private final Executor sender;
+  private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+  private final ReentrantLock lock = new ReentrantLock();
+  private final ArrayDeque<Entry> replay;
+  private long sequence;
+
+  public TaskChangeFeed(FeedProperties properties, Environment environment) {
+    this.properties = properties;
+    this.replay = new ArrayDeque<>(properties.replaySize());
+    this.sender = Threading.VIRTUAL.isActive(environment)
+        ? new VirtualThreadTaskExecutor("task-feed-")
+        : senderPool(properties.senders());
+  }
+
+  private static ExecutorService senderPool(int size) {
+    AtomicInteger threads = new AtomicInteger();
+    ThreadPoolExecutor pool = new ThreadPoolExecutor(size, size, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+        task -> {
+          Thread thread = new Thread(task, "task-feed-" + threads.incrementAndGet());
+          thread.setDaemon(true);
+          return thread;
+        });
+    // Sem clientes conectados o pool não segura threads
+    pool.allowCoreThreadTimeOut(true);
+    return pool;
+  }
+
+  public SseEmitter subscribe(String lastEventId) {
+    SseEmitter emitter = new SseEmitter(properties.timeout().toMillis());
+    Subscriber subscriber = new Subscriber(emitter, properties.clientQueue());
+    emitter.onCompletion(() -> subscribers.remove(subscriber));
+    emitter.onTimeout(() -> subscribers.remove(subscriber));
+    emitter.onError(ex -> subscribers.remove(subscriber));
+
+    lock.lock();
+    try {
+      // Replay enfileirado e cliente registrado sob o lock da publicação: nenhum evento ao vivo
+      // passa na frente dos perdidos, e nenhum é perdido ou repetido entre os dois
+      List<Entry> missed = lastEventId == null || lastEventId.isBlank() ? List.of() : missedSince(lastEventId);
+      // O primeiro envio confirma a resposta; sem ele o navegador não considera a conexão aberta
+      subscriber.offer(Entry.HEARTBEAT);
+      if (missed == null || missed.size() >= properties.clientQueue()) {
+        subscriber.offer(Entry.RESET);
+      } else {
+        missed.forEach(subscriber::offer);
+      }
+      subscribers.add(subscriber);
+    } finally {
+      lock.unlock();
+    }
+    return emitter;
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onTaskChanged(TaskChangedEvent event) {
+    List<Subscriber> overflowed = new ArrayList<>();
+    lock.lock();
+    try {
+      Entry entry = new Entry(epoch + "-" + (++sequence), TaskChangeMessage.of(event));
+      if (replay.size() == properties.replaySize()) replay.removeFirst();
+      replay.addLast(entry);
+      // Enfileirado ainda sob o lock, para cada cliente receber os ids em ordem; offer não bloqueia
+      for (Subscriber subscriber : subscribers) {
+        if (!subscriber.offer(entry)) overflowed.add(subscriber);
+      }
+    } finally {
+      lock.unlock();
+    }
+    for (Subscriber subscriber : overflowed) {
+      log.debug("Cliente do feed desconectado: fila cheia");
+      subscriber.close();
+    }
+  }
+
+  @Scheduled(fixedDelayString = "${app.feed.heartbeat:PT15S}")
+  public void heartbeat() {
+    for (Subscriber subscriber : subscribers) subscriber.offer(Entry.HEARTBEAT);
+  }
+
+  public int subscriberCount() {
+    return subscribers.size();
+  }
+
+  @Override
+  public void destroy() {
+    subscribers.forEach(Subscriber::close);
+    if (sender instanceof ExecutorService pool) pool.shutdownNow();
+  }
+
+  /** Eventos posteriores ao id informado, ou {@code null} se ele já saiu do buffer. */
+  private List<Entry> missedSince(String lastEventId) {
+    int dash = lastEventId.lastIndexOf('-');
+    if (dash < 0 || !lastEventId.substring(0, dash).equals(epoch)) return null;
+    long last;
+    try {
+      last = Long.parseLong(lastEventId.substring(dash + 1));
+    } catch (NumberFormatException ex) {
+      return null;
+    }
+    if (last > sequence) return null;
+    long oldest = sequence - replay.size() + 1;
+    if (last < oldest - 1) return null;
+
+    List<Entry> missed = new ArrayList<>((int) (sequence - last));
+    replay.stream().skip(last - oldest + 1).forEach(missed::add);
+    return missed;
+  }
+
+  private record Entry(String id, TaskChangeMessage message) {
+    static final Entry HEARTBEAT = new Entry(null, null);
+    // Histórico indisponível: o cliente deve recarregar o quadro inteiro
+    static final Entry RESET = new Entry(TaskChangeFeed.RESET, null);
+
+    SseEmitter.SseEventBuilder toEvent() {
+      if (message == null && id == null) return SseEmitter.event().comment("ping");
+      if (message == null) return SseEmitter.event().name(TaskChangeFeed.RESET).data("{}", MediaType.APPLICATION_JSON);
+      return SseEmitter.event().id(id).name(message.type()).data(message, MediaType.APPLICATION_JSON);
+    }
+  }
+
+  private final class Subscriber {
+    private final SseEmitter emitter;
+    private final BlockingQueue<Entry> queue;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private volatile boolean closed;
+
+    Subscriber(SseEmitter emitter, int capacity) {
+      this.emitter = emitter;
+      this.queue = new ArrayBlockingQueue<>(capacity);
+    }
+
+    boolean offer(Entry entry) {
+      if (closed) return true;
+      if (!queue.offer(entry)) return false;
+      if (draining.compareAndSet(false, true)) sender.execute(this::drain);
+      return true;
+    }
+
+    private void drain() {
+      do {
+        Entry entry;
+        while (!closed && (entry = queue.poll()) != null) {
+          try {
+            emitter.send(entry.toEvent());
+          } catch (IOException | IllegalStateException ex) {
+            close();
+          }
+        }
+        draining.set(false);
+        // Um offer pode ter chegado entre o último poll e a liberação da flag
+      } while (!closed && !queue.isEmpty() && draining.compareAndSet(false, true));
+    }
+
+    void close() {
+      if (closed) return;
+      closed = true;
+      subscribers.remove(this);
+      queue.clear();
+      emitter.complete();
+    }
+  }
+}
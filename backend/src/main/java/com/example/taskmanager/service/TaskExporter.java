@@ -0,0 +1,129 @@
+package com.example.taskmanager.service;
+
+import com.example.taskmanager.dto.TaskResponse;
+import com.example.taskmanager.entity.TaskPriority;
+import com.example.taskmanager.entity.TaskStatus;
+import com.example.taskmanager.entity.UuidV7;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Exportação das tarefas do quadro (tabela {@code tasks}) em NDJSON ou CSV, escrita
+ * direto do cursor JDBC para a resposta: sem entidades nem lista intermediária, em
+ * memória constante. O CSV usa as mesmas colunas que a importação aceita.
+ */
+@Component
+public class TaskExporter {
+
+  static final String CSV_HEADER = "id,title,description,status,priority,dueDate,createdAt,version";
+
+  // Ordem da chave primária: o cursor percorre o índice clusterizado sem ordenar
+  private static final String SELECT = """
+      select id, title, description, status, priority, due_date, created_at, version
+      from tasks order by id
+      """;
+
+  private final JdbcTemplate jdbc;
+  private final ObjectMapper objectMapper;
+
+  public TaskExporter(DataSource dataSource, ObjectMapper objectMapper) {
+    // Instância própria: o fetch size vale para todas as consultas do template
+    this.jdbc = new JdbcTemplate(dataSource);
+    this.jdbc.setFetchSize(500);
+    this.objectMapper = objectMapper;
+  }
+
+  public void writeNdjson(OutputStream out) throws IOException {
+    try (JsonGenerator gen = objectMapper.getFactory().createGenerator(out)) {
+      gen.setRootValueSeparator(null);
+      each(task -> {
+        gen.writeObject(task);
+        gen.writeRaw('\n');
+      });
+    }
+  }
+
+  public void writeCsv(OutputStream out) throws IOException {
+    Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+    writer.write(CSV_HEADER);
+    writer.write("\r\n");
+    each(task -> {
+      writer.write(task.id().toString());
+      writer.write(',');
+      writeField(writer, task.title());
+      writer.write(',');
+      writeField(writer, task.description());
+      writer.write(',');
+      writer.write(task.status().name());
+      writer.write(',');
+      writer.write(task.priority().name());
+      writer.write(',');
+      writer.write(task.dueDate().toString());
+      writer.write(',');
+      writer.write(task.createdAt().toString());
+      writer.write(',');
+      writer.write(Long.toString(task.version()));
+      writer.write("\r\n");
+    });
+    writer.flush();
+  }
+
+  /** Campo entre aspas quando contém separador, aspas ou quebra de linha (RFC 4180). */
+  static void writeField(Writer writer, String value) throws IOException {
+    if (value == null) return;
+    boolean quote = false;
+    for (int i = 0; i < value.length() && !quote; i++) {
+      char c = value.charAt(i);
+      quote = c == ',' || c == ';' || c == '"' || c == '\n' || c == '\r';
+    }
+    if (!quote) {
+      writer.write(value);
+      return;
+    }
+    writer.write('"');
+    writer.write(value.replace("\"", "\"\""));
+    writer.write('"');
+  }
+
+  private void each(RowWriter consumer) {
+    jdbc.query(SELECT, rs -> {
+      try {
+        consumer.write(toResponse(rs));
+      } catch (IOException ex) {
+        throw new UncheckedIOException(ex);
+      }
+    });
+  }
+
+  private static TaskResponse toResponse(ResultSet rs) throws SQLException {
+    return new TaskResponse(
+        UuidV7.fromBytes(rs.getBytes(1)),
+        rs.getString(2),
+        rs.getString(3),
+        TaskStatus.valueOf(rs.getString(4)),
+        TaskPriority.valueOf(rs.getString(5)),
+        rs.getObject(6, LocalDate.class),
+        rs.getObject(7, LocalDateTime.class),
+        rs.getLong(8));
+  }
+
+  @FunctionalInterface
+  private interface RowWriter {
+    void write(TaskResponse task) throws IOException;
+  }
+}
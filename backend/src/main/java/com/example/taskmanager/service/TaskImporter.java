@@ -0,0 +1,303 @@
+package com.example.taskmanager.service;
+
+import com.example.taskmanager.dto.TaskBatchItemResult;
+import com.example.taskmanager.dto.TaskImportResponse;
+import com.example.taskmanager.dto.TaskImportRow;
+import com.example.taskmanager.dto.TaskResponse;
+import com.example.taskmanager.entity.TaskPriority;
+import com.example.taskmanager.entity.TaskStatus;
+import com.example.taskmanager.entity.UuidV7;
+import com.example.taskmanager.event.TaskChangedEvent;
+import com.example.taskmanager.exception.BadRequestException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Importação de tarefas em CSV ou NDJSON lida em streaming: cada linha é convertida e
+ * validada ao chegar, e as válidas são gravadas em blocos de {@link #CHUNK_SIZE} com um
+ * batch JDBC por bloco, cada um na sua transação. A memória usada não depende do tamanho
+ * do arquivo; só os primeiros {@link #MAX_REPORTED_ERRORS} erros são listados. Cada bloco
+ * publica um único {@link TaskChangedEvent#imported()}, não um evento por tarefa.
+ * <p>
+ * Um arquivo exportado pode ser importado de volta: colunas/campos desconhecidos (id,
+ * createdAt, version) são ignorados e as tarefas recebem ids novos.
+ */
+@Component
+public class TaskImporter {
+
+  private static final Logger log = LoggerFactory.getLogger(TaskImporter.class);
+
+  static final int CHUNK_SIZE = 1000;
+  static final int MAX_REPORTED_ERRORS = 1000;
+
+  private static final String INSERT = """
+      insert into tasks (id, title, description, status, priority, due_date, version, created_at, updated_at)
+      values (?, ?, ?, ?, ?, ?, 0, ?, ?)
+      """;
+
+  private final JdbcTemplate jdbc;
+  private final ObjectReader rowReader;
+  private final Validator validator;
+  private final ApplicationEventPublisher events;
+  private final TransactionTemplate transaction;
+
+  public TaskImporter(JdbcTemplate jdbc, ObjectMapper objectMapper, Validator validator,
+                      ApplicationEventPublisher events, PlatformTransactionManager transactionManager) {
+    this.jdbc = jdbc;
+    this.rowReader = objectMapper.readerFor(TaskImportRow.class)
+        .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    this.validator = validator;
+    this.events = events;
+    this.transaction = new TransactionTemplate(transactionManager);
+  }
+
+  /** Um objeto JSON por linha; linhas em branco são ignoradas. */
+  public TaskImportResponse importNdjson(InputStream body) throws IOException {
+    Import run = new Import();
+    BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+    String line;
+    int row = 0;
+    while ((line = reader.readLine()) != null) {
+      if (line.isBlank()) continue;
+      row++;
+      TaskImportRow parsed;
+      try {
+        parsed = rowReader.readValue(line);
+      } catch (JsonProcessingException ex) {
+        run.reject(row, describe(ex));
+        continue;
+      }
+      run.accept(row, parsed);
+    }
+    return run.finish();
+  }
+
+  /**
+   * CSV com cabeçalho (title, description, dueDate, priority e, opcionalmente, status),
+   * separado por vírgula ou ponto e vírgula, conforme o cabeçalho.
+   */
+  public TaskImportResponse importCsv(InputStream body) throws IOException {
+    BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+    reader.mark(1);
+    if (reader.read() != '\uFEFF') reader.reset();
+
+    CsvReader csv = new CsvReader(reader, delimiter(reader));
+    List<String> header = csv.next();
+    if (header == null) throw new BadRequestException("Arquivo vazio");
+    Columns columns = Columns.of(header);
+
+    Import run = new Import();
+    int row = 0;
+    try {
+      List<String> record;
+      while ((record = csv.next()) != null) {
+        if (record.size() == 1 && record.get(0).isBlank()) continue;
+        row++;
+        TaskImportRow parsed;
+        try {
+          parsed = columns.toRow(record);
+        } catch (IllegalArgumentException ex) {
+          run.reject(row, ex.getMessage());
+          continue;
+        }
+        run.accept(row, parsed);
+      }
+    } catch (CsvReader.CsvException ex) {
+      // Sem como saber onde o próximo registro começa: o que veio antes já foi gravado
+      run.reject(row + 1, ex.getMessage() + "; importação interrompida");
+    }
+    return run.finish();
+  }
+
+  private static char delimiter(BufferedReader reader) throws IOException {
+    reader.mark(8192);
+    int commas = 0;
+    int semicolons = 0;
+    for (int i = 0, c; i < 8192 && (c = reader.read()) != -1 && c != '\n'; i++) {
+      if (c == ',') commas++;
+      else if (c == ';') semicolons++;
+    }
+    reader.reset();
+    return semicolons > commas ? ';' : ',';
+  }
+
+  private static String describe(JsonProcessingException ex) {
+    if (ex instanceof JsonMappingException mapping && !mapping.getPath().isEmpty()) {
+      String field = mapping.getPath().stream()
+          .map(ref -> ref.getFieldName() != null ? ref.getFieldName() : "[" + ref.getIndex() + "]")
+          .collect(Collectors.joining("."));
+      return field + ": valor inválido";
+    }
+    return "JSON inválido";
+  }
+
+  private String validate(TaskImportRow row) {
+    Set<ConstraintViolation<TaskImportRow>> violations = validator.validate(row);
+    if (violations.isEmpty()) return null;
+    return violations.stream()
+        .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+        .sorted()
+        .collect(Collectors.joining("; "));
+  }
+
+  private void write(List<Pending> chunk) {
+    transaction.executeWithoutResult(status -> {
+      jdbc.batchUpdate(INSERT, chunk, chunk.size(), (ps, pending) -> {
+        TaskResponse task = pending.task();
+        ps.setBytes(1, UuidV7.toBytes(task.id()));
+        ps.setString(2, task.title());
+        ps.setString(3, task.description());
+        ps.setString(4, task.status().name());
+        ps.setString(5, task.priority().name());
+        ps.setObject(6, task.dueDate());
+        ps.setObject(7, task.createdAt());
+        ps.setObject(8, task.createdAt());
+      });
+      events.publishEvent(TaskChangedEvent.imported());
+    });
+  }
+
+  record Pending(int row, TaskResponse task) {}
+
+  /** Estado de uma importação: o bloco em montagem, os totais e os erros listados. */
+  private final class Import {
+    private final List<Pending> chunk = new ArrayList<>(CHUNK_SIZE);
+    private final List<TaskBatchItemResult> errors = new ArrayList<>();
+    private long imported;
+    private long failed;
+
+    void accept(int row, TaskImportRow parsed) {
+      if (parsed == null) {
+        reject(row, "Item vazio");
+        return;
+      }
+      String error = validate(parsed);
+      if (error != null) {
+        reject(row, error);
+        return;
+      }
+      TaskStatus status = parsed.status() == null ? TaskStatus.TODO : parsed.status();
+      LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+      chunk.add(new Pending(row, new TaskResponse(UuidV7.next(), parsed.title(), parsed.description(), status,
+          parsed.priority(), parsed.dueDate(), now, 0L)));
+      if (chunk.size() == CHUNK_SIZE) flush();
+    }
+
+    void reject(int row, String message) {
+      failed++;
+      if (errors.size() < MAX_REPORTED_ERRORS) errors.add(new TaskBatchItemResult(row, null, 400, message));
+    }
+
+    TaskImportResponse finish() {
+      flush();
+      return new TaskImportResponse(imported, failed, List.copyOf(errors), failed > errors.size());
+    }
+
+    private void flush() {
+      if (chunk.isEmpty()) return;
+      try {
+        write(chunk);
+        imported += chunk.size();
+      } catch (DataIntegrityViolationException ex) {
+        // Um valor recusado pelo banco derruba o bloco inteiro; os demais blocos seguem
+        log.warn("Bloco da importação recusado pelo banco (linhas {} a {})",
+            chunk.get(0).row(), chunk.get(chunk.size() - 1).row(), ex);
+        for (Pending pending : chunk) {
+          failed++;
+          if (errors.size() < MAX_REPORTED_ERRORS) {
+            errors.add(new TaskBatchItemResult(pending.row(), null, 422, "Bloco recusado pelo banco"));
+          }
+        }
+      }
+      chunk.clear();
+    }
+  }
+
+  /** Posição de cada campo no CSV, a partir do cabeçalho. */
+  private record Columns(int title, int description, int dueDate, int priority, int status) {
+
+    static Columns of(List<String> header) {
+      Map<String, Integer> index = new HashMap<>();
+      for (int i = 0; i < header.size(); i++) {
+        index.putIfAbsent(key(header.get(i)), i);
+      }
+      List<String> missing = new ArrayList<>();
+      for (String required : List.of("title", "dueDate", "priority")) {
+        if (!index.containsKey(key(required))) missing.add(required);
+      }
+      if (!missing.isEmpty()) {
+        throw new BadRequestException("Cabeçalho sem as colunas obrigatórias: " + String.join(", ", missing));
+      }
+      return new Columns(index.get("title"), index.getOrDefault("description", -1), index.get(key("dueDate")),
+          index.get("priority"), index.getOrDefault("status", -1));
+    }
+
+    // dueDate, duedate e due_date são a mesma coluna
+    private static String key(String name) {
+      return name.trim().toLowerCase(Locale.ROOT).replace("_", "");
+    }
+
+    TaskImportRow toRow(List<String> record) {
+      return new TaskImportRow(
+          field(record, title),
+          field(record, description),
+          date(field(record, dueDate)),
+          constant(TaskPriority.class, "priority", field(record, priority)),
+          constant(TaskStatus.class, "status", field(record, status)));
+    }
+
+    private static String field(List<String> record, int position) {
+      if (position < 0 || position >= record.size()) return null;
+      String value = record.get(position);
+      return value.isEmpty() ? null : value;
+    }
+
+    private static LocalDate date(String value) {
+      if (value == null) return null;
+      try {
+        return LocalDate.parse(value.trim());
+      } catch (DateTimeParseException ex) {
+        throw new IllegalArgumentException("dueDate: data inválida (use AAAA-MM-DD)");
+      }
+    }
+
+    private static <E extends Enum<E>> E constant(Class<E> type, String name, String value) {
+      if (value == null) return null;
+      try {
+        return Enum.valueOf(type, value.trim().toUpperCase(Locale.ROOT));
+      } catch (IllegalArgumentException ex) {
+        throw new IllegalArgumentException(name + ": valor inválido");
+      }
+    }
+  }
+}
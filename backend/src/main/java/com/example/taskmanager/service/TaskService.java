@@ -1,36 +1,120 @@
 package com.example.taskmanager.service;
 
+import com.example.taskmanager.dto.SortCursor;
+import com.example.taskmanager.dto.TaskBatchItemResult;
+import com.example.taskmanager.dto.TaskCardResponse;
 import com.example.taskmanager.dto.TaskCreateRequest;
+import com.example.taskmanager.dto.TaskCursor;
+import com.example.taskmanager.dto.TaskFilter;
+import com.example.taskmanager.dto.TaskResponse;
+import com.example.taskmanager.dto.TaskSort;
 import com.example.taskmanager.dto.TaskStatusUpdateRequest;
 import com.example.taskmanager.dto.TaskUpdateRequest;
 import com.example.taskmanager.entity.Task;
+import com.example.taskmanager.entity.TaskPriority;
 import com.example.taskmanager.entity.TaskStatus;
+import com.example.taskmanager.event.TaskChangedEvent;
+import com.example.taskmanager.exception.BadRequestException;
+import com.example.taskmanager.exception.PreconditionFailedException;
 import com.example.taskmanager.exception.ResourceNotFoundException;
+import com.example.taskmanager.mapper.TaskMapper;
+import com.example.taskmanager.repository.TaskArchiveRepository;
 import com.example.taskmanager.repository.TaskRepository;
+import com.example.taskmanager.repository.TaskRepository.TaskSlot;
+import com.example.taskmanager.repository.TaskSpecifications;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+/**
+ * As escritas que podem esbarrar num status ainda no {@link StatusWriteBuffer} não usam
+ * {@code @Transactional}: gravam as pendências antes e só então abrem a transação, para
+ * nunca esperar o lote (que precisa da sua própria conexão) segurando uma conexão do pool.
+ */
 @Service
 public class TaskService {
 
+  public static final int DEFAULT_PAGE_SIZE = 100;
+  public static final int MAX_PAGE_SIZE = 1000;
+  public static final int MAX_BATCH_SIZE = 1000;
+  public static final int DEFAULT_SEARCH_SIZE = 20;
+  public static final int MAX_SEARCH_SIZE = 100;
+  // Alinhado a hibernate.jdbc.batch_size: a cada lote o contexto de persistência é descarregado
+  static final int FLUSH_INTERVAL = 500;
+
   private final TaskRepository repository;
+  private final EntityManager entityManager;
+  private final Validator validator;
+  private final ApplicationEventPublisher events;
+  private final TaskCache cache;
+  private final StatusWriteBuffer writeBuffer;
+  private final TaskArchiveRepository archive;
+  private final TransactionTemplate transaction;
 
-  public TaskService(TaskRepository repository) {
+  public TaskService(TaskRepository repository, EntityManager entityManager, Validator validator,
+                     ApplicationEventPublisher events, TaskCache cache, TaskArchiveRepository archive,
+                     StatusWriteBuffer writeBuffer, PlatformTransactionManager transactionManager) {
+    this.writeBuffer = writeBuffer;
+    this.transaction = new TransactionTemplate(transactionManager);
     this.repository = repository;
+    this.archive = archive;
+    this.entityManager = entityManager;
+    this.validator = validator;
+    this.events = events;
+    this.cache = cache;
   }
 
   @Transactional
   public Task create(TaskCreateRequest dto) {
-    Task task = new Task();
-    task.setTitle(dto.title().trim());
-    task.setDescription(dto.description());
-    task.setDueDate(dto.dueDate());
-    task.setPriority(dto.priority());
-    task.setStatus(TaskStatus.TODO);
-    return repository.save(task);
+    Task saved = repository.save(TaskMapper.toEntity(dto));
+    events.publishEvent(TaskChangedEvent.created(TaskMapper.toResponse(saved)));
+    return saved;
+  }
+
+  /**
+   * Cria várias tarefas numa única transação. Itens inválidos são reportados
+   * individualmente e não impedem a gravação dos demais.
+   */
+  @Transactional
+  public List<TaskBatchItemResult> createAll(List<TaskCreateRequest> dtos) {
+    checkBatchSize(dtos.size());
+    List<TaskBatchItemResult> results = new ArrayList<>(dtos.size());
+    int persisted = 0;
+    for (int i = 0; i < dtos.size(); i++) {
+      TaskCreateRequest dto = dtos.get(i);
+      String error = dto == null ? "Item vazio" : validate(dto);
+      if (error != null) {
+        results.add(new TaskBatchItemResult(i, null, 400, error));
+        continue;
+      }
+      Task task = TaskMapper.toEntity(dto);
+      entityManager.persist(task);
+      events.publishEvent(TaskChangedEvent.created(TaskMapper.toResponse(task)));
+      results.add(new TaskBatchItemResult(i, task.getId(), 201, null));
+      if (++persisted % FLUSH_INTERVAL == 0) {
+        entityManager.flush();
+        entityManager.clear();
+      }
+    }
+    return results;
   }
 
   @Transactional(readOnly = true)
@@ -38,39 +122,265 @@ public class TaskService {
     return status == null ? repository.findAll() : repository.findByStatus(status);
   }
 
+  /**
+   * Lista do quadro servida pelo {@link TaskCache}. Sem transação própria: um acerto
+   * no cache não chega a pegar conexão do pool. Já mostra os status ainda no
+   * {@link StatusWriteBuffer}: com pendências, a lista de um status sai do quadro inteiro.
+   */
+  public List<TaskResponse> list(TaskStatus status) {
+    if (!writeBuffer.hasPending()) {
+      return cache.getList(status, () ->
+          status == null ? repository.findAllResponses() : repository.findResponsesByStatus(status));
+    }
+    return cache.getList(null, repository::findAllResponses).stream()
+        .map(this::withPendingStatus)
+        .filter(t -> status == null || t.status() == status)
+        .toList();
+  }
+
+  /**
+   * Visão compacta do quadro (sem descrição), também servida pelo {@link TaskCache}.
+   */
+  public List<TaskCardResponse> listCards(TaskStatus status) {
+    if (!writeBuffer.hasPending()) {
+      return cache.getCards(status, () ->
+          status == null ? repository.findAllCards() : repository.findCardsByStatus(status));
+    }
+    return cache.getCards(null, repository::findAllCards).stream()
+        .map(c -> writeBuffer.pendingStatus(c.id())
+            .map(s -> new TaskCardResponse(c.id(), c.title(), s, c.priority(), c.dueDate(), c.createdAt(), c.version()))
+            .orElse(c))
+        .filter(c -> status == null || c.status() == status)
+        .toList();
+  }
+
+  /**
+   * Tarefa por id servida pelo {@link TaskCache}; se não estiver no quadro, é buscada no arquivo.
+   * Um status ainda no {@link StatusWriteBuffer} já aparece aqui.
+   */
+  public TaskResponse get(UUID id) {
+    return withPendingStatus(cache.getTask(id, key -> repository.findResponseById(key)
+        .or(() -> archive.findResponseById(key))
+        .orElseThrow(() -> notFound(key))));
+  }
+
+  /**
+   * Página ordenada por (createdAt, id) começando após {@code after} (ou do início, se nulo).
+   */
+  @Transactional(readOnly = true)
+  public List<Task> findPage(TaskStatus status, TaskCursor after, int limit) {
+    Limit max = Limit.of(Math.min(limit, MAX_PAGE_SIZE));
+    if (after == null) {
+      return status == null
+          ? repository.findAllByOrderByCreatedAtAscIdAsc(max)
+          : repository.findByStatusOrderByCreatedAtAscIdAsc(status, max);
+    }
+    return status == null
+        ? repository.findPageAfter(after.createdAt(), after.id(), max)
+        : repository.findPageAfterByStatus(status, after.createdAt(), after.id(), max);
+  }
+
+  /**
+   * Listagem com filtros e ordenação. Status e prioridade viram uma consulta por par
+   * (no máximo 3 x 3), cada uma lida na ordem do índice (status, priority, coluna) e
+   * limitada à página; as listas já ordenadas são intercaladas aqui. Assim nenhuma
+   * combinação de filtros precisa de filesort no banco.
+   */
+  @Transactional(readOnly = true)
+  public List<Task> filter(TaskFilter filter, TaskSort sort, SortCursor after, int limit) {
+    int max = Math.min(limit, MAX_PAGE_SIZE);
+    Specification<Task> common = Specification
+        .where(TaskSpecifications.dueBetween(filter.dueFrom(), filter.dueTo()))
+        .and(TaskSpecifications.createdBetween(filter.createdFrom(), filter.createdTo()))
+        .and(TaskSpecifications.after(after))
+        .and(TaskSpecifications.orderedBy(sort));
+
+    List<Task> merged = new ArrayList<>();
+    for (TaskStatus status : filter.statusesOrAll()) {
+      for (TaskPriority priority : filter.prioritiesOrAll()) {
+        Specification<Task> spec = common
+            .and(TaskSpecifications.hasStatus(status))
+            .and(TaskSpecifications.hasPriority(priority));
+        merged.addAll(repository.findBy(spec, q -> q.limit(max).all()));
+      }
+    }
+    merged.sort(sort.comparator());
+    return merged.size() > max ? List.copyOf(merged.subList(0, max)) : merged;
+  }
+
+  /** Busca por palavras (com prefixo) em título e descrição, ordenada por relevância. */
+  public List<Task> search(String text, int offset, int limit) {
+    String query = FullTextQuery.booleanMode(text);
+    if (query.isEmpty()) {
+      throw new BadRequestException("Informe ao menos uma palavra para buscar");
+    }
+    return repository.search(query, Math.min(limit, MAX_SEARCH_SIZE), offset);
+  }
+
+  /**
+   * Percorre as tarefas em streaming, desanexando cada entidade após o uso
+   * para que o contexto de persistência não cresça com o tamanho do quadro.
+   */
+  @Transactional(readOnly = true)
+  public void streamAll(TaskStatus status, Consumer<Task> consumer) {
+    try (Stream<Task> stream = status == null ? repository.streamAll() : repository.streamByStatus(status)) {
+      stream.forEach(task -> {
+        consumer.accept(task);
+        entityManager.detach(task);
+      });
+    }
+  }
+
   @Transactional(readOnly = true)
   public Task findById(UUID id) {
-    return repository.findById(id).orElseThrow(() ->
-        new ResourceNotFoundException("Task não encontrada: " + id)
-    );
+    return repository.findById(id).orElseThrow(() -> notFound(id));
   }
 
-  @Transactional
   public Task update(UUID id, TaskUpdateRequest dto) {
-    Task task = findById(id);
+    return update(id, dto, null);
+  }
 
-    if (dto.title() != null) {
-      String t = dto.title().trim();
-      if (!t.isEmpty()) task.setTitle(t);
-    }
-    if (dto.description() != null) task.setDescription(dto.description());
-    if (dto.status() != null) task.setStatus(dto.status());
-    if (dto.priority() != null) task.setPriority(dto.priority());
-    if (dto.dueDate() != null) task.setDueDate(dto.dueDate());
+  /**
+   * @param expectedVersion versão informada em If-Match; nula quando a requisição não é condicional
+   */
+  public Task update(UUID id, TaskUpdateRequest dto, Long expectedVersion) {
+    writeBuffer.flush(List.of(id));
+    return transaction.execute(tx -> {
+      Task task = findById(id);
+      if (expectedVersion != null && task.getVersion() != expectedVersion) {
+        throw versionMismatch(expectedVersion);
+      }
+      TaskResponse previous = TaskMapper.toResponse(task);
 
-    return repository.save(task);
+      TaskMapper.applyUpdate(task, dto);
+
+      // flush imediato: incrementa a versão agora e antecipa conflitos de concorrência
+      Task saved = repository.saveAndFlush(task);
+      events.publishEvent(TaskChangedEvent.updated(previous, TaskMapper.toResponse(saved)));
+      return saved;
+    });
   }
 
-  @Transactional
   public Task updateStatus(UUID id, TaskStatusUpdateRequest dto) {
-    Task task = findById(id);
-    task.setStatus(dto.status());
-    return repository.save(task);
+    return updateStatus(id, dto, null);
+  }
+
+  /**
+   * Altera o status com um único UPDATE e relê a linha para montar a resposta.
+   */
+  public Task updateStatus(UUID id, TaskStatusUpdateRequest dto, Long expectedVersion) {
+    writeBuffer.flush(List.of(id));
+    return transaction.execute(tx -> {
+      writeStatus(id, dto.status(), expectedVersion);
+      return findById(id);
+    });
+  }
+
+  /**
+   * Caminho rápido do drag & drop: um UPDATE, precedido só da leitura travada do que o
+   * resumo conta, e sem releitura. Com versão esperada, o UPDATE só casa com a linha naquela versão.
+   */
+  public void applyStatus(UUID id, TaskStatus status, Long expectedVersion) {
+    writeBuffer.flush(List.of(id));
+    transaction.executeWithoutResult(tx -> writeStatus(id, status, expectedVersion));
   }
 
-  @Transactional
   public void delete(UUID id) {
-    Task task = findById(id);
-    repository.delete(task);
+    writeBuffer.flush(List.of(id));
+    transaction.executeWithoutResult(tx -> {
+      TaskChangedEvent.Slot before = lockSlot(id);
+      if (repository.removeById(id) == 0) throw notFound(id);
+      events.publishEvent(TaskChangedEvent.deleted(id, before));
+    });
+  }
+
+  public List<TaskBatchItemResult> updateStatusAll(List<UUID> ids, TaskStatus status) {
+    checkBatchSize(ids.size());
+    writeBuffer.flush(ids);
+    return transaction.execute(tx -> {
+      Map<UUID, TaskChangedEvent.Slot> existing = lockSlots(ids);
+      if (!existing.isEmpty()) {
+        repository.updateStatusByIdIn(existing.keySet(), status);
+        existing.forEach((id, before) -> events.publishEvent(TaskChangedEvent.statusChanged(id, status, before)));
+      }
+      return batchResults(ids, existing, 200);
+    });
+  }
+
+  public List<TaskBatchItemResult> deleteAll(List<UUID> ids) {
+    checkBatchSize(ids.size());
+    writeBuffer.flush(ids);
+    return transaction.execute(tx -> {
+      Map<UUID, TaskChangedEvent.Slot> existing = lockSlots(ids);
+      if (!existing.isEmpty()) {
+        repository.deleteByIdIn(existing.keySet());
+        existing.forEach((id, before) -> events.publishEvent(TaskChangedEvent.deleted(id, before)));
+      }
+      return batchResults(ids, existing, 204);
+    });
+  }
+
+  private void writeStatus(UUID id, TaskStatus status, Long expectedVersion) {
+    TaskChangedEvent.Slot before = lockSlot(id);
+    if (expectedVersion == null) {
+      if (repository.updateStatusById(id, status) == 0) throw notFound(id);
+    } else if (repository.updateStatusByIdAndVersion(id, expectedVersion, status) == 0) {
+      if (!repository.existsById(id)) throw notFound(id);
+      throw versionMismatch(expectedVersion);
+    }
+    events.publishEvent(TaskChangedEvent.statusChanged(id, status, before));
+  }
+
+  // Lido na transação da escrita, para o resumo do quadro atualizar os contadores sem recontar
+  private TaskChangedEvent.Slot lockSlot(UUID id) {
+    List<TaskSlot> slots = repository.lockSlots(List.of(id));
+    return slots.isEmpty() ? null : slots.get(0).toSlot();
+  }
+
+  private Map<UUID, TaskChangedEvent.Slot> lockSlots(List<UUID> ids) {
+    Map<UUID, TaskChangedEvent.Slot> slots = new LinkedHashMap<>();
+    for (TaskSlot slot : repository.lockSlots(new LinkedHashSet<>(ids))) slots.put(slot.getId(), slot.toSlot());
+    return slots;
+  }
+
+  private TaskResponse withPendingStatus(TaskResponse t) {
+    return writeBuffer.pendingStatus(t.id())
+        .map(s -> new TaskResponse(t.id(), t.title(), t.description(), s, t.priority(), t.dueDate(), t.createdAt(),
+            t.version()))
+        .orElse(t);
+  }
+
+  private String validate(TaskCreateRequest dto) {
+    Set<ConstraintViolation<TaskCreateRequest>> violations = validator.validate(dto);
+    if (violations.isEmpty()) return null;
+    return violations.stream()
+        .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+        .sorted()
+        .collect(Collectors.joining("; "));
+  }
+
+  private static ResourceNotFoundException notFound(UUID id) {
+    return new ResourceNotFoundException("Task não encontrada: " + id);
+  }
+
+  private static PreconditionFailedException versionMismatch(long expectedVersion) {
+    return new PreconditionFailedException("A tarefa não está mais na versão " + expectedVersion);
+  }
+
+  private static void checkBatchSize(int size) {
+    if (size > MAX_BATCH_SIZE) {
+      throw new BadRequestException("Lote excede o limite de " + MAX_BATCH_SIZE + " itens");
+    }
+  }
+
+  private static List<TaskBatchItemResult> batchResults(List<UUID> ids, Map<UUID, ?> existing, int okStatus) {
+    List<TaskBatchItemResult> results = new ArrayList<>(ids.size());
+    for (int i = 0; i < ids.size(); i++) {
+      UUID id = ids.get(i);
+      results.add(existing.containsKey(id)
+          ? new TaskBatchItemResult(i, id, okStatus, null)
+          : new TaskBatchItemResult(i, id, 404, notFound(id).getMessage()));
+    }
+    return results;
   }
 }
@@ -0,0 +1,284 @@
+package com.example.taskmanager.service;
+
+import com.example.taskmanager.config.ReadRouting;
+import com.example.taskmanager.config.SummaryProperties;
+import com.example.taskmanager.dto.TaskResponse;
+import com.example.taskmanager.dto.TaskSummaryResponse;
+import com.example.taskmanager.entity.TaskPriority;
+import com.example.taskmanager.entity.TaskStatus;
+import com.example.taskmanager.event.TaskChangedEvent;
+import com.example.taskmanager.event.TaskChangedEvent.Slot;
+import com.example.taskmanager.repository.TaskRepository;
+import com.example.taskmanager.repository.TaskRepository.SlotCount;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Contagens do quadro mantidas em memória: por status e prioridade e, para as tarefas
+ * não concluídas, por data limite (atrasadas e que vencem em breve). Só os contadores
+ * ficam em memória, do tamanho do número de combinações e não do de tarefas.
+ * <p>
+ * Criações e edições trazem o estado anterior e o novo; mudanças de status, exclusões e
+ * arquivamentos trazem o {@code before} lido na transação da escrita. Todos são aplicados
+ * na hora. Só os blocos da importação (e eventos sem o estado anterior, de uma réplica
+ * mais antiga) marcam os contadores como desatualizados, e o agendador os recalcula com
+ * um GROUP BY a cada {@code app.summary.refresh-interval}. A carga inicial também é feita
+ * pelo agendador; a cada {@code reconcile-interval} os contadores são conferidos com o
+ * banco mesmo sem mudanças pendentes.
+ */
+@Component
+public class TaskSummary {
+
+  private static final Logger log = LoggerFactory.getLogger(TaskSummary.class);
+
+  private static final TaskStatus[] STATUSES = TaskStatus.values();
+  private static final TaskPriority[] PRIORITIES = TaskPriority.values();
+
+  private final TaskRepository repository;
+  private final SummaryProperties properties;
+
+  private final ReentrantLock lock = new ReentrantLock();
+  // Uma contagem por vez; a consulta roda fora do lock principal para não segurar os eventos
+  private final ReentrantLock refreshLock = new ReentrantLock();
+
+  private Counters counters = new Counters();
+  private volatile boolean loaded;
+  // Evento sem o estado anterior: os contadores só voltam a ser exatos na próxima contagem
+  private volatile boolean stale;
+  private long generation;
+  private TaskSummaryResponse snapshot;
+
+  public TaskSummary(TaskRepository repository, SummaryProperties properties) {
+    this.repository = repository;
+    this.properties = properties;
+  }
+
+  public TaskSummaryResponse summary() {
+    return summary(LocalDate.now());
+  }
+
+  TaskSummaryResponse summary(LocalDate today) {
+    // Só antes da primeira contagem do agendador (ex.: banco fora do ar na subida)
+    if (!loaded) recount(false);
+    lock.lock();
+    try {
+      // Recalculado só após mudanças ou na virada do dia
+      if (snapshot == null || !snapshot.date().equals(today)) {
+        snapshot = counters.toResponse(today, properties.dueSoonDays());
+      }
+      return snapshot;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onTaskChanged(TaskChangedEvent event) {
+    lock.lock();
+    try {
+      generation++;
+      snapshot = null;
+      apply(event);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /** Carga inicial e recontagem depois de eventos sem estado anterior. */
+  @Scheduled(initialDelay = 0, fixedDelayString = "${app.summary.refresh-interval:PT2S}")
+  public void refresh() {
+    if (!loaded || stale) recount(false);
+  }
+
+  @Scheduled(fixedDelayString = "${app.summary.reconcile-interval:PT5M}")
+  public void reconcile() {
+    if (!loaded || stale) {
+      recount(false);
+      return;
+    }
+    if (recount(true)) log.warn("Resumo do quadro divergente do banco; contadores recarregados");
+  }
+
+  /** Substitui os contadores pelo GROUP BY; devolve se divergiam sem nenhuma mudança no meio. */
+  private boolean recount(boolean force) {
+    refreshLock.lock();
+    try {
+      if (!force && loaded && !stale) return false;
+      long seen;
+      lock.lock();
+      try {
+        seen = generation;
+        stale = false;
+      } finally {
+        lock.unlock();
+      }
+
+      // Lido do primário: precisa ver todos os commits cujos eventos já chegaram
+      Counters fresh;
+      try {
+        fresh = Counters.of(ReadRouting.onPrimary(repository::countBySlot));
+      } catch (RuntimeException ex) {
+        stale = true;
+        throw ex;
+      }
+
+      lock.lock();
+      try {
+        boolean quiet = generation == seen;
+        boolean drifted = quiet && loaded && !fresh.equals(counters);
+        counters = fresh;
+        snapshot = null;
+        loaded = true;
+        // Eventos durante a consulta podem ou não estar nela: contados de novo na próxima vez
+        if (!quiet) stale = true;
+        return drifted;
+      } finally {
+        lock.unlock();
+      }
+    } finally {
+      refreshLock.unlock();
+    }
+  }
+
+  private void apply(TaskChangedEvent event) {
+    Slot before = event.before();
+    switch (event.type()) {
+      case CREATED -> {
+        TaskResponse current = event.current();
+        if (current == null) {
+          missed(event);
+        } else {
+          counters.add(slot(current), 1);
+        }
+      }
+      case UPDATED -> {
+        TaskResponse previous = event.previous();
+        TaskResponse current = event.current();
+        if (previous == null || current == null) {
+          missed(event);
+        } else {
+          counters.add(slot(previous), -1);
+          counters.add(slot(current), 1);
+        }
+      }
+      case STATUS_CHANGED -> {
+        if (before == null || event.status() == null) {
+          missed(event);
+        } else {
+          counters.add(before, -1);
+          counters.add(new Slot(event.status(), before.priority(), before.dueDate()), 1);
+        }
+      }
+      case DELETED, ARCHIVED -> {
+        if (before == null) {
+          missed(event);
+        } else {
+          counters.add(before, -1);
+        }
+      }
+      // Um bloco inteiro da importação: sem id nem estado
+      case IMPORTED -> missed(event);
+    }
+  }
+
+  private void missed(TaskChangedEvent event) {
+    log.debug("Evento {} da tarefa {} sem estado anterior; resumo será recontado", event.type(), event.id());
+    stale = true;
+  }
+
+  private static Slot slot(TaskResponse task) {
+    return new Slot(task.status(), task.priority(), task.dueDate());
+  }
+
+  /** Contagens por status × prioridade e, para os status em aberto, por data limite. */
+  private static final class Counters {
+    private final long[][] byPriority = new long[STATUSES.length][PRIORITIES.length];
+    private final Map<TaskStatus, NavigableMap<LocalDate, Long>> byDueDate = new EnumMap<>(TaskStatus.class);
+
+    Counters() {
+      for (TaskStatus status : STATUSES) {
+        if (status != TaskStatus.DONE) byDueDate.put(status, new TreeMap<>());
+      }
+    }
+
+    static Counters of(List<SlotCount> rows) {
+      Counters counters = new Counters();
+      for (SlotCount row : rows) {
+        counters.add(row.getStatus(), row.getPriority(), row.getDueDate(), row.getTotal());
+      }
+      return counters;
+    }
+
+    void add(Slot slot, long delta) {
+      add(slot.status(), slot.priority(), slot.dueDate(), delta);
+    }
+
+    void add(TaskStatus status, TaskPriority priority, LocalDate dueDate, long delta) {
+      byPriority[status.ordinal()][priority.ordinal()] += delta;
+      NavigableMap<LocalDate, Long> dates = byDueDate.get(status);
+      if (dates != null && dueDate != null) {
+        // Datas zeradas saem do mapa, para a comparação com o banco não depender do histórico
+        dates.merge(dueDate, delta, (a, b) -> a + b == 0 ? null : a + b);
+      }
+    }
+
+    TaskSummaryResponse toResponse(LocalDate today, int dueSoonDays) {
+      long total = 0;
+      Map<TaskStatus, Long> byStatus = new EnumMap<>(TaskStatus.class);
+      Map<TaskStatus, Map<TaskPriority, Long>> detail = new EnumMap<>(TaskStatus.class);
+      for (TaskStatus status : STATUSES) {
+        long sum = 0;
+        Map<TaskPriority, Long> priorities = new EnumMap<>(TaskPriority.class);
+        for (TaskPriority priority : PRIORITIES) {
+          long count = byPriority[status.ordinal()][priority.ordinal()];
+          priorities.put(priority, count);
+          sum += count;
+        }
+        detail.put(status, Collections.unmodifiableMap(priorities));
+        byStatus.put(status, sum);
+        total += sum;
+      }
+
+      Map<TaskStatus, Long> overdue = new EnumMap<>(TaskStatus.class);
+      Map<TaskStatus, Long> dueSoon = new EnumMap<>(TaskStatus.class);
+      byDueDate.forEach((status, dates) -> {
+        overdue.put(status, sum(dates.headMap(today, false)));
+        dueSoon.put(status, sum(dates.subMap(today, true, today.plusDays(dueSoonDays), true)));
+      });
+
+      return new TaskSummaryResponse(total, Collections.unmodifiableMap(byStatus), Collections.unmodifiableMap(detail),
+          Collections.unmodifiableMap(overdue), Collections.unmodifiableMap(dueSoon), dueSoonDays, today);
+    }
+
+    private static long sum(Map<LocalDate, Long> dates) {
+      long sum = 0;
+      for (long count : dates.values()) sum += count;
+      return sum;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      return other instanceof Counters that
+          && Arrays.deepEquals(byPriority, that.byPriority)
+          && byDueDate.equals(that.byDueDate);
+    }
+
+    @Override
+    public int hashCode() {
+      return Arrays.deepHashCode(byPriority);
+    }
+  }
+}
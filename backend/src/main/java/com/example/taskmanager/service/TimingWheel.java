@@ -0,0 +1,148 @@
+package com.example.taskmanager.service;
+
+import java.util.function.Consumer;
+
+/**
+ * Roda de tempo hierárquica, no esquema dos timers do kernel Linux: {@link #LEVELS} níveis
+ * de {@link #SLOTS} posições, cada nível com granularidade {@code SLOTS} vezes maior que a do
+ * anterior (com ticks de um minuto, o alcance é de uns 30 anos). Agendar e cancelar são O(1);
+ * cada tick esvazia uma posição do primeiro nível e, a cada {@code SLOTS} ticks, redistribui
+ * uma posição do nível de cima. Prazos além do alcance ficam no último nível e descem quando
+ * chegam perto. Não é thread-safe.
+ */
+final class TimingWheel<T> {
+
+  private static final int BITS = 6;
+  static final int SLOTS = 1 << BITS;
+  static final int LEVELS = 4;
+  private static final long MASK = SLOTS - 1;
+  private static final long MAX_SPAN = (1L << (BITS * LEVELS)) - 1;
+
+  private final Timer<T>[][] slots;
+  // Próximo tick a processar: tudo antes dele já venceu
+  private long next;
+  private int size;
+
+  @SuppressWarnings("unchecked")
+  TimingWheel(long startTick) {
+    this.next = startTick;
+    this.slots = new Timer[LEVELS][SLOTS];
+    for (Timer<T>[] level : slots) {
+      for (int i = 0; i < SLOTS; i++) level[i] = Timer.sentinel();
+    }
+  }
+
+  long nextTick() {
+    return next;
+  }
+
+  int size() {
+    return size;
+  }
+
+  /** Agenda {@code value} para o tick informado; um tick já passado vence no próximo {@link #advance}. */
+  Timer<T> schedule(long tick, T value) {
+    Timer<T> timer = new Timer<>(tick, value);
+    place(timer);
+    size++;
+    return timer;
+  }
+
+  /** Tira o timer da roda; devolve falso se ele já venceu ou foi cancelado. */
+  boolean cancel(Timer<T> timer) {
+    if (timer == null || timer.prev == null) return false;
+    timer.unlink();
+    size--;
+    return true;
+  }
+
+  /** Processa os ticks até {@code tick}, inclusive, entregando os timers vencidos em ordem. */
+  void advance(long tick, Consumer<T> expired) {
+    while (next <= tick) {
+      if (size == 0) {
+        // Roda vazia: nada a redistribuir nem a vencer no intervalo
+        next = tick + 1;
+        return;
+      }
+      int index = (int) (next & MASK);
+      if (index == 0) {
+        for (int level = 1; level < LEVELS; level++) {
+          int slot = (int) ((next >>> (BITS * level)) & MASK);
+          cascade(level, slot);
+          if (slot != 0) break;
+        }
+      }
+      Timer<T> head = slots[0][index];
+      while (head.next != head) {
+        Timer<T> timer = head.next;
+        timer.unlink();
+        size--;
+        expired.accept(timer.value);
+      }
+      next++;
+    }
+  }
+
+  private void cascade(int level, int slot) {
+    Timer<T> head = slots[level][slot];
+    Timer<T> timer = head.next;
+    head.next = head;
+    head.prev = head;
+    while (timer != head) {
+      Timer<T> following = timer.next;
+      place(timer);
+      timer = following;
+    }
+  }
+
+  private void place(Timer<T> timer) {
+    long expires = timer.tick;
+    long delta = expires - next;
+    Timer<T> head;
+    if (delta < 0) {
+      head = slots[0][(int) (next & MASK)];
+    } else if (delta < SLOTS) {
+      head = slots[0][(int) (expires & MASK)];
+    } else {
+      int level = 1;
+      while (level < LEVELS - 1 && delta >= 1L << (BITS * (level + 1))) level++;
+      if (delta > MAX_SPAN) expires = next + MAX_SPAN;
+      head = slots[level][(int) ((expires >>> (BITS * level)) & MASK)];
+    }
+    timer.linkBefore(head);
+  }
+
+  /** Posição de um valor na roda; serve de alça para o cancelamento. */
+  static final class Timer<T> {
+    final long tick;
+    final T value;
+    private Timer<T> prev;
+    private Timer<T> next;
+
+    private Timer(long tick, T value) {
+      this.tick = tick;
+      this.value = value;
+    }
+
+    private static <T> Timer<T> sentinel() {
+      Timer<T> head = new Timer<>(0, null);
+      head.prev = head;
+      head.next = head;
+      return head;
+    }
+
+    private void linkBefore(Timer<T> head) {
+      prev = head.prev;
+      next = head;
+      head.prev.next = this;
+      head.prev = this;
+    }
+
+    private void unlink() {
+      prev.next = next;
+      next.prev = prev;
+      prev = null;
+      next = null;
+    }
+  }
+}
@@ -0,0 +1,12 @@
+-- Esquema original (gerado antes pelo ddl-auto). Em bancos já existentes a
+-- migração é marcada como baseline e não é executada.
+CREATE TABLE IF NOT EXISTS tasks (
+  id CHAR(36) NOT NULL,
+  title VARCHAR(255) NOT NULL,
+  description TEXT,
+  status ENUM('TODO', 'DOING', 'DONE') NOT NULL,
+  priority ENUM('LOW', 'MEDIUM', 'HIGH') NOT NULL,
+  due_date DATE NOT NULL,
+  created_at DATETIME(6) NOT NULL,
+  PRIMARY KEY (id)
+) ENGINE = InnoDB;
@@ -0,0 +1,10 @@
+-- Ids passam de CHAR(36) para BINARY(16). UNHEX do texto sem hífens gera a
+-- mesma ordem de bytes (big-endian) que o Hibernate usa para UUID em BINARY.
+-- Linhas existentes mantêm seus UUIDs v4; as novas recebem UUIDs v7.
+ALTER TABLE tasks ADD COLUMN id_bin BINARY(16) NULL FIRST;
+
+UPDATE tasks SET id_bin = UNHEX(REPLACE(id, '-', ''));
+
+ALTER TABLE tasks DROP PRIMARY KEY, DROP COLUMN id;
+
+ALTER TABLE tasks CHANGE COLUMN id_bin id BINARY(16) NOT NULL FIRST, ADD PRIMARY KEY (id);
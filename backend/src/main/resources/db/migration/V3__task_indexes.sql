@@ -0,0 +1,6 @@
+-- Índices secundários do InnoDB já carregam a chave primária no fim, então
+-- (created_at) atende à paginação por (created_at, id) e (status, created_at)
+-- atende findByStatus e a paginação filtrada por status.
+CREATE INDEX idx_tasks_created_at ON tasks (created_at);
+CREATE INDEX idx_tasks_status_created_at ON tasks (status, created_at);
+CREATE INDEX idx_tasks_due_date_status ON tasks (due_date, status);
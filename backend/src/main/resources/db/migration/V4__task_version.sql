@@ -0,0 +1,2 @@
+-- Versão para controle otimista de concorrência (exposta como ETag)
+ALTER TABLE tasks ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,9 @@
+-- Outbox de mudanças de tarefas lido pelas réplicas (ver OutboxTaskEventBus)
+CREATE TABLE task_outbox (
+  id BIGINT NOT NULL AUTO_INCREMENT,
+  node_id VARCHAR(64) NOT NULL,
+  payload TEXT NOT NULL,
+  created_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+  PRIMARY KEY (id),
+  KEY idx_task_outbox_created_at (created_at)
+) ENGINE = InnoDB;
@@ -0,0 +1,4 @@
+-- Busca textual em título e descrição (GET /api/tasks/search) via MATCH ... AGAINST.
+-- O parser padrão ignora palavras com menos de innodb_ft_min_token_size (3) letras,
+-- exceto quando usadas como prefixo (pal*), que é como a busca monta os termos.
+ALTER TABLE tasks ADD FULLTEXT INDEX ft_tasks_title_description (title, description);
@@ -0,0 +1,5 @@
+-- Listagem filtrada: cada consulta fixa status e priority por igualdade e lê a
+-- coluna de ordenação já em ordem (o id, chave primária, desempata no próprio índice).
+-- Intervalos de due_date/created_at usam o mesmo índice ou são filtrados na varredura.
+CREATE INDEX idx_tasks_status_priority_created_at ON tasks (status, priority, created_at);
+CREATE INDEX idx_tasks_status_priority_due_date ON tasks (status, priority, due_date);
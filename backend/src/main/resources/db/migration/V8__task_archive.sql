@@ -0,0 +1,23 @@
+-- Data da última alteração: o arquivamento usa a idade das tarefas concluídas
+ALTER TABLE tasks ADD COLUMN updated_at DATETIME(6) NULL;
+
+UPDATE tasks SET updated_at = created_at;
+
+ALTER TABLE tasks MODIFY COLUMN updated_at DATETIME(6) NOT NULL;
+
+CREATE INDEX idx_tasks_status_updated_at ON tasks (status, updated_at);
+
+-- Tarefas concluídas antigas, fora da tabela (e dos índices) usados pelo quadro
+CREATE TABLE tasks_archive (
+  id BINARY(16) NOT NULL,
+  title VARCHAR(255) NOT NULL,
+  description TEXT,
+  status ENUM('TODO', 'DOING', 'DONE') NOT NULL,
+  priority ENUM('LOW', 'MEDIUM', 'HIGH') NOT NULL,
+  due_date DATE NOT NULL,
+  version BIGINT NOT NULL,
+  created_at DATETIME(6) NOT NULL,
+  updated_at DATETIME(6) NOT NULL,
+  archived_at DATETIME(6) NOT NULL,
+  PRIMARY KEY (id)
+) ENGINE = InnoDB;
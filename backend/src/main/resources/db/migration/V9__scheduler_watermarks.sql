@@ -0,0 +1,6 @@
+-- Até onde cada agendador já disparou seus eventos (epoch ms), para retomar após reinício
+CREATE TABLE scheduler_watermarks (
+  name VARCHAR(64) NOT NULL,
+  fired_until BIGINT NOT NULL,
+  PRIMARY KEY (name)
+) ENGINE = InnoDB;
@@ -0,0 +1,88 @@
+package com.example.taskmanager.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BulkheadDataSourceTest {
+
+  DataSource target;
+  Connection connection;
+
+  @BeforeEach
+  void setUp() throws SQLException {
+    target = mock(DataSource.class);
+    connection = mock(Connection.class);
+    when(target.getConnection()).thenReturn(connection);
+  }
+
+  @Test
+  void close_shouldReleasePermitOnlyOnce() throws SQLException {
+    var bulkhead = bulkhead(1, 0, Duration.ZERO);
+
+    Connection c = bulkhead.getConnection();
+    assertThat(bulkhead.available()).isZero();
+    c.close();
+    c.close();
+
+    assertThat(bulkhead.available()).isEqualTo(1);
+    verify(connection, times(1)).close();
+  }
+
+  @Test
+  void getConnection_whenQueueIsFull_shouldRejectImmediately() throws SQLException {
+    var bulkhead = bulkhead(1, 0, Duration.ofSeconds(10));
+    bulkhead.getConnection();
+
+    long start = System.nanoTime();
+    assertThatThrownBy(bulkhead::getConnection).isInstanceOf(SQLTransientConnectionException.class);
+    assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(1));
+    assertThat(bulkhead.rejected()).isEqualTo(1);
+  }
+
+  @Test
+  void getConnection_shouldWaitForReleasedPermit() throws Exception {
+    var bulkhead = bulkhead(1, 1, Duration.ofSeconds(5));
+    Connection first = bulkhead.getConnection();
+
+    var second = CompletableFuture.supplyAsync(() -> {
+      try {
+        return bulkhead.getConnection();
+      } catch (SQLException ex) {
+        throw new IllegalStateException(ex);
+      }
+    });
+    while (bulkhead.waiting() == 0) Thread.onSpinWait();
+    first.close();
+
+    assertThat(second.get(5, TimeUnit.SECONDS)).isNotNull();
+    assertThat(bulkhead.waiting()).isZero();
+  }
+
+  @Test
+  void getConnection_whenTargetFails_shouldReturnPermit() throws SQLException {
+    when(target.getConnection()).thenThrow(new SQLException("down"));
+    var bulkhead = bulkhead(1, 0, Duration.ZERO);
+
+    assertThatThrownBy(bulkhead::getConnection).hasMessage("down");
+    assertThat(bulkhead.available()).isEqualTo(1);
+  }
+
+  private BulkheadDataSource bulkhead(int maxConcurrent, int maxWaiting, Duration timeout) {
+    return new BulkheadDataSource(target, new BulkheadProperties(true, maxConcurrent, maxWaiting, timeout));
+  }
+}
@@ -0,0 +1,79 @@
+package com.example.taskmanager.config;
+
+import com.example.taskmanager.exception.OverloadedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LoadSheddingInterceptorTest {
+
+  AtomicLong now = new AtomicLong();
+  SimpleMeterRegistry registry = new SimpleMeterRegistry();
+  LoadSheddingInterceptor shedding = new LoadSheddingInterceptor(new LoadSheddingProperties(true,
+      List.of("POST", "PATCH"), 4, 2, 8, Duration.ofMillis(100), 0.5), registry, now::get);
+
+  @Test
+  void slowWrites_shouldShrinkTheLimitAndShedTheExcess() {
+    // Quatro escritas lentas: o limite cai de 4 para o piso (2)
+    List<MockHttpServletRequest> running = new ArrayList<>();
+    for (int i = 0; i < 4; i++) running.add(start("PATCH"));
+    now.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));
+    running.forEach(request -> finish(request, 200));
+    assertThat(shedding.limit()).isEqualTo(2);
+
+    start("PATCH");
+    start("POST");
+    assertThatThrownBy(() -> start("PATCH")).isInstanceOf(OverloadedException.class);
+    assertThat(registry.get("app.http.rejected").tag("reason", "load-shedding").counter().count()).isEqualTo(1);
+  }
+
+  @Test
+  void fastWritesAtTheLimit_shouldGrowItUpToTheCeiling() {
+    for (int round = 0; round < 10; round++) {
+      List<MockHttpServletRequest> running = new ArrayList<>();
+      for (int i = 0; i < shedding.limit(); i++) running.add(start("POST"));
+      now.addAndGet(TimeUnit.MILLISECONDS.toNanos(10));
+      running.forEach(request -> finish(request, 201));
+    }
+    assertThat(shedding.limit()).isEqualTo(8);
+  }
+
+  @Test
+  void connectionShortage_shouldCountAsDrop() {
+    MockHttpServletRequest request = start("POST");
+    finish(request, 503);
+
+    assertThat(shedding.limit()).isEqualTo(2);
+  }
+
+  @Test
+  void reads_shouldNeverBeShed() {
+    for (int i = 0; i < 4; i++) start("POST");
+    for (int i = 0; i < 100; i++) {
+      assertThat(shedding.preHandle(new MockHttpServletRequest("GET", "/api/tasks"), new MockHttpServletResponse(),
+          null)).isTrue();
+    }
+  }
+
+  private MockHttpServletRequest start(String method) {
+    MockHttpServletRequest request = new MockHttpServletRequest(method, "/api/tasks");
+    shedding.preHandle(request, new MockHttpServletResponse(), null);
+    return request;
+  }
+
+  private void finish(MockHttpServletRequest request, int status) {
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    response.setStatus(status);
+    shedding.afterCompletion(request, response, null, null);
+  }
+}
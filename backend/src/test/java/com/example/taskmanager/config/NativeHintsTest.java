@@ -0,0 +1,45 @@
+package com.example.taskmanager.config;
+
+import com.example.taskmanager.dto.TaskChangeMessage;
+import com.example.taskmanager.dto.TaskImportRow;
+import com.example.taskmanager.dto.TaskResponse;
+import com.example.taskmanager.entity.Task;
+import com.example.taskmanager.entity.UuidV7Generator;
+import com.example.taskmanager.event.TaskChangedEvent;
+import com.example.taskmanager.exception.ApiError;
+import com.example.taskmanager.proto.TaskList;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NativeHintsTest {
+
+  RuntimeHints hints = new RuntimeHints();
+
+  NativeHintsTest() {
+    new NativeHints().registerHints(hints, getClass().getClassLoader());
+  }
+
+  @Test
+  void shouldBindTypesSerializedOutsideControllerSignatures() {
+    for (Class<?> type : new Class<?>[]{TaskChangedEvent.class, TaskChangeMessage.class, TaskImportRow.class, ApiError.class}) {
+      assertThat(RuntimeHintsPredicates.reflection().onType(type)).as(type.getSimpleName()).accepts(hints);
+    }
+    assertThat(RuntimeHintsPredicates.reflection().onMethod(ApiError.class, "fieldErrors")).accepts(hints);
+    assertThat(RuntimeHintsPredicates.reflection().onMethod(TaskChangedEvent.class, "current")).accepts(hints);
+  }
+
+  @Test
+  void shouldAllowHibernateToBuildProjectionsAndEntities() {
+    assertThat(RuntimeHintsPredicates.reflection().onType(TaskResponse.class)
+        .withMemberCategory(MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS)).accepts(hints);
+    assertThat(RuntimeHintsPredicates.reflection().onType(Task.class)
+        .withMemberCategories(MemberCategory.DECLARED_FIELDS, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS)).accepts(hints);
+    assertThat(RuntimeHintsPredicates.reflection().onType(UuidV7Generator.class)
+        .withMemberCategory(MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS)).accepts(hints);
+    assertThat(RuntimeHintsPredicates.reflection().onMethod(TaskList.class, "getTasksList")).accepts(hints);
+  }
+}
@@ -0,0 +1,70 @@
+package com.example.taskmanager.config;
+
+import com.example.taskmanager.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RateLimitInterceptorTest {
+
+  AtomicLong now = new AtomicLong();
+  SimpleMeterRegistry registry = new SimpleMeterRegistry();
+  RateLimitInterceptor limiter = new RateLimitInterceptor(new RateLimitProperties(true, "X-Api-Key", 1000,
+      Duration.ofMinutes(10), List.of(
+          new RateLimitProperties.Route(List.of("POST", "PATCH"), "/api/tasks/{segment:import|batch}/**", 1, 0.5),
+          new RateLimitProperties.Route(List.of("POST", "PUT", "PATCH", "DELETE"), "/api/tasks/**", 2, 1))),
+      registry, now::get);
+
+  @Test
+  void burstAboveCapacity_shouldBeRejectedWithRetryAfterUntilRefilled() {
+    assertThat(allowed("PATCH", "/api/tasks/1/status", "10.0.0.1")).isTrue();
+    assertThat(allowed("PATCH", "/api/tasks/1/status", "10.0.0.1")).isTrue();
+    assertThatThrownBy(() -> allowed("PATCH", "/api/tasks/1/status", "10.0.0.1"))
+        .isInstanceOfSatisfying(TooManyRequestsException.class, ex -> assertThat(ex.getRetryAfterSeconds()).isEqualTo(1));
+
+    now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+    assertThat(allowed("PATCH", "/api/tasks/1/status", "10.0.0.1")).isTrue();
+    assertThat(registry.get("app.http.rejected").tag("reason", "rate-limit").counter().count()).isEqualTo(1);
+  }
+
+  @Test
+  void buckets_shouldBeKeyedByApiKeyOrAddressAndRoute() {
+    allowed("POST", "/api/tasks", "10.0.0.1");
+    allowed("POST", "/api/tasks", "10.0.0.1");
+
+    // Outro IP, outra chave de API e outra regra têm buckets próprios
+    assertThat(allowed("POST", "/api/tasks", "10.0.0.2")).isTrue();
+    MockHttpServletRequest withKey = request("POST", "/api/tasks", "10.0.0.1");
+    withKey.addHeader("X-Api-Key", "script-1");
+    assertThat(limiter.preHandle(withKey, new MockHttpServletResponse(), null)).isTrue();
+    assertThat(allowed("POST", "/api/tasks/import", "10.0.0.1")).isTrue();
+    assertThatThrownBy(() -> allowed("POST", "/api/tasks/batch", "10.0.0.1"))
+        .isInstanceOfSatisfying(TooManyRequestsException.class, ex -> assertThat(ex.getRetryAfterSeconds()).isEqualTo(2));
+  }
+
+  @Test
+  void reads_shouldNotBeLimited() {
+    for (int i = 0; i < 100; i++) {
+      assertThat(allowed("GET", "/api/tasks", "10.0.0.1")).isTrue();
+    }
+  }
+
+  private boolean allowed(String method, String path, String address) {
+    return limiter.preHandle(request(method, path, address), new MockHttpServletResponse(), null);
+  }
+
+  private static MockHttpServletRequest request(String method, String path, String address) {
+    MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+    request.setRemoteAddr(address);
+    return request;
+  }
+}
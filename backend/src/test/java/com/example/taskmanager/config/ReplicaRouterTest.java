@@ -0,0 +1,135 @@
+package com.example.taskmanager.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReplicaRouterTest {
+
+  SimpleMeterRegistry registry = new SimpleMeterRegistry();
+  DataSource primary = mock(DataSource.class);
+  DataSource replica1 = mock(DataSource.class);
+  DataSource replica2 = mock(DataSource.class);
+  Connection primaryConnection = mock(Connection.class);
+  Connection replica1Connection = mock(Connection.class);
+  Connection replica2Connection = mock(Connection.class);
+  ReplicaRouter router;
+
+  @BeforeEach
+  void setUp() throws SQLException {
+    when(primary.getConnection()).thenReturn(primaryConnection);
+    when(replica1.getConnection()).thenReturn(replica1Connection);
+    when(replica2.getConnection()).thenReturn(replica2Connection);
+    when(replica1Connection.isValid(anyInt())).thenReturn(true);
+    when(replica2Connection.isValid(anyInt())).thenReturn(true);
+    router = new ReplicaRouter(primary, List.of(replica1, replica2), properties(), registry);
+  }
+
+  @AfterEach
+  void tearDown() {
+    TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    ReadRouting.clear();
+  }
+
+  @Test
+  void saturatedReplicaBulkhead_shouldSpillToNextReplicaWithoutMarkingItDown() throws SQLException {
+    var bulkhead = new BulkheadDataSource(replica1, "replica-1", 1, new BulkheadProperties(true, 1, 0, Duration.ZERO));
+    router = new ReplicaRouter(primary, List.of(bulkhead, replica2), properties(), registry);
+    Connection held = bulkhead.getConnection();
+
+    TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+    assertThat(router.dataSource().getConnection()).isSameAs(replica2Connection);
+    assertThat(router.isUp(0)).isTrue();
+
+    held.close();
+    assertThat(bulkhead.available()).isEqualTo(1);
+  }
+
+  @Test
+  void healthCheck_withSaturatedReplicaBulkhead_shouldKeepItInRotation() throws SQLException {
+    var bulkhead = new BulkheadDataSource(replica1, "replica-1", 1, new BulkheadProperties(true, 1, 0, Duration.ZERO));
+    router = new ReplicaRouter(primary, List.of(bulkhead, replica2), properties(), registry);
+    Connection held = bulkhead.getConnection();
+
+    router.checkHealth();
+    assertThat(router.isUp(0)).isTrue();
+
+    held.close();
+    TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+    router.dataSource().getConnection();
+    assertThat(registry.get("app.datasource.reads").tag("target", "replica-1").counter().count()).isEqualTo(1);
+  }
+
+  @Test
+  void readOnlyTransactions_shouldRotateOverReplicasAndWritesGoToPrimary() throws SQLException {
+    DataSource routed = router.dataSource();
+    assertThat(routed.getConnection()).isSameAs(primaryConnection);
+
+    TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+    assertThat(List.of(routed.getConnection(), routed.getConnection(), routed.getConnection()))
+        .containsExactly(replica1Connection, replica2Connection, replica1Connection);
+    assertThat(registry.get("app.datasource.reads").tag("target", "replica-1").counter().count()).isEqualTo(2);
+  }
+
+  @Test
+  void primaryRequired_shouldReadFromPrimary() throws SQLException {
+    TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+    Connection connection = ReadRouting.onPrimary(() -> {
+      try {
+        return router.dataSource().getConnection();
+      } catch (SQLException ex) {
+        throw new IllegalStateException(ex);
+      }
+    });
+
+    assertThat(connection).isSameAs(primaryConnection);
+    assertThat(registry.get("app.datasource.replica.fallbacks").counter().count()).isZero();
+  }
+
+  @Test
+  void failingReplica_shouldLeaveRotationUntilHealthCheckPasses() throws SQLException {
+    when(replica1.getConnection()).thenThrow(new SQLTransientConnectionException("refused"));
+    TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+    assertThat(router.dataSource().getConnection()).isSameAs(replica2Connection);
+    assertThat(router.isUp(0)).isFalse();
+    assertThat(router.dataSource().getConnection()).isSameAs(replica2Connection);
+
+    doReturn(replica1Connection).when(replica1).getConnection();
+    router.checkHealth();
+    assertThat(router.isUp(0)).isTrue();
+  }
+
+  @Test
+  void noReplicaAvailable_shouldFallBackToPrimary() throws SQLException {
+    when(replica1Connection.isValid(anyInt())).thenReturn(false);
+    when(replica2.getConnection()).thenThrow(new SQLTransientConnectionException("refused"));
+    router.checkHealth();
+    TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+    assertThat(router.dataSource().getConnection()).isSameAs(primaryConnection);
+    assertThat(registry.get("app.datasource.replica.fallbacks").counter().count()).isEqualTo(1);
+    assertThat(registry.get("app.datasource.replica.up").tag("replica", "replica-2").gauge().value()).isZero();
+  }
+
+  private static ReplicaProperties properties() {
+    return new ReplicaProperties(true, List.of(), 10, Duration.ofSeconds(1), Duration.ofSeconds(5),
+        Duration.ofSeconds(2), "X-Api-Key", 100);
+  }
+}
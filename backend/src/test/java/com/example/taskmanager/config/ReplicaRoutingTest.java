@@ -0,0 +1,102 @@
+package com.example.taskmanager.config;
+
+import com.example.taskmanager.dto.TaskCreateRequest;
+import com.example.taskmanager.entity.TaskPriority;
+import com.example.taskmanager.service.TaskService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Primário e réplica em dois H2 em memória; a "replicação" é uma cópia feita pelo próprio
+ * teste, então entre uma cópia e outra a réplica está atrasada como estaria em produção.
+ * A segunda réplica aponta para um servidor que não existe.
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=" + ReplicaRoutingTest.PRIMARY,
+    "spring.datasource.username=sa",
+    "spring.datasource.password=",
+    "spring.flyway.enabled=false",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.show-sql=false",
+    "app.events.bus=memory",
+    "app.cache.enabled=false",
+    "app.archive.enabled=false",
+    "app.due.enabled=false",
+    "app.rate-limit.enabled=false",
+    "app.datasource.replicas.enabled=true",
+    "app.datasource.replicas.nodes[0].url=" + ReplicaRoutingTest.REPLICA,
+    "app.datasource.replicas.nodes[1].url=jdbc:h2:tcp://localhost:1/offline",
+    "app.datasource.replicas.health-check-interval=PT1H",
+    "app.datasource.replicas.sticky-window=1m"
+})
+@AutoConfigureMockMvc
+class ReplicaRoutingTest {
+
+  static final String PRIMARY = "jdbc:h2:mem:routing-primary;MODE=MySQL;DB_CLOSE_DELAY=-1";
+  static final String REPLICA = "jdbc:h2:mem:routing-replica;MODE=MySQL;DB_CLOSE_DELAY=-1";
+
+  @Autowired MockMvc mvc;
+  @Autowired TaskService service;
+  @Autowired ReplicaRouter router;
+  @Autowired MeterRegistry registry;
+
+  @Test
+  void clientReadsItsOwnWriteWhileOthersReadTheLaggingReplica() throws Exception {
+    UUID id = service.create(new TaskCreateRequest("Arrastar", null, LocalDate.of(2026, 12, 1), TaskPriority.LOW)).getId();
+    replicate();
+
+    mvc.perform(patch("/api/tasks/{id}/status", id).header("X-Api-Key", "writer")
+            .contentType(MediaType.APPLICATION_JSON).content("{\"status\":\"DONE\"}"))
+        .andExpect(status().isOk());
+
+    mvc.perform(get("/api/tasks/{id}", id).header("X-Api-Key", "writer"))
+        .andExpect(jsonPath("$.status").value("DONE"));
+    mvc.perform(get("/api/tasks/{id}", id).header("X-Api-Key", "other"))
+        .andExpect(jsonPath("$.status").value("TODO"));
+
+    replicate();
+    mvc.perform(get("/api/tasks/{id}", id).header("X-Api-Key", "other"))
+        .andExpect(jsonPath("$.status").value("DONE"));
+    assertThat(registry.get("app.datasource.reads").tag("target", "replica-1").counter().count()).isGreaterThan(0);
+    assertThat(registry.get("app.datasource.sticky.reads").counter().count()).isEqualTo(1);
+  }
+
+  @Test
+  void offlineReplica_shouldStayOutOfRotation() {
+    assertThat(router.isUp(0)).isTrue();
+    assertThat(router.isUp(1)).isFalse();
+    assertThat(registry.get("app.datasource.replica.fallbacks").counter().count()).isZero();
+  }
+
+  /** Copia o primário inteiro para a réplica. */
+  private static void replicate() {
+    SingleConnectionDataSource primary = new SingleConnectionDataSource(PRIMARY, "sa", "", true);
+    SingleConnectionDataSource replica = new SingleConnectionDataSource(REPLICA, "sa", "", true);
+    try {
+      List<String> script = new JdbcTemplate(primary).queryForList("script", String.class);
+      JdbcTemplate target = new JdbcTemplate(replica);
+      target.execute("drop all objects");
+      script.forEach(target::execute);
+    } finally {
+      primary.destroy();
+      replica.destroy();
+    }
+  }
+}
@@ -0,0 +1,47 @@
+package com.example.taskmanager.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StatementMetricsTest {
+
+  SimpleMeterRegistry registry = new SimpleMeterRegistry();
+  StatementMetrics metrics = new StatementMetrics(registry, new MetricsProperties(20));
+
+  @Test
+  void shouldRecordStatementsPerRequestByRoutePattern() {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/tasks/123");
+    request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/tasks/{id}");
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    metrics.preHandle(request, response, null);
+    metrics.inspect("select 1");
+    metrics.inspect("select 2");
+    metrics.afterCompletion(request, response, null, null);
+
+    DistributionSummary summary = registry.get("hibernate.statements.per.request")
+        .tag("uri", "/api/tasks/{id}").tag("method", "GET").summary();
+    assertThat(summary.count()).isEqualTo(1);
+    assertThat(summary.max()).isEqualTo(2);
+  }
+
+  @Test
+  void statementsOutsideRequests_shouldNotBeCounted() {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/tasks");
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    metrics.inspect("select 1");
+    metrics.preHandle(request, response, null);
+    metrics.afterConcurrentHandlingStarted(request, response, null);
+    metrics.inspect("select 2");
+    metrics.afterCompletion(request, response, null, null);
+
+    assertThat(registry.find("hibernate.statements.per.request").summary()).isNull();
+  }
+}
@@ -1,34 +1,71 @@
 package com.example.taskmanager.controller;
 
+import com.example.taskmanager.dto.TaskBatchItemResult;
+import com.example.taskmanager.dto.SearchCursor;
+import com.example.taskmanager.dto.SortCursor;
+import com.example.taskmanager.dto.TaskFilter;
+import com.example.taskmanager.dto.TaskSort;
+import com.example.taskmanager.dto.TaskBatchStatusUpdateRequest;
+import com.example.taskmanager.dto.TaskCardResponse;
 import com.example.taskmanager.dto.TaskCreateRequest;
+import com.example.taskmanager.dto.TaskCursor;
+import com.example.taskmanager.dto.TaskImportResponse;
 import com.example.taskmanager.dto.TaskStatusUpdateRequest;
+import com.example.taskmanager.dto.TaskSummaryResponse;
 import com.example.taskmanager.dto.TaskUpdateRequest;
 import com.example.taskmanager.entity.Task;
 import com.example.taskmanager.entity.TaskPriority;
 import com.example.taskmanager.entity.TaskStatus;
+import com.example.taskmanager.entity.UuidV7;
 import com.example.taskmanager.exception.GlobalExceptionHandler;
+import com.example.taskmanager.exception.PreconditionFailedException;
+import com.example.taskmanager.exception.ResourceNotFoundException;
+import com.example.taskmanager.mapper.TaskMapper;
+import com.example.taskmanager.proto.Priority;
+import com.example.taskmanager.proto.Status;
+import com.example.taskmanager.proto.TaskCreate;
+import com.example.taskmanager.proto.TaskList;
+import com.example.taskmanager.service.BoardVersion;
+import com.example.taskmanager.service.StatusWriteBuffer;
+import com.example.taskmanager.service.TaskChangeFeed;
+import com.example.taskmanager.service.TaskExporter;
+import com.example.taskmanager.service.TaskImporter;
 import com.example.taskmanager.service.TaskService;
+import com.example.taskmanager.service.TaskSummary;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.boot.test.mock.mockito.MockBean;
 
+import java.io.OutputStream;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(controllers = TaskController.class)
-@Import(GlobalExceptionHandler.class)
+@Import({GlobalExceptionHandler.class, BoardVersion.class})
 class TaskControllerTest {
 
   @Autowired
@@ -40,6 +77,24 @@ class TaskControllerTest {
   @MockBean
   TaskService service;
 
+  @MockBean
+  TaskChangeFeed changeFeed;
+
+  @MockBean
+  TaskSummary summary;
+
+  @MockBean
+  TaskImporter importer;
+
+  @MockBean
+  TaskExporter exporter;
+
+  @MockBean
+  StatusWriteBuffer writeBuffer;
+
+  @Autowired
+  BoardVersion boardVersion;
+
   private Task sampleTask(UUID id, TaskStatus status) {
     Task t = new Task();
     t.setId(id);
@@ -69,9 +124,9 @@ class TaskControllerTest {
 
   @Test
   void getTasks_shouldReturnList() throws Exception {
-    when(service.findAll(isNull())).thenReturn(List.of(
-        sampleTask(UUID.randomUUID(), TaskStatus.TODO),
-        sampleTask(UUID.randomUUID(), TaskStatus.DONE)
+    when(service.list(isNull())).thenReturn(List.of(
+        TaskMapper.toResponse(sampleTask(UUID.randomUUID(), TaskStatus.TODO)),
+        TaskMapper.toResponse(sampleTask(UUID.randomUUID(), TaskStatus.DONE))
     ));
 
     mvc.perform(get("/api/tasks"))
@@ -79,10 +134,60 @@ class TaskControllerTest {
         .andExpect(jsonPath("$.length()").value(2));
   }
 
+  @Test
+  void getTasks_acceptingProtobuf_shouldReturnTaskList() throws Exception {
+    UUID id = UUID.randomUUID();
+    when(service.list(isNull())).thenReturn(List.of(TaskMapper.toResponse(sampleTask(id, TaskStatus.DOING))));
+
+    byte[] body = mvc.perform(get("/api/tasks").accept("application/x-protobuf"))
+        .andExpect(status().isOk())
+        .andExpect(content().contentType("application/x-protobuf"))
+        .andReturn().getResponse().getContentAsByteArray();
+
+    var task = TaskList.parseFrom(body).getTasks(0);
+    assertEquals(id, UuidV7.fromBytes(task.getId().toByteArray()));
+    assertEquals(Status.DOING, task.getStatus());
+    assertEquals(LocalDate.of(2026, 2, 15), LocalDate.ofEpochDay(task.getDueDate()));
+    assertEquals("Criar camadas e endpoints", task.getDescription());
+  }
+
+  @Test
+  void getTaskById_acceptingCbor_shouldKeepJsonFieldsAndIsoDates() throws Exception {
+    UUID id = UUID.randomUUID();
+    when(service.get(id)).thenReturn(TaskMapper.toResponse(sampleTask(id, TaskStatus.TODO)));
+
+    byte[] body = mvc.perform(get("/api/tasks/{id}", id).accept("application/cbor"))
+        .andExpect(status().isOk())
+        .andExpect(content().contentType("application/cbor"))
+        .andReturn().getResponse().getContentAsByteArray();
+
+    var task = new ObjectMapper(new CBORFactory()).readTree(body);
+    assertEquals("2026-02-15", task.get("dueDate").asText());
+    assertEquals("TODO", task.get("status").asText());
+  }
+
+  @Test
+  void postTasks_withProtobufBody_shouldBeValidatedLikeJson() throws Exception {
+    var withoutPriority = TaskCreate.newBuilder().setTitle("T")
+        .setDueDate((int) LocalDate.of(2026, 2, 15).toEpochDay()).build();
+
+    mvc.perform(post("/api/tasks").contentType("application/x-protobuf").content(withoutPriority.toByteArray()))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.fieldErrors.priority").value("Prioridade é obrigatória"));
+    mvc.perform(post("/api/tasks").contentType("application/x-protobuf").content(new byte[]{(byte) 0xff}))
+        .andExpect(status().isBadRequest());
+
+    when(service.create(any(TaskCreateRequest.class))).thenReturn(sampleTask(UUID.randomUUID(), TaskStatus.TODO));
+    mvc.perform(post("/api/tasks").contentType("application/x-protobuf")
+            .content(withoutPriority.toBuilder().setPriority(Priority.HIGH).build().toByteArray()))
+        .andExpect(status().isCreated());
+    verify(service).create(new TaskCreateRequest("T", null, LocalDate.of(2026, 2, 15), TaskPriority.HIGH));
+  }
+
   @Test
   void patchStatus_shouldReturn200() throws Exception {
     UUID id = UUID.randomUUID();
-    when(service.updateStatus(eq(id), any(TaskStatusUpdateRequest.class)))
+    when(service.updateStatus(eq(id), any(TaskStatusUpdateRequest.class), isNull()))
         .thenReturn(sampleTask(id, TaskStatus.DONE));
 
     var body = new TaskStatusUpdateRequest(TaskStatus.DONE);
@@ -94,10 +199,82 @@ class TaskControllerTest {
         .andExpect(jsonPath("$.status").value("DONE"));
   }
 
+  @Test
+  void patchStatus_preferMinimal_shouldReturn204WithoutReloading() throws Exception {
+    UUID id = UUID.randomUUID();
+    var body = new TaskStatusUpdateRequest(TaskStatus.DONE);
+
+    mvc.perform(patch("/api/tasks/{id}/status", id)
+            .header("Prefer", "return=minimal")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(mapper.writeValueAsString(body)))
+        .andExpect(status().isNoContent())
+        .andExpect(header().string("Preference-Applied", "return=minimal"));
+
+    verify(service).applyStatus(id, TaskStatus.DONE, null);
+    verify(service, never()).updateStatus(any(), any(), any());
+  }
+
+  @Test
+  void patchStatus_writeBehindFlushed_shouldAnswerAfterTheBatchWithPendingFreeState() throws Exception {
+    UUID id = UUID.randomUUID();
+    when(writeBuffer.enabled()).thenReturn(true);
+    when(writeBuffer.waitsForFlush()).thenReturn(true);
+    when(writeBuffer.submit(id, TaskStatus.DOING)).thenReturn(CompletableFuture.completedFuture(null));
+    when(service.get(id)).thenReturn(TaskMapper.toResponse(sampleTask(id, TaskStatus.DOING)));
+
+    mvc.perform(patch("/api/tasks/{id}/status", id)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(mapper.writeValueAsString(new TaskStatusUpdateRequest(TaskStatus.DOING))))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.status").value("DOING"));
+
+    verify(service, never()).updateStatus(any(), any(), any());
+    verify(service, never()).applyStatus(any(), any(), any());
+  }
+
+  @Test
+  void patchStatus_writeBehindFlushedForMissingTask_shouldReturn404() throws Exception {
+    UUID id = UUID.randomUUID();
+    when(writeBuffer.enabled()).thenReturn(true);
+    when(writeBuffer.waitsForFlush()).thenReturn(true);
+    when(writeBuffer.submit(id, TaskStatus.DONE))
+        .thenReturn(CompletableFuture.failedFuture(new ResourceNotFoundException("Task não encontrada: " + id)));
+
+    mvc.perform(patch("/api/tasks/{id}/status", id)
+            .header("Prefer", "return=minimal")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(mapper.writeValueAsString(new TaskStatusUpdateRequest(TaskStatus.DONE))))
+        .andExpect(status().isNotFound());
+  }
+
+  @Test
+  void patchStatus_writeBehindBuffered_shouldReturn202AndConditionalOnesGoDirect() throws Exception {
+    UUID id = UUID.randomUUID();
+    when(writeBuffer.enabled()).thenReturn(true);
+    when(writeBuffer.submit(id, TaskStatus.DONE)).thenReturn(new CompletableFuture<>());
+
+    mvc.perform(patch("/api/tasks/{id}/status", id)
+            .header("Prefer", "return=minimal")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(mapper.writeValueAsString(new TaskStatusUpdateRequest(TaskStatus.DONE))))
+        .andExpect(status().isAccepted());
+
+    mvc.perform(patch("/api/tasks/{id}/status", id)
+            .header("Prefer", "return=minimal")
+            .header("If-Match", "\"3\"")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(mapper.writeValueAsString(new TaskStatusUpdateRequest(TaskStatus.TODO))))
+        .andExpect(status().isNoContent());
+
+    verify(service).applyStatus(id, TaskStatus.TODO, 3L);
+    verify(writeBuffer, never()).submit(id, TaskStatus.TODO);
+  }
+
   @Test
   void putTasks_shouldReturn200() throws Exception {
     UUID id = UUID.randomUUID();
-    when(service.update(eq(id), any(TaskUpdateRequest.class))).thenReturn(sampleTask(id, TaskStatus.DOING));
+    when(service.update(eq(id), any(TaskUpdateRequest.class), isNull())).thenReturn(sampleTask(id, TaskStatus.DOING));
 
     var body = new TaskUpdateRequest("Novo", null, TaskStatus.DOING, null, null);
 
@@ -107,4 +284,291 @@ class TaskControllerTest {
         .andExpect(status().isOk())
         .andExpect(jsonPath("$.status").value("DOING"));
   }
+
+  @Test
+  void getTasks_withLimit_shouldReturnPageAndNextCursor() throws Exception {
+    var first = sampleTask(UUID.randomUUID(), TaskStatus.TODO);
+    var last = sampleTask(UUID.randomUUID(), TaskStatus.TODO);
+    when(service.findPage(eq(TaskStatus.TODO), isNull(), eq(2))).thenReturn(List.of(first, last));
+
+    mvc.perform(get("/api/tasks").param("status", "TODO").param("limit", "2"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.length()").value(2))
+        .andExpect(header().string(TaskController.NEXT_CURSOR_HEADER, TaskCursor.of(last).encode()));
+  }
+
+  @Test
+  void getTasks_lastPage_shouldOmitNextCursor() throws Exception {
+    var cursor = new TaskCursor(LocalDateTime.of(2026, 1, 1, 10, 0), UUID.randomUUID());
+    when(service.findPage(isNull(), eq(cursor), eq(TaskService.DEFAULT_PAGE_SIZE)))
+        .thenReturn(List.of(sampleTask(UUID.randomUUID(), TaskStatus.DONE)));
+
+    mvc.perform(get("/api/tasks").param("cursor", cursor.encode()))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.length()").value(1))
+        .andExpect(header().doesNotExist(TaskController.NEXT_CURSOR_HEADER));
+  }
+
+  @Test
+  void getTasks_withFiltersAndSort_shouldQueryDatabaseAndReturnSortCursor() throws Exception {
+    var first = sampleTask(UUID.randomUUID(), TaskStatus.TODO);
+    var last = sampleTask(UUID.randomUUID(), TaskStatus.DOING);
+    var filter = new TaskFilter(Set.of(TaskStatus.TODO, TaskStatus.DOING), Set.of(TaskPriority.HIGH),
+        null, LocalDate.of(2026, 2, 28), null, null);
+    when(service.filter(eq(filter), eq(TaskSort.DUE_DATE_DESC), isNull(), eq(2))).thenReturn(List.of(first, last));
+
+    mvc.perform(get("/api/tasks").param("status", "TODO", "DOING").param("priority", "HIGH")
+            .param("dueTo", "2026-02-28").param("sort", "-dueDate").param("limit", "2"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.length()").value(2))
+        .andExpect(header().string(TaskController.NEXT_CURSOR_HEADER,
+            SortCursor.of(TaskSort.DUE_DATE_DESC, last).encode()));
+    verify(service, never()).list(any());
+  }
+
+  @Test
+  void getTasks_unknownSort_shouldReturn400() throws Exception {
+    mvc.perform(get("/api/tasks").param("sort", "title"))
+        .andExpect(status().isBadRequest());
+  }
+
+  @Test
+  void getTasks_compactView_shouldOmitDescription() throws Exception {
+    var task = sampleTask(UUID.randomUUID(), TaskStatus.TODO);
+    when(service.listCards(TaskStatus.TODO)).thenReturn(List.of(new TaskCardResponse(task.getId(), task.getTitle(),
+        task.getStatus(), task.getPriority(), task.getDueDate(), task.getCreatedAt(), task.getVersion())));
+
+    mvc.perform(get("/api/tasks").param("view", "compact").param("status", "TODO"))
+        .andExpect(status().isOk())
+        .andExpect(header().exists("ETag"))
+        .andExpect(jsonPath("$[0].title").value("Configurar Spring Boot"))
+        .andExpect(jsonPath("$[0].description").doesNotExist());
+    verify(service, never()).list(any());
+  }
+
+  @Test
+  void getSummary_shouldServeCountersWithoutListingTasks() throws Exception {
+    when(summary.summary()).thenReturn(new TaskSummaryResponse(3,
+        Map.of(TaskStatus.TODO, 2L, TaskStatus.DOING, 1L, TaskStatus.DONE, 0L),
+        Map.of(TaskStatus.TODO, Map.of(TaskPriority.HIGH, 2L)),
+        Map.of(TaskStatus.TODO, 1L, TaskStatus.DOING, 0L),
+        Map.of(TaskStatus.TODO, 0L, TaskStatus.DOING, 1L),
+        3, LocalDate.of(2026, 2, 10)));
+
+    mvc.perform(get("/api/tasks/summary"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.total").value(3))
+        .andExpect(jsonPath("$.byStatusAndPriority.TODO.HIGH").value(2))
+        .andExpect(jsonPath("$.overdue.TODO").value(1))
+        .andExpect(jsonPath("$.date").value("2026-02-10"));
+    verify(service, never()).list(any());
+  }
+
+  @Test
+  void search_fullPage_shouldReturnNextCursorWithOffset() throws Exception {
+    when(service.search(eq("relatório"), eq(0), eq(2)))
+        .thenReturn(List.of(sampleTask(UUID.randomUUID(), TaskStatus.TODO), sampleTask(UUID.randomUUID(), TaskStatus.DONE)));
+    when(service.search(eq("relatório"), eq(2), eq(2)))
+        .thenReturn(List.of(sampleTask(UUID.randomUUID(), TaskStatus.DOING)));
+
+    mvc.perform(get("/api/tasks/search").param("q", "relatório").param("limit", "2"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.length()").value(2))
+        .andExpect(header().string(TaskController.NEXT_CURSOR_HEADER, new SearchCursor(2).encode()));
+
+    mvc.perform(get("/api/tasks/search").param("q", "relatório").param("limit", "2")
+            .param("cursor", new SearchCursor(2).encode()))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.length()").value(1))
+        .andExpect(header().doesNotExist(TaskController.NEXT_CURSOR_HEADER));
+  }
+
+  @Test
+  void search_withListCursor_shouldReturn400() throws Exception {
+    var listCursor = new TaskCursor(LocalDateTime.of(2026, 1, 1, 10, 0), UUID.randomUUID()).encode();
+
+    mvc.perform(get("/api/tasks/search").param("q", "x").param("cursor", listCursor))
+        .andExpect(status().isBadRequest());
+  }
+
+  @Test
+  void getTasks_invalidCursor_shouldReturn400() throws Exception {
+    mvc.perform(get("/api/tasks").param("cursor", "não-é-cursor"))
+        .andExpect(status().isBadRequest());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void getTasks_ndjson_shouldStreamOneTaskPerLine() throws Exception {
+    doAnswer(inv -> {
+      Consumer<Task> consumer = inv.getArgument(1);
+      consumer.accept(sampleTask(UUID.randomUUID(), TaskStatus.TODO));
+      consumer.accept(sampleTask(UUID.randomUUID(), TaskStatus.DOING));
+      return null;
+    }).when(service).streamAll(isNull(), any(Consumer.class));
+
+    var result = mvc.perform(get("/api/tasks").accept(MediaType.APPLICATION_NDJSON))
+        .andExpect(request().asyncStarted())
+        .andReturn();
+
+    mvc.perform(asyncDispatch(result))
+        .andExpect(status().isOk())
+        .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+        .andExpect(content().string(containsString("\"status\":\"TODO\"")))
+        .andExpect(content().string(matchesPattern("(?s)\\{[^\\n]+}\\n\\{[^\\n]+\"status\":\"DOING\"[^\\n]+}\\n")));
+  }
+
+  @Test
+  void patchStatusBatch_shouldReturnPerItemResults() throws Exception {
+    UUID found = UUID.randomUUID();
+    UUID missing = UUID.randomUUID();
+    when(service.updateStatusAll(List.of(found, missing), TaskStatus.DONE)).thenReturn(List.of(
+        new TaskBatchItemResult(0, found, 200, null),
+        new TaskBatchItemResult(1, missing, 404, "Task não encontrada: " + missing)
+    ));
+
+    var body = new TaskBatchStatusUpdateRequest(List.of(found, missing), TaskStatus.DONE);
+
+    mvc.perform(patch("/api/tasks/batch/status")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(mapper.writeValueAsString(body)))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$[0].status").value(200))
+        .andExpect(jsonPath("$[1].status").value(404));
+  }
+
+  @Test
+  void patchStatusBatch_withoutIds_shouldReturn400() throws Exception {
+    var body = new TaskBatchStatusUpdateRequest(List.of(), TaskStatus.DONE);
+
+    mvc.perform(patch("/api/tasks/batch/status")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(mapper.writeValueAsString(body)))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.fieldErrors.ids").exists());
+  }
+
+  @Test
+  void getById_shouldSendEtagAndHonourIfNoneMatch() throws Exception {
+    UUID id = UUID.randomUUID();
+    var task = sampleTask(id, TaskStatus.TODO);
+    task.setVersion(3);
+    when(service.get(id)).thenReturn(TaskMapper.toResponse(task));
+
+    mvc.perform(get("/api/tasks/{id}", id))
+        .andExpect(status().isOk())
+        .andExpect(header().string("ETag", "\"3\""));
+
+    mvc.perform(get("/api/tasks/{id}", id).header("If-None-Match", "\"3\""))
+        .andExpect(status().isNotModified())
+        .andExpect(content().string(""));
+  }
+
+  @Test
+  void getById_whenConnectionPoolIsSaturated_shouldReturn503WithRetryAfter() throws Exception {
+    UUID id = UUID.randomUUID();
+    when(service.get(id)).thenThrow(new CannotCreateTransactionException("pool cheio"));
+
+    mvc.perform(get("/api/tasks/{id}", id))
+        .andExpect(status().isServiceUnavailable())
+        .andExpect(header().string("Retry-After", "1"));
+  }
+
+  @Test
+  void getTasks_withCurrentBoardEtag_shouldReturn304WithoutQuerying() throws Exception {
+    mvc.perform(get("/api/tasks").header("If-None-Match", boardVersion.etag()))
+        .andExpect(status().isNotModified());
+
+    verify(service, never()).list(any());
+  }
+
+  @Test
+  void getTasks_afterChange_shouldSendNewBoardEtag() throws Exception {
+    String before = boardVersion.etag();
+    boardVersion.onTaskChanged(null);
+
+    mvc.perform(get("/api/tasks").header("If-None-Match", before))
+        .andExpect(status().isOk())
+        .andExpect(header().string("ETag", boardVersion.etag()));
+  }
+
+  @Test
+  void putTasks_withIfMatch_shouldPassExpectedVersion() throws Exception {
+    UUID id = UUID.randomUUID();
+    var task = sampleTask(id, TaskStatus.DOING);
+    task.setVersion(5);
+    when(service.update(eq(id), any(TaskUpdateRequest.class), eq(4L))).thenReturn(task);
+
+    mvc.perform(put("/api/tasks/{id}", id)
+            .header("If-Match", "\"4\"")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(mapper.writeValueAsString(new TaskUpdateRequest("Novo", null, null, null, null))))
+        .andExpect(status().isOk())
+        .andExpect(header().string("ETag", "\"5\""))
+        .andExpect(jsonPath("$.version").value(5));
+  }
+
+  @Test
+  void patchStatus_staleIfMatch_shouldReturn412() throws Exception {
+    UUID id = UUID.randomUUID();
+    when(service.updateStatus(eq(id), any(TaskStatusUpdateRequest.class), eq(1L)))
+        .thenThrow(new PreconditionFailedException("A tarefa não está mais na versão 1"));
+
+    mvc.perform(patch("/api/tasks/{id}/status", id)
+            .header("If-Match", "\"1\"")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(mapper.writeValueAsString(new TaskStatusUpdateRequest(TaskStatus.DONE))))
+        .andExpect(status().isPreconditionFailed())
+        .andExpect(jsonPath("$.status").value(412));
+  }
+
+  @Test
+  void patchStatus_weakIfMatch_shouldReturn412() throws Exception {
+    mvc.perform(patch("/api/tasks/{id}/status", UUID.randomUUID())
+            .header("If-Match", "W/\"1\"")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(mapper.writeValueAsString(new TaskStatusUpdateRequest(TaskStatus.DONE))))
+        .andExpect(status().isPreconditionFailed());
+  }
+
+  @Test
+  void importTasks_csv_shouldUseCsvReaderAndReturnReport() throws Exception {
+    when(importer.importCsv(any())).thenReturn(new TaskImportResponse(2, 1,
+        List.of(new TaskBatchItemResult(3, null, 400, "title: Título é obrigatório")), false));
+
+    mvc.perform(post("/api/tasks/import")
+            .contentType("text/csv")
+            .content("title,dueDate,priority\nA,2026-01-01,LOW\n"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.imported").value(2))
+        .andExpect(jsonPath("$.failed").value(1))
+        .andExpect(jsonPath("$.errors[0].index").value(3));
+
+    verify(importer).importCsv(any());
+    verify(importer, never()).importNdjson(any());
+  }
+
+  @Test
+  void export_csv_shouldStreamAsAttachment() throws Exception {
+    doAnswer(inv -> {
+      inv.<OutputStream>getArgument(0).write("id,title\r\n".getBytes());
+      return null;
+    }).when(exporter).writeCsv(any());
+
+    var result = mvc.perform(get("/api/tasks/export").param("format", "csv"))
+        .andExpect(request().asyncStarted())
+        .andReturn();
+
+    mvc.perform(asyncDispatch(result))
+        .andExpect(status().isOk())
+        .andExpect(content().contentTypeCompatibleWith("text/csv"))
+        .andExpect(header().string("Content-Disposition", "attachment; filename=\"tasks.csv\""))
+        .andExpect(content().string("id,title\r\n"));
+  }
+
+  @Test
+  void export_unknownFormat_shouldReturn400() throws Exception {
+    mvc.perform(get("/api/tasks/export").param("format", "xlsx"))
+        .andExpect(status().isBadRequest());
+  }
 }
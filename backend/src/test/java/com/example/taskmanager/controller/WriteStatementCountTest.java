@@ -0,0 +1,91 @@
+package com.example.taskmanager.controller;
+
+import com.example.taskmanager.dto.TaskCreateRequest;
+import com.example.taskmanager.entity.TaskPriority;
+import com.example.taskmanager.service.TaskService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Conta, pelo {@code StatementMetrics}, os comandos SQL de cada escrita: o caminho rápido
+ * (status com {@code Prefer: return=minimal} e DELETE) é o UPDATE/DELETE mais a leitura
+ * travada, pela chave primária, do que o resumo do quadro conta; sem o caminho rápido a
+ * linha ainda é relida ou carregada inteira.
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:statement-count;MODE=MySQL;DB_CLOSE_DELAY=-1",
+    "spring.datasource.username=sa",
+    "spring.datasource.password=",
+    "spring.flyway.enabled=false",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.show-sql=false",
+    "app.events.bus=memory",
+    "app.archive.enabled=false",
+    "app.due.enabled=false",
+    "app.rate-limit.enabled=false"
+})
+@AutoConfigureMockMvc
+@DirtiesContext
+class WriteStatementCountTest {
+
+  @Autowired MockMvc mvc;
+  @Autowired TaskService service;
+  @Autowired MeterRegistry registry;
+
+  @Test
+  void patchStatus_withReturnMinimal_shouldRunLockedSlotReadAndUpdate() throws Exception {
+    UUID id = create();
+
+    assertThat(statements(patch("/api/tasks/{id}/status", id).header("Prefer", "return=minimal")
+        .contentType(MediaType.APPLICATION_JSON).content("{\"status\":\"DOING\"}"), 204)).isEqualTo(2);
+    // Com If-Match a versão vai no WHERE do mesmo UPDATE
+    assertThat(statements(patch("/api/tasks/{id}/status", id).header("Prefer", "return=minimal")
+        .header("If-Match", "\"1\"")
+        .contentType(MediaType.APPLICATION_JSON).content("{\"status\":\"DONE\"}"), 204)).isEqualTo(2);
+  }
+
+  @Test
+  void delete_shouldRunLockedSlotReadAndDelete() throws Exception {
+    UUID id = create();
+
+    assertThat(statements(delete("/api/tasks/{id}", id), 204)).isEqualTo(2);
+  }
+
+  @Test
+  void withoutFastPath_shouldReadTheWholeRow() throws Exception {
+    UUID id = create();
+
+    // Sem return=minimal a linha é relida depois do UPDATE para montar a resposta
+    assertThat(statements(patch("/api/tasks/{id}/status", id)
+        .contentType(MediaType.APPLICATION_JSON).content("{\"status\":\"DOING\"}"), 200)).isEqualTo(3);
+    // PUT carrega a entidade e grava a diferença
+    assertThat(statements(put("/api/tasks/{id}", id).contentType(MediaType.APPLICATION_JSON)
+        .content("{\"title\":\"Revisada\",\"dueDate\":\"2026-12-01\",\"priority\":\"HIGH\"}"), 200)).isEqualTo(2);
+  }
+
+  private UUID create() {
+    return service.create(new TaskCreateRequest("Arrastar", null, LocalDate.of(2026, 12, 1), TaskPriority.LOW)).getId();
+  }
+
+  private double statements(MockHttpServletRequestBuilder request, int expectedStatus) throws Exception {
+    registry.clear();
+    mvc.perform(request).andExpect(status().is(expectedStatus));
+    return registry.get("hibernate.statements.per.request").summary().max();
+  }
+}
@@ -0,0 +1,34 @@
+package com.example.taskmanager.entity;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UuidV7Test {
+
+  @Test
+  void next_shouldProduceVersion7WithRfcVariant() {
+    UUID id = UuidV7.next();
+
+    assertThat(id.version()).isEqualTo(7);
+    assertThat(id.variant()).isEqualTo(2);
+  }
+
+  @Test
+  void at_shouldEmbedTimestampInMostSignificantBits() {
+    long millis = 1_767_225_600_000L;
+
+    assertThat(UuidV7.at(millis).getMostSignificantBits() >>> 16).isEqualTo(millis);
+  }
+
+  @Test
+  void at_shouldSortByCreationTimeAsUnsignedBytes() {
+    UUID older = UuidV7.at(1_767_225_600_000L);
+    UUID newer = UuidV7.at(1_767_225_600_001L);
+
+    // BINARY(16) compara byte a byte sem sinal, assim como a forma textual em hexadecimal
+    assertThat(older.toString()).isLessThan(newer.toString());
+  }
+}
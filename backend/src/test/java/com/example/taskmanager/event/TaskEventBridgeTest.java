@@ -0,0 +1,56 @@
+package com.example.taskmanager.event;
+
+import com.example.taskmanager.config.EventBusProperties;
+import com.example.taskmanager.entity.TaskStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Duas réplicas ligadas ao mesmo {@link InMemoryTaskEventBus}.
+ */
+class TaskEventBridgeTest {
+
+  final InMemoryTaskEventBus bus = new InMemoryTaskEventBus();
+  final List<Object> receivedByA = new ArrayList<>();
+  final List<Object> receivedByB = new ArrayList<>();
+  final TaskEventBridge nodeA = bridge("a", receivedByA::add);
+  final TaskEventBridge nodeB = bridge("b", receivedByB::add);
+
+  @Test
+  void localChange_shouldReachOtherReplicasOnly() {
+    var event = TaskChangedEvent.statusChanged(UUID.randomUUID(), TaskStatus.DONE);
+
+    nodeA.forward(event);
+
+    assertThat(receivedByA).isEmpty();
+    assertThat(receivedByB).singleElement().satisfies(e -> {
+      var remote = (TaskChangedEvent) e;
+      assertThat(remote.isRemote()).isTrue();
+      assertThat(remote.origin()).isEqualTo("a");
+      assertThat(remote.id()).isEqualTo(event.id());
+    });
+    assertThat(nodeB.stats().received()).isEqualTo(1);
+  }
+
+  @Test
+  void remoteChange_shouldNotBeForwardedAgain() {
+    var remote = TaskChangedEvent.deleted(UUID.randomUUID()).withOrigin("c");
+
+    nodeA.forward(remote);
+
+    assertThat(receivedByA).isEmpty();
+    assertThat(receivedByB).isEmpty();
+  }
+
+  private TaskEventBridge bridge(String nodeId, ApplicationEventPublisher publisher) {
+    var properties = new EventBusProperties("memory", nodeId, Duration.ofSeconds(1), 500, Duration.ofHours(1));
+    return new TaskEventBridge(bus, publisher, properties);
+  }
+}
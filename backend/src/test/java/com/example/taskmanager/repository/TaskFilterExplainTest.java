@@ -0,0 +1,131 @@
+package com.example.taskmanager.repository;
+
+import com.example.taskmanager.dto.TaskFilter;
+import com.example.taskmanager.dto.TaskSort;
+import com.example.taskmanager.entity.TaskPriority;
+import com.example.taskmanager.entity.TaskStatus;
+import com.example.taskmanager.entity.UuidV7;
+import com.example.taskmanager.service.TaskService;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.nio.ByteBuffer;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Roda o EXPLAIN do MySQL sobre o SQL que as Specifications realmente geram e garante
+ * que cada visão suportada lê um dos índices (status, priority, ...) sem filesort.
+ * Os valores são embutidos no SQL (value_handling_mode=inline) para o EXPLAIN ser direto.
+ */
+@SpringBootTest(properties = {
+    "app.events.bus=memory",
+    "spring.jpa.show-sql=false",
+    "spring.jpa.properties.hibernate.criteria.value_handling_mode=inline",
+    "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.example.taskmanager.repository.TaskFilterExplainTest$RecordingInspector"
+})
+@Testcontainers(disabledWithoutDocker = true)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class TaskFilterExplainTest {
+
+  static final int ROWS = 30_000;
+  static final LocalDate TODAY = LocalDate.of(2026, 3, 2);
+
+  @Container
+  @ServiceConnection
+  static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+  @Autowired
+  TaskService service;
+
+  @Autowired
+  JdbcTemplate jdbc;
+
+  @BeforeAll
+  void seed() {
+    List<Object[]> rows = new ArrayList<>(ROWS);
+    LocalDateTime start = TODAY.minusYears(1).atStartOfDay();
+    for (int i = 0; i < ROWS; i++) {
+      UUID id = UuidV7.next();
+      byte[] bytes = ByteBuffer.allocate(16)
+          .putLong(id.getMostSignificantBits()).putLong(id.getLeastSignificantBits()).array();
+      rows.add(new Object[]{bytes, "Tarefa " + i, "Descrição " + i,
+          TaskStatus.values()[i % 3].name(), TaskPriority.values()[(i / 3) % 3].name(),
+          Date.valueOf(TODAY.minusDays(180).plusDays(i % 365)), Timestamp.valueOf(start.plusMinutes(i * 17L))});
+    }
+    jdbc.batchUpdate("""
+        insert into tasks (id, title, description, status, priority, due_date, created_at, updated_at, version)
+        values (?, ?, ?, ?, ?, ?, ?, created_at, 0)
+        """, rows);
+    jdbc.execute("analyze table tasks");
+  }
+
+  Stream<Arguments> views() {
+    return Stream.of(
+        Arguments.of("atrasadas de prioridade alta",
+            new TaskFilter(Set.of(TaskStatus.TODO, TaskStatus.DOING), Set.of(TaskPriority.HIGH),
+                null, TODAY.minusDays(1), null, null), TaskSort.DUE_DATE),
+        Arguments.of("vencendo nesta semana",
+            new TaskFilter(null, null, TODAY, TODAY.plusDays(6), null, null), TaskSort.DUE_DATE),
+        Arguments.of("todas por data limite, decrescente",
+            new TaskFilter(null, null, null, null, null, null), TaskSort.DUE_DATE_DESC),
+        Arguments.of("criadas no mês, mais antigas primeiro",
+            new TaskFilter(Set.of(TaskStatus.DONE), null, null, null,
+                TODAY.withDayOfMonth(1).atStartOfDay(), TODAY.atStartOfDay()), TaskSort.CREATED_AT),
+        Arguments.of("várias colunas e prioridades, mais novas primeiro",
+            new TaskFilter(Set.of(TaskStatus.TODO, TaskStatus.DOING), Set.of(TaskPriority.HIGH, TaskPriority.MEDIUM),
+                null, null, null, null), TaskSort.CREATED_AT_DESC)
+    );
+  }
+
+  @ParameterizedTest(name = "{0}")
+  @MethodSource("views")
+  void filter_shouldReadIndexInOrderWithoutFilesort(String view, TaskFilter filter, TaskSort sort) {
+    RecordingInspector.SQL.clear();
+    service.filter(filter, sort, null, 50);
+
+    List<String> selects = RecordingInspector.SQL.stream().filter(sql -> sql.regionMatches(true, 0, "select", 0, 6)).toList();
+    assertThat(selects).hasSize(filter.statusesOrAll().size() * filter.prioritiesOrAll().size());
+    for (String sql : selects) {
+      // Só o LIMIT continua como parâmetro
+      List<Map<String, Object>> plan = jdbc.queryForList("explain " + sql.replace("?", "50"));
+      assertThat(plan).as(sql).allSatisfy(row -> {
+        assertThat(String.valueOf(row.get("key"))).startsWith("idx_tasks_status_priority_");
+        assertThat(String.valueOf(row.get("Extra"))).doesNotContain("Using filesort");
+      });
+    }
+  }
+
+  public static class RecordingInspector implements StatementInspector {
+    static final List<String> SQL = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+      SQL.add(sql.trim());
+      return sql;
+    }
+  }
+}
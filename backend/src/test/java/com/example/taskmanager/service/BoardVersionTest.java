@@ -0,0 +1,79 @@
+package com.example.taskmanager.service;
+
+import com.example.taskmanager.entity.TaskStatus;
+import com.example.taskmanager.event.TaskChangedEvent;
+import com.example.taskmanager.event.TaskEventBus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BoardVersionTest {
+
+  TaskEventBus bus = mock(TaskEventBus.class);
+  StatusWriteBuffer writeBuffer = mock(StatusWriteBuffer.class);
+
+  @AfterEach
+  void tearDown() {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  @Test
+  void replicasAtTheSameOutboxPosition_shouldShareTheEtag() {
+    when(bus.position()).thenReturn(42L);
+
+    assertThat(version().etag()).isEqualTo(version().etag()).isEqualTo("W/\"p42\"");
+  }
+
+  @Test
+  void withoutSharedPosition_shouldFallBackToTheLocalStamp() {
+    when(bus.position()).thenReturn(-1L);
+    BoardVersion version = version();
+
+    String before = version.etag();
+    version.onTaskChanged(TaskChangedEvent.deleted(UUID.randomUUID()));
+
+    assertThat(before).doesNotStartWith("W/\"p");
+    assertThat(version.etag()).isNotEqualTo(before).isNotEqualTo(version().etag());
+  }
+
+  @Test
+  void localWriteInFlight_shouldHoldTheSharedStampUntilTheCacheIsInvalidated() {
+    when(bus.position()).thenReturn(42L);
+    BoardVersion version = version();
+    TransactionSynchronizationManager.initSynchronization();
+
+    version.onLocalChange(TaskChangedEvent.statusChanged(UUID.randomUUID(), TaskStatus.DONE));
+    // Commit feito e a linha já lida pelo outbox, mas o cache ainda não invalidado
+    when(bus.position()).thenReturn(43L);
+    assertThat(version.etag()).doesNotStartWith("W/\"p");
+
+    TransactionSynchronizationManager.getSynchronizations()
+        .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+    assertThat(version.etag()).isEqualTo("W/\"p43\"");
+  }
+
+  @Test
+  void pendingWriteBehindChanges_shouldUseTheLocalStamp() {
+    when(bus.position()).thenReturn(42L);
+    when(writeBuffer.hasPending()).thenReturn(true);
+
+    assertThat(version().etag()).doesNotStartWith("W/\"p");
+  }
+
+  @SuppressWarnings("unchecked")
+  private BoardVersion version() {
+    ObjectProvider<TaskEventBus> provider = mock(ObjectProvider.class);
+    when(provider.getIfAvailable()).thenReturn(bus);
+    return new BoardVersion(writeBuffer, provider);
+  }
+}
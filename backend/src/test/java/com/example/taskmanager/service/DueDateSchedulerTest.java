@@ -0,0 +1,190 @@
+package com.example.taskmanager.service;
+
+import com.example.taskmanager.config.DueDateProperties;
+import com.example.taskmanager.dto.TaskResponse;
+import com.example.taskmanager.entity.TaskPriority;
+import com.example.taskmanager.entity.TaskStatus;
+import com.example.taskmanager.event.DueDateEvent;
+import com.example.taskmanager.event.DueDateEvent.Type;
+import com.example.taskmanager.event.DueDateSink;
+import com.example.taskmanager.event.TaskChangedEvent;
+import com.example.taskmanager.repository.TaskRepository;
+import com.example.taskmanager.repository.TaskRepository.TaskDue;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class DueDateSchedulerTest {
+
+  static final LocalDate DUE = LocalDate.of(2026, 2, 10);
+
+  final List<TaskDue> db = new ArrayList<>();
+  final List<DueDateEvent> received = new ArrayList<>();
+  TaskRepository repository = mock(TaskRepository.class);
+  JdbcTemplate jdbc = mock(JdbcTemplate.class);
+  SimpleMeterRegistry registry = new SimpleMeterRegistry();
+  boolean sinkDown = true;
+  final List<DueDateEvent> retried = new ArrayList<>();
+  DueDateScheduler scheduler;
+
+  @BeforeEach
+  void setUp() {
+    when(repository.findOpenDueDates()).thenAnswer(inv -> List.copyOf(db));
+    when(jdbc.queryForList(anyString(), eq(Long.class), eq(DueDateScheduler.WATERMARK))).thenReturn(List.of());
+    DueDateSink failing = event -> {
+      if (sinkDown) throw new IllegalStateException("destino fora do ar");
+      retried.add(event);
+    };
+    scheduler = new DueDateScheduler(repository, jdbc, List.of(failing, received::add),
+        new DueDateProperties(true, Duration.ofMinutes(1), Duration.ofDays(1), ZoneOffset.UTC), registry);
+  }
+
+  @Test
+  void tick_shouldRemindAtStartOfDueDayAndFlagOverdueAtItsEnd() {
+    UUID id = UUID.randomUUID();
+    db.add(new Row(id, DUE));
+
+    scheduler.tick(at(DUE.minusDays(2), 12, 0));
+    assertThat(received).isEmpty();
+
+    scheduler.tick(at(DUE, 0, 0));
+    assertThat(received).extracting(DueDateEvent::type).containsExactly(Type.REMINDER);
+
+    scheduler.tick(at(DUE, 23, 59));
+    scheduler.tick(at(DUE.plusDays(1), 0, 0));
+    // Um destino com falha não impede os outros
+    assertThat(received).extracting(DueDateEvent::type).containsExactly(Type.REMINDER, Type.OVERDUE);
+    assertThat(received.get(1).taskId()).isEqualTo(id);
+    assertThat(registry.get("app.due.events").tag("type", "overdue").counter().count()).isEqualTo(1);
+    verify(repository, times(1)).findOpenDueDates();
+  }
+
+  @Test
+  void onTaskChanged_shouldFollowTheServiceWithoutRescanning() {
+    scheduler.tick(at(DUE.minusDays(5), 8, 0));
+    UUID moved = UUID.randomUUID();
+    UUID done = UUID.randomUUID();
+    UUID reopened = UUID.randomUUID();
+    UUID deleted = UUID.randomUUID();
+
+    scheduler.onTaskChanged(TaskChangedEvent.created(task(moved, TaskStatus.TODO, DUE)));
+    scheduler.onTaskChanged(TaskChangedEvent.updated(null, task(moved, TaskStatus.DOING, DUE.plusDays(3))));
+    scheduler.onTaskChanged(TaskChangedEvent.created(task(done, TaskStatus.TODO, DUE)));
+    scheduler.onTaskChanged(TaskChangedEvent.statusChanged(done, TaskStatus.DONE));
+    scheduler.onTaskChanged(TaskChangedEvent.created(task(deleted, TaskStatus.TODO, DUE)));
+    scheduler.onTaskChanged(TaskChangedEvent.deleted(deleted));
+    when(repository.findOpenDueDatesByIdIn(List.of(reopened))).thenReturn(List.of(new Row(reopened, DUE)));
+    scheduler.onTaskChanged(TaskChangedEvent.statusChanged(reopened, TaskStatus.TODO));
+    scheduler.onTaskChanged(TaskChangedEvent.statusChanged(reopened, TaskStatus.DOING));
+    // Já em aberto: mudar de coluna não consulta o banco nem reagenda
+    scheduler.onTaskChanged(TaskChangedEvent.statusChanged(moved, TaskStatus.TODO));
+    verify(repository, never()).findOpenDueDatesByIdIn(anyCollection());
+
+    scheduler.tick(at(DUE.plusDays(1), 0, 0));
+
+    assertThat(received).extracting(DueDateEvent::taskId).containsOnly(reopened);
+    assertThat(scheduler.scheduled()).isEqualTo(2);
+    // As reabertas são lidas uma vez, em lote, no tick
+    verify(repository, times(1)).findOpenDueDatesByIdIn(anyCollection());
+  }
+
+  @Test
+  void imported_shouldReloadOnNextTickAndFireOnlyTheNewTasks() {
+    UUID known = UUID.randomUUID();
+    db.add(new Row(known, DUE));
+    sinkDown = false;
+    scheduler.tick(at(DUE.minusDays(1), 12, 0));
+    scheduler.tick(at(DUE.plusDays(1), 0, 0));
+    assertThat(received).extracting(DueDateEvent::type).containsExactly(Type.REMINDER, Type.OVERDUE);
+    received.clear();
+
+    UUID overdue = UUID.randomUUID();
+    UUID upcoming = UUID.randomUUID();
+    db.add(new Row(overdue, DUE.minusDays(3)));
+    db.add(new Row(upcoming, DUE.plusDays(5)));
+    scheduler.onTaskChanged(TaskChangedEvent.imported());
+    verify(repository, times(1)).findOpenDueDates();
+
+    scheduler.tick(at(DUE.plusDays(1), 0, 1));
+
+    // A importada já vencida dispara; a que já tinha disparado antes da recarga, não
+    assertThat(received).extracting(DueDateEvent::type, DueDateEvent::taskId)
+        .containsExactly(tuple(Type.OVERDUE, overdue));
+    assertThat(scheduler.scheduled()).isEqualTo(2);
+    verify(repository, times(2)).findOpenDueDates();
+  }
+
+  @Test
+  void failedDelivery_shouldBeRetriedAndHoldTheWatermark() {
+    UUID id = UUID.randomUUID();
+    db.add(new Row(id, DUE));
+    scheduler.tick(at(DUE.minusDays(1), 12, 0));
+    Instant reminderAt = at(DUE, 0, 0);
+
+    Instant failedAt = at(DUE, 0, 1);
+    scheduler.tick(failedAt);
+    assertThat(received).hasSize(1);
+    assertThat(retried).isEmpty();
+    // A marca para antes do lembrete não entregue: um reinício o dispararia de novo
+    verify(jdbc).update(anyString(), eq(reminderAt.toEpochMilli() - 1), eq(DueDateScheduler.WATERMARK));
+    verify(jdbc, never()).update(anyString(), eq(failedAt.toEpochMilli()), eq(DueDateScheduler.WATERMARK));
+
+    sinkDown = false;
+    Instant recoveredAt = at(DUE, 0, 2);
+    scheduler.tick(recoveredAt);
+    assertThat(retried).extracting(DueDateEvent::type, DueDateEvent::taskId).containsExactly(tuple(Type.REMINDER, id));
+    assertThat(received).hasSize(1);
+    assertThat(registry.get("app.due.events").tag("type", "reminder").counter().count()).isEqualTo(1);
+    verify(jdbc).update(anyString(), eq(recoveredAt.toEpochMilli()), eq(DueDateScheduler.WATERMARK));
+  }
+
+  @Test
+  void load_afterRestart_shouldCatchUpFromWatermarkWithoutRepeating() {
+    UUID remindedBeforeStop = UUID.randomUUID();
+    UUID missedBoth = UUID.randomUUID();
+    UUID upcoming = UUID.randomUUID();
+    db.add(new Row(remindedBeforeStop, DUE));
+    db.add(new Row(missedBoth, DUE.plusDays(1)));
+    db.add(new Row(upcoming, DUE.plusDays(5)));
+    sinkDown = false;
+    Instant stoppedAt = at(DUE, 12, 0);
+    when(jdbc.queryForList(anyString(), eq(Long.class), eq(DueDateScheduler.WATERMARK)))
+        .thenReturn(List.of(stoppedAt.toEpochMilli()));
+
+    Instant now = at(DUE.plusDays(2), 8, 0);
+    scheduler.tick(now);
+
+    // O lembrete de DUE já saiu antes da parada; do outro, o lembrete perdeu a vez para o atraso
+    assertThat(received).extracting(DueDateEvent::type, DueDateEvent::taskId)
+        .containsExactly(tuple(Type.OVERDUE, remindedBeforeStop), tuple(Type.OVERDUE, missedBoth));
+    assertThat(scheduler.scheduled()).isEqualTo(2);
+    verify(jdbc).update(anyString(), eq(now.toEpochMilli()), eq(DueDateScheduler.WATERMARK));
+  }
+
+  private static Instant at(LocalDate date, int hour, int minute) {
+    return date.atTime(hour, minute).toInstant(ZoneOffset.UTC);
+  }
+
+  private static TaskResponse task(UUID id, TaskStatus status, LocalDate dueDate) {
+    return new TaskResponse(id, "T", null, status, TaskPriority.MEDIUM, dueDate, LocalDateTime.of(2026, 1, 1, 9, 0), 0L);
+  }
+
+  record Row(UUID getId, LocalDate getDueDate) implements TaskDue {}
+}
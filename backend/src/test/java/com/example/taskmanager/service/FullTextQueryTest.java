@@ -0,0 +1,31 @@
+package com.example.taskmanager.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FullTextQueryTest {
+
+  @Test
+  void booleanMode_shouldRequireEveryWordAsPrefix() {
+    assertThat(FullTextQuery.booleanMode("Revisar contrato")).isEqualTo("+revisar* +contrato*");
+  }
+
+  @Test
+  void booleanMode_shouldDropUserOperators() {
+    assertThat(FullTextQuery.booleanMode("+deploy -prod \"hot fix\" (a*) ~b <c> @3"))
+        .isEqualTo("+deploy* +prod* +hot* +fix* +a* +b* +c* +3*");
+  }
+
+  @Test
+  void booleanMode_shouldKeepAccentsAndLimitTerms() {
+    assertThat(FullTextQuery.booleanMode("Ação ação")).isEqualTo("+ação*");
+    assertThat(FullTextQuery.booleanMode("a b c d e f g h i j").split(" ")).hasSize(FullTextQuery.MAX_TERMS);
+  }
+
+  @Test
+  void booleanMode_withoutWords_shouldBeEmpty() {
+    assertThat(FullTextQuery.booleanMode(null)).isEmpty();
+    assertThat(FullTextQuery.booleanMode("  *** ")).isEmpty();
+  }
+}
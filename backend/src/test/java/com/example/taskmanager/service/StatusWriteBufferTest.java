@@ -0,0 +1,161 @@
+package com.example.taskmanager.service;
+
+import com.example.taskmanager.config.WriteBehindProperties;
+import com.example.taskmanager.config.WriteBehindProperties.Ack;
+import com.example.taskmanager.entity.TaskPriority;
+import com.example.taskmanager.entity.TaskStatus;
+import com.example.taskmanager.event.TaskChangedEvent;
+import com.example.taskmanager.exception.ResourceNotFoundException;
+import com.example.taskmanager.repository.TaskRepository;
+import com.example.taskmanager.repository.TaskRepository.TaskSlot;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+class StatusWriteBufferTest {
+
+  TaskRepository repository = mock(TaskRepository.class);
+  ApplicationEventPublisher events = mock(ApplicationEventPublisher.class);
+  PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+  SimpleMeterRegistry registry = new SimpleMeterRegistry();
+  StatusWriteBuffer buffer;
+
+  @AfterEach
+  void tearDown() throws InterruptedException {
+    if (buffer != null) buffer.shutdown();
+  }
+
+  @Test
+  void repeatedMoves_shouldBeWrittenAsOneUpdatePerTargetStatus() {
+    buffer = buffer(Ack.FLUSHED);
+    UUID a = UUID.randomUUID(), b = UUID.randomUUID(), c = UUID.randomUUID();
+    when(repository.lockSlots(anyCollection())).thenReturn(slots(a, b, c));
+
+    CompletableFuture<Void> first = buffer.submit(a, TaskStatus.DOING);
+    buffer.submit(a, TaskStatus.DONE);
+    CompletableFuture<Void> last = buffer.submit(a, TaskStatus.DOING);
+    buffer.submit(b, TaskStatus.DOING);
+    buffer.submit(c, TaskStatus.DONE);
+    assertThat(buffer.pendingStatus(a)).contains(TaskStatus.DOING);
+
+    buffer.flushAll();
+
+    verify(repository).lockSlots(Set.of(a, b, c));
+    verify(repository).updateStatusByIdIn(argThat(ids -> Set.copyOf(ids).equals(Set.of(a, b))), eq(TaskStatus.DOING));
+    verify(repository).updateStatusByIdIn(List.of(c), TaskStatus.DONE);
+    verify(events, times(3)).publishEvent(argThat((Object e) -> e instanceof TaskChangedEvent changed
+        && changed.before().status() == TaskStatus.TODO));
+    assertThat(first).isCompleted();
+    assertThat(last).isCompleted();
+    assertThat(buffer.hasPending()).isFalse();
+    assertThat(registry.get("app.write-behind.submitted").counter().count()).isEqualTo(5);
+    assertThat(registry.get("app.write-behind.statements").counter().count()).isEqualTo(3);
+  }
+
+  @Test
+  void missingTask_shouldFailItsWaitersWith404() {
+    buffer = buffer(Ack.FLUSHED);
+    UUID gone = UUID.randomUUID();
+    when(repository.lockSlots(anyCollection())).thenReturn(List.of());
+
+    CompletableFuture<Void> written = buffer.submit(gone, TaskStatus.DONE);
+    buffer.flushAll();
+
+    assertThat(written).isCompletedExceptionally();
+    assertThatThrownBy(written::join).hasCauseInstanceOf(ResourceNotFoundException.class);
+    verify(repository, never()).updateStatusByIdIn(any(), any());
+  }
+
+  @Test
+  void flushOfSomeIds_shouldLeaveTheOthersPending() {
+    buffer = buffer(Ack.FLUSHED);
+    UUID a = UUID.randomUUID(), b = UUID.randomUUID();
+    when(repository.lockSlots(anyCollection())).thenReturn(slots(a));
+
+    buffer.submit(a, TaskStatus.DONE);
+    buffer.submit(b, TaskStatus.DONE);
+    buffer.flush(List.of(a));
+
+    verify(repository).updateStatusByIdIn(List.of(a), TaskStatus.DONE);
+    assertThat(buffer.pendingStatus(b)).contains(TaskStatus.DONE);
+  }
+
+  @Test
+  void failedBatch_shouldFailWaitersWhenFlushedOrRequeueWhenBuffered() throws InterruptedException {
+    when(repository.lockSlots(anyCollection())).thenThrow(new QueryTimeoutException("timeout"));
+    UUID id = UUID.randomUUID();
+
+    buffer = buffer(Ack.FLUSHED);
+    CompletableFuture<Void> written = buffer.submit(id, TaskStatus.DONE);
+    assertThatThrownBy(() -> buffer.flushAll()).isInstanceOf(QueryTimeoutException.class);
+    assertThat(written).isCompletedExceptionally();
+    assertThat(buffer.hasPending()).isFalse();
+
+    buffer.shutdown();
+    buffer = buffer(Ack.BUFFERED);
+    buffer.submit(id, TaskStatus.DOING);
+    assertThatThrownBy(() -> buffer.flushAll()).isInstanceOf(QueryTimeoutException.class);
+    assertThat(buffer.pendingStatus(id)).contains(TaskStatus.DOING);
+  }
+
+  @Test
+  void flushInsideTransaction_shouldBeRefused() {
+    buffer = buffer(Ack.FLUSHED);
+    UUID id = UUID.randomUUID();
+    buffer.submit(id, TaskStatus.DONE);
+
+    TransactionSynchronizationManager.setActualTransactionActive(true);
+    try {
+      assertThatThrownBy(() -> buffer.flush(List.of(id))).isInstanceOf(IllegalStateException.class);
+    } finally {
+      TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+    verifyNoInteractions(repository);
+    assertThat(buffer.pendingStatus(id)).contains(TaskStatus.DONE);
+    assertThat(buffer.generation()).isEqualTo(1);
+  }
+
+  @Test
+  void fullBuffer_shouldSendNewTasksDirect() {
+    buffer = new StatusWriteBuffer(repository, events, new WriteBehindProperties(true, Duration.ofHours(1), Ack.FLUSHED,
+        1), transactionManager, registry);
+    UUID a = UUID.randomUUID();
+
+    assertThat(buffer.submit(a, TaskStatus.DONE)).isNotNull();
+    assertThat(buffer.submit(a, TaskStatus.DOING)).isNotNull();
+    assertThat(buffer.submit(UUID.randomUUID(), TaskStatus.DONE)).isNull();
+  }
+
+  private StatusWriteBuffer buffer(Ack ack) {
+    when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+    // Janela longa: o teste grava à mão
+    return new StatusWriteBuffer(repository, events, new WriteBehindProperties(true, Duration.ofHours(1), ack, 100),
+        transactionManager, registry);
+  }
+
+  private static List<TaskSlot> slots(UUID... ids) {
+    return Arrays.stream(ids).<TaskSlot>map(id -> new Slot(id, TaskStatus.TODO, TaskPriority.LOW, null)).toList();
+  }
+
+  record Slot(UUID getId, TaskStatus getStatus, TaskPriority getPriority, LocalDate getDueDate) implements TaskSlot {}
+}
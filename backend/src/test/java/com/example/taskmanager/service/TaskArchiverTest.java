@@ -0,0 +1,75 @@
+package com.example.taskmanager.service;
+
+import com.example.taskmanager.config.ArchiveProperties;
+import com.example.taskmanager.entity.TaskPriority;
+import com.example.taskmanager.entity.TaskStatus;
+import com.example.taskmanager.event.TaskChangedEvent;
+import com.example.taskmanager.repository.TaskArchiveRepository;
+import com.example.taskmanager.repository.TaskRepository;
+import com.example.taskmanager.repository.TaskRepository.TaskSlot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class TaskArchiverTest {
+
+  TaskRepository tasks = mock(TaskRepository.class);
+  TaskArchiveRepository archive = mock(TaskArchiveRepository.class);
+  ApplicationEventPublisher events = mock(ApplicationEventPublisher.class);
+  PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+  TaskArchiver archiver;
+
+  @BeforeEach
+  void setUp() {
+    when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+    archiver = new TaskArchiver(tasks, archive, events,
+        new ArchiveProperties(true, Duration.ofDays(30), 2, Duration.ofMinutes(10)), transactionManager);
+  }
+
+  @Test
+  void run_shouldMoveBatchesUntilOneComesBackShort() {
+    UUID a = UUID.randomUUID(), b = UUID.randomUUID(), c = UUID.randomUUID();
+    when(tasks.lockArchivable(any(), eq(Limit.of(2)))).thenReturn(List.of(done(a), done(b)), List.of(done(c)));
+
+    archiver.run();
+
+    verify(archive).copyFromTasks(eq(List.of(a, b)), any());
+    verify(tasks).deleteByIdIn(List.of(a, b));
+    verify(archive).copyFromTasks(eq(List.of(c)), any());
+    verify(tasks).deleteByIdIn(List.of(c));
+    verify(events, times(3)).publishEvent(argThat((Object e) -> e instanceof TaskChangedEvent event
+        && event.type() == TaskChangedEvent.Type.ARCHIVED && event.before().priority() == TaskPriority.HIGH));
+    // Um commit por lote
+    verify(transactionManager, times(2)).commit(any());
+  }
+
+  @Test
+  void archiveBatch_withNothingOldEnough_shouldNotTouchTables() {
+    when(tasks.lockArchivable(any(), any())).thenReturn(List.of());
+
+    archiver.archiveBatch(LocalDateTime.now().minusDays(30));
+
+    verifyNoInteractions(archive);
+    verify(tasks, never()).deleteByIdIn(any());
+  }
+
+  private static TaskSlot done(UUID id) {
+    return new Slot(id, TaskStatus.DONE, TaskPriority.HIGH, LocalDate.of(2026, 1, 5));
+  }
+
+  record Slot(UUID getId, TaskStatus getStatus, TaskPriority getPriority, LocalDate getDueDate) implements TaskSlot {}
+}
@@ -0,0 +1,239 @@
+package com.example.taskmanager.service;
+
+import com.example.taskmanager.config.CacheProperties;
+import com.example.taskmanager.config.ReadRouting;
+import com.example.taskmanager.config.ReplicaProperties;
+import com.example.taskmanager.dto.TaskCardResponse;
+import com.example.taskmanager.dto.TaskResponse;
+import com.example.taskmanager.entity.TaskPriority;
+import com.example.taskmanager.entity.TaskStatus;
+import com.example.taskmanager.event.TaskChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.annotation.AnnotationAwareOrderComparator;
+import org.springframework.transaction.event.TransactionalApplicationListener;
+import org.springframework.transaction.event.TransactionalEventListenerFactory;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Simula o banco com um mapa e verifica que nenhuma leitura devolve estado antigo
+ * depois das mutações publicadas pelo serviço.
+ */
+class TaskCacheTest {
+
+  final Map<UUID, TaskResponse> db = new ConcurrentHashMap<>();
+  final AtomicInteger dbReads = new AtomicInteger();
+  TaskCache cache;
+
+  @BeforeEach
+  void setUp() {
+    cache = new TaskCache(new CacheProperties(true, 100, 1_000, Duration.ofMinutes(5)), replicas(false));
+  }
+
+  @Test
+  void invalidation_shouldRunBeforeTheBoardVersionBump() throws NoSuchMethodException {
+    var factory = new TransactionalEventListenerFactory();
+    Method bump = BoardVersion.class.getMethod("onTaskChanged", TaskChangedEvent.class);
+    Method invalidate = TaskCache.class.getMethod("onTaskChanged", TaskChangedEvent.class);
+    List<ApplicationListener<?>> listeners = new ArrayList<>(List.of(
+        factory.createApplicationListener("boardVersion", BoardVersion.class, bump),
+        factory.createApplicationListener("taskCache", TaskCache.class, invalidate)));
+
+    // Mesma ordenação que o multicaster do Spring aplica aos listeners de um evento
+    AnnotationAwareOrderComparator.sort(listeners);
+
+    assertThat(listeners).extracting(l -> ((TransactionalApplicationListener<?>) l).getListenerId())
+        .containsExactly(TaskCache.class.getName() + ".onTaskChanged(" + TaskChangedEvent.class.getName() + ")",
+            BoardVersion.class.getName() + ".onTaskChanged(" + TaskChangedEvent.class.getName() + ")");
+  }
+
+  @Test
+  void getTask_shouldHitDatabaseOnlyOnce() {
+    var task = save(task(UUID.randomUUID(), "A", TaskStatus.TODO, 0));
+
+    assertThat(read(task.id())).isEqualTo(task);
+    assertThat(read(task.id())).isEqualTo(task);
+    assertThat(dbReads).hasValue(1);
+  }
+
+  @Test
+  void update_shouldNeverServeStaleTask() {
+    var before = save(task(UUID.randomUUID(), "A", TaskStatus.TODO, 0));
+    read(before.id());
+
+    var after = save(task(before.id(), "B", TaskStatus.TODO, 1));
+    cache.onTaskChanged(TaskChangedEvent.updated(before, after));
+
+    assertThat(read(before.id()).title()).isEqualTo("B");
+  }
+
+  @Test
+  void create_shouldInvalidateOnlyAffectedColumns() {
+    save(task(UUID.randomUUID(), "Feita", TaskStatus.DONE, 0));
+    assertThat(column(TaskStatus.TODO)).isEmpty();
+    assertThat(column(TaskStatus.DONE)).hasSize(1);
+    int reads = dbReads.get();
+
+    var created = save(task(UUID.randomUUID(), "Nova", TaskStatus.TODO, 0));
+    cache.onTaskChanged(TaskChangedEvent.created(created));
+
+    assertThat(column(TaskStatus.TODO)).containsExactly(created);
+    assertThat(column(TaskStatus.DONE)).hasSize(1);
+    assertThat(dbReads.get() - reads).isEqualTo(1);
+  }
+
+  @Test
+  void imported_shouldDropEveryColumnOnce() {
+    save(task(UUID.randomUUID(), "Feita", TaskStatus.DONE, 0));
+    assertThat(column(TaskStatus.TODO)).isEmpty();
+    assertThat(column(TaskStatus.DONE)).hasSize(1);
+
+    // Um bloco da importação chega como um único evento, sem as tarefas
+    var first = save(task(UUID.randomUUID(), "I1", TaskStatus.TODO, 0));
+    var second = save(task(UUID.randomUUID(), "I2", TaskStatus.DONE, 0));
+    cache.onTaskChanged(TaskChangedEvent.imported());
+
+    assertThat(column(TaskStatus.TODO)).containsExactly(first);
+    assertThat(column(TaskStatus.DONE)).hasSize(2).contains(second);
+  }
+
+  @Test
+  void statusChange_withoutPreviousState_shouldUseCachedSnapshot() {
+    var task = save(task(UUID.randomUUID(), "A", TaskStatus.TODO, 0));
+    read(task.id());
+    assertThat(column(TaskStatus.TODO)).hasSize(1);
+    assertThat(column(TaskStatus.DOING)).isEmpty();
+
+    save(task(task.id(), "A", TaskStatus.DOING, 1));
+    cache.onTaskChanged(TaskChangedEvent.statusChanged(task.id(), TaskStatus.DOING));
+
+    assertThat(column(TaskStatus.TODO)).isEmpty();
+    assertThat(column(TaskStatus.DOING)).hasSize(1);
+    assertThat(read(task.id()).status()).isEqualTo(TaskStatus.DOING);
+  }
+
+  @Test
+  void delete_withUnknownPreviousState_shouldDropTaskFromEveryColumn() {
+    var task = save(task(UUID.randomUUID(), "A", TaskStatus.DONE, 0));
+    assertThat(column(TaskStatus.DONE)).hasSize(1);
+    assertThat(column(null)).hasSize(1);
+
+    db.remove(task.id());
+    cache.onTaskChanged(TaskChangedEvent.deleted(task.id()));
+
+    assertThat(column(TaskStatus.DONE)).isEmpty();
+    assertThat(column(null)).isEmpty();
+  }
+
+  @Test
+  void statusChange_shouldInvalidateCompactColumnsToo() {
+    var task = save(task(UUID.randomUUID(), "A", TaskStatus.TODO, 0));
+    assertThat(cards(TaskStatus.TODO)).hasSize(1);
+    assertThat(column(TaskStatus.TODO)).hasSize(1);
+
+    var moved = save(task(task.id(), "A", TaskStatus.DONE, 1));
+    cache.onTaskChanged(TaskChangedEvent.updated(task, moved));
+
+    assertThat(cards(TaskStatus.TODO)).isEmpty();
+    assertThat(cards(TaskStatus.DONE)).extracting(TaskCardResponse::version).containsExactly(1L);
+  }
+
+  @Test
+  void listLoad_crossingAWrite_shouldNotBeCached() {
+    var task = save(task(UUID.randomUUID(), "A", TaskStatus.TODO, 0));
+
+    // A escrita é confirmada enquanto a lista ainda está sendo lida
+    cache.getList(TaskStatus.TODO, () -> {
+      var snapshot = List.copyOf(db.values());
+      cache.onTaskChanged(TaskChangedEvent.deleted(task.id()));
+      db.remove(task.id());
+      return snapshot;
+    });
+
+    assertThat(column(TaskStatus.TODO)).isEmpty();
+  }
+
+  @Test
+  void disabled_shouldAlwaysReadFromDatabase() {
+    cache = new TaskCache(new CacheProperties(false, 100, 1_000, Duration.ofMinutes(5)), replicas(false));
+    var task = save(task(UUID.randomUUID(), "A", TaskStatus.TODO, 0));
+
+    read(task.id());
+    read(task.id());
+
+    assertThat(dbReads).hasValue(2);
+    assertThat(cache.stats()).allSatisfy(s -> assertThat(s.size()).isZero());
+  }
+
+  @Test
+  void withReplicas_loadRightAfterInvalidation_shouldReadFromPrimary() {
+    cache = new TaskCache(new CacheProperties(true, 100, 1_000, Duration.ofMinutes(5)), replicas(true));
+    var task = save(task(UUID.randomUUID(), "A", TaskStatus.TODO, 0));
+    List<Boolean> onPrimary = new ArrayList<>();
+
+    cache.getTask(task.id(), key -> {
+      onPrimary.add(ReadRouting.primaryRequired());
+      return db.get(key);
+    });
+    cache.onTaskChanged(TaskChangedEvent.updated(task, save(task(task.id(), "B", TaskStatus.TODO, 1))));
+    cache.getTask(task.id(), key -> {
+      onPrimary.add(ReadRouting.primaryRequired());
+      return db.get(key);
+    });
+
+    // A primeira carga pode vir da réplica; a que segue a escrita, não
+    assertThat(onPrimary).containsExactly(false, true);
+    assertThat(ReadRouting.primaryRequired()).isFalse();
+  }
+
+  private static ReplicaProperties replicas(boolean enabled) {
+    return new ReplicaProperties(enabled, List.of(), 10, Duration.ofSeconds(1), Duration.ofSeconds(5),
+        Duration.ofMinutes(1), "X-Api-Key", 100);
+  }
+
+  private TaskResponse read(UUID id) {
+    return cache.getTask(id, key -> {
+      dbReads.incrementAndGet();
+      return db.get(key);
+    });
+  }
+
+  private List<TaskCardResponse> cards(TaskStatus status) {
+    return cache.getCards(status, () -> {
+      dbReads.incrementAndGet();
+      return db.values().stream().filter(t -> status == null || t.status() == status)
+          .map(t -> new TaskCardResponse(t.id(), t.title(), t.status(), t.priority(), t.dueDate(), t.createdAt(), t.version()))
+          .toList();
+    });
+  }
+
+  private List<TaskResponse> column(TaskStatus status) {
+    return cache.getList(status, () -> {
+      dbReads.incrementAndGet();
+      return db.values().stream().filter(t -> status == null || t.status() == status).toList();
+    });
+  }
+
+  private TaskResponse save(TaskResponse task) {
+    db.put(task.id(), task);
+    return task;
+  }
+
+  private static TaskResponse task(UUID id, String title, TaskStatus status, long version) {
+    return new TaskResponse(id, title, null, status, TaskPriority.MEDIUM,
+        LocalDate.of(2026, 2, 15), LocalDateTime.of(2026, 1, 1, 10, 0), version);
+  }
+}
@@ -0,0 +1,180 @@
+package com.example.taskmanager.service;
+
+import com.example.taskmanager.config.FeedProperties;
+import com.example.taskmanager.dto.TaskResponse;
+import com.example.taskmanager.entity.TaskPriority;
+import com.example.taskmanager.entity.TaskStatus;
+import com.example.taskmanager.event.TaskChangedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+class TaskChangeFeedTest {
+
+  TaskChangeFeed feed;
+  MockMvc mvc;
+
+  @BeforeEach
+  void setUp() {
+    feed = new TaskChangeFeed(new FeedProperties(2, 16, Duration.ofMinutes(1), Duration.ofSeconds(15), 1),
+        new MockEnvironment());
+    mvc = MockMvcBuilders.standaloneSetup(new FeedEndpoint(feed)).build();
+  }
+
+  @AfterEach
+  void tearDown() {
+    feed.destroy();
+  }
+
+  @Test
+  void subscribe_shouldReceiveDeltasAfterCommit() throws Exception {
+    var response = connect(null);
+    var before = task("Antigo", 0);
+
+    feed.onTaskChanged(TaskChangedEvent.updated(before, task("Novo", 1)));
+    feed.onTaskChanged(TaskChangedEvent.statusChanged(before.id(), TaskStatus.DONE));
+
+    String body = await(response, "event:status");
+    assertThat(body).contains("event:updated", "\"changes\":{\"title\":\"Novo\",\"version\":1}");
+    assertThat(body).doesNotContain("Antigo");
+  }
+
+  @Test
+  void subscribe_withLastEventId_shouldReplayOnlyMissedEvents() throws Exception {
+    var first = connect(null);
+    var id = UUID.randomUUID();
+    feed.onTaskChanged(TaskChangedEvent.statusChanged(id, TaskStatus.DOING));
+    String lastId = firstEventId(await(first, "event:status"));
+
+    feed.onTaskChanged(TaskChangedEvent.deleted(id));
+
+    String body = await(connect(lastId), "event:deleted");
+    assertThat(body).doesNotContain("event:status");
+  }
+
+  @Test
+  void subscribe_withEvictedOrUnknownId_shouldAskForReset() throws Exception {
+    var first = connect(null);
+    var id = UUID.randomUUID();
+    feed.onTaskChanged(TaskChangedEvent.statusChanged(id, TaskStatus.DOING));
+    String evicted = firstEventId(await(first, "event:status"));
+    feed.onTaskChanged(TaskChangedEvent.statusChanged(id, TaskStatus.DONE));
+    feed.onTaskChanged(TaskChangedEvent.statusChanged(id, TaskStatus.TODO));
+    feed.onTaskChanged(TaskChangedEvent.deleted(id));
+
+    assertThat(await(connect(evicted), "event:reset")).doesNotContain("event:deleted");
+    assertThat(await(connect("outro-no-1"), "event:reset")).doesNotContain("event:deleted");
+  }
+
+  @Test
+  void manySubscribers_shouldShareTheBoundedSenderPool() throws Exception {
+    // O feed deste teste tem uma única thread de envio
+    var clients = List.of(connect(null), connect(null), connect(null));
+
+    feed.onTaskChanged(TaskChangedEvent.deleted(UUID.randomUUID()));
+
+    for (var client : clients) await(client, "event:deleted");
+  }
+
+  @Test
+  void reconnect_whilePublishing_shouldDeliverEveryIdOnceAndInOrder() throws Exception {
+    feed.destroy();
+    feed = new TaskChangeFeed(new FeedProperties(1000, 1000, Duration.ofMinutes(1), Duration.ofSeconds(15), 2),
+        new MockEnvironment());
+    mvc = MockMvcBuilders.standaloneSetup(new FeedEndpoint(feed)).build();
+    var first = connect(null);
+    var id = UUID.randomUUID();
+    feed.onTaskChanged(TaskChangedEvent.statusChanged(id, TaskStatus.DOING));
+    String lastId = firstEventId(await(first, "event:status"));
+    long from = sequenceOf(lastId);
+
+    int published = 300;
+    var publisher = new Thread(() -> {
+      for (int i = 0; i < published; i++) feed.onTaskChanged(TaskChangedEvent.statusChanged(id, TaskStatus.DONE));
+    });
+    publisher.start();
+    List<MockHttpServletResponse> clients = new ArrayList<>();
+    for (int i = 0; i < 20; i++) clients.add(connect(lastId));
+    publisher.join();
+
+    String epoch = lastId.substring(0, lastId.lastIndexOf('-'));
+    String lastPublished = "id:" + epoch + "-" + (from + published);
+    for (var client : clients) {
+      List<Long> ids = new ArrayList<>();
+      Matcher m = Pattern.compile("^id:(\\S+)$", Pattern.MULTILINE).matcher(await(client, lastPublished));
+      while (m.find()) ids.add(sequenceOf(m.group(1)));
+      // Replay e ao vivo emendados: de from + 1 até o último, sem buracos, repetições ou inversões
+      assertThat(ids).hasSize(published);
+      for (int i = 0; i < ids.size(); i++) assertThat(ids.get(i)).isEqualTo(from + 1 + i);
+    }
+  }
+
+  private static long sequenceOf(String eventId) {
+    return Long.parseLong(eventId.substring(eventId.lastIndexOf('-') + 1));
+  }
+
+  private MockHttpServletResponse connect(String lastEventId) throws Exception {
+    var builder = get("/events");
+    if (lastEventId != null) builder.header("Last-Event-ID", lastEventId);
+    return mvc.perform(builder).andExpect(request().asyncStarted()).andReturn().getResponse();
+  }
+
+  private static String await(MockHttpServletResponse response, String expected) throws Exception {
+    long deadline = System.currentTimeMillis() + 5_000;
+    String body = response.getContentAsString();
+    while (!body.contains(expected) && System.currentTimeMillis() < deadline) {
+      Thread.sleep(10);
+      body = response.getContentAsString();
+    }
+    assertThat(body).contains(expected);
+    return body;
+  }
+
+  private static String firstEventId(String body) {
+    Matcher m = Pattern.compile("^id:(\\S+)$", Pattern.MULTILINE).matcher(body);
+    assertThat(m.find()).isTrue();
+    return m.group(1);
+  }
+
+  private static final UUID TASK_ID = UUID.randomUUID();
+
+  private static TaskResponse task(String title, long version) {
+    return new TaskResponse(TASK_ID, title, "desc", TaskStatus.TODO, TaskPriority.LOW,
+        LocalDate.of(2026, 3, 1), LocalDateTime.of(2026, 1, 1, 10, 0), version);
+  }
+
+  @RestController
+  static class FeedEndpoint {
+    private final TaskChangeFeed feed;
+
+    FeedEndpoint(TaskChangeFeed feed) {
+      this.feed = feed;
+    }
+
+    @GetMapping("/events")
+    SseEmitter events(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+      return feed.subscribe(lastEventId);
+    }
+  }
+}
@@ -0,0 +1,184 @@
+package com.example.taskmanager.service;
+
+import com.example.taskmanager.dto.TaskImportResponse;
+import com.example.taskmanager.dto.TaskResponse;
+import com.example.taskmanager.entity.TaskPriority;
+import com.example.taskmanager.entity.TaskStatus;
+import com.example.taskmanager.event.TaskChangedEvent;
+import com.example.taskmanager.exception.BadRequestException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+class TaskImporterTest {
+
+  JdbcTemplate jdbc = mock(JdbcTemplate.class);
+  ApplicationEventPublisher events = mock(ApplicationEventPublisher.class);
+  PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+  TaskImporter importer;
+
+  // Tamanho de cada bloco recebido pelo batch JDBC
+  List<Integer> chunks = new ArrayList<>();
+  List<Object> rows = new ArrayList<>();
+
+  @BeforeEach
+  void setUp() {
+    when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+    when(jdbc.batchUpdate(anyString(), any(Collection.class), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+        .thenAnswer(inv -> {
+          Collection<?> chunk = inv.getArgument(1);
+          chunks.add(chunk.size());
+          rows.addAll(chunk);
+          return new int[0][];
+        });
+    importer = new TaskImporter(jdbc, new ObjectMapper().registerModule(new JavaTimeModule()),
+        Validation.buildDefaultValidatorFactory().getValidator(), events, transactionManager);
+  }
+
+  @Test
+  void importCsv_shouldParseQuotedFieldsAndReportInvalidRows() throws IOException {
+    String csv = "﻿title,description,due_date,priority,status\r\n"
+        + "\"Revisar, \"\"urgente\"\"\",\"linha 1\nlinha 2\",2026-11-01,high,DOING\r\n"
+        + "\r\n"
+        + ",sem título,2026-11-01,LOW,\r\n"
+        + "Data errada,,01/11/2026,LOW,\r\n"
+        + "Ok,,2026-11-02,MEDIUM,\r\n";
+
+    TaskImportResponse response = importer.importCsv(stream(csv));
+
+    assertEquals(2, response.imported());
+    assertEquals(2, response.failed());
+    assertEquals(2, response.errors().get(0).index());
+    assertEquals("title: Título é obrigatório", response.errors().get(0).message());
+    assertEquals(3, response.errors().get(1).index());
+    assertTrue(response.errors().get(1).message().startsWith("dueDate:"));
+    assertEquals(List.of(2), chunks);
+
+    TaskResponse first = ((TaskImporter.Pending) rows.get(0)).task();
+    assertEquals("Revisar, \"urgente\"", first.title());
+    assertEquals("linha 1\nlinha 2", first.description());
+    assertEquals(TaskStatus.DOING, first.status());
+    assertEquals(TaskPriority.HIGH, first.priority());
+    assertEquals(LocalDate.of(2026, 11, 1), first.dueDate());
+    assertEquals(TaskStatus.TODO, ((TaskImporter.Pending) rows.get(1)).task().status());
+    verify(events).publishEvent(argThat((Object e) -> ((TaskChangedEvent) e).type() == TaskChangedEvent.Type.IMPORTED));
+  }
+
+  @Test
+  void importCsv_withSemicolons_shouldDetectDelimiter() throws IOException {
+    TaskImportResponse response = importer.importCsv(stream("title;dueDate;priority\nA;2026-11-01;LOW\n"));
+
+    assertEquals(1, response.imported());
+    assertEquals(0, response.failed());
+  }
+
+  @Test
+  void importCsv_withoutRequiredColumns_shouldRejectBeforeWriting() {
+    BadRequestException ex = assertThrows(BadRequestException.class,
+        () -> importer.importCsv(stream("title,description\nA,B\n")));
+
+    assertTrue(ex.getMessage().contains("dueDate, priority"));
+    verifyNoInteractions(jdbc);
+  }
+
+  @Test
+  void importCsv_unterminatedQuote_shouldKeepPreviousRowsAndStop() throws IOException {
+    TaskImportResponse response = importer.importCsv(stream("title,dueDate,priority\nA,2026-11-01,LOW\n\"B,2026-11-01,LOW\n"));
+
+    assertEquals(1, response.imported());
+    assertEquals(1, response.failed());
+    assertTrue(response.errors().get(0).message().contains("importação interrompida"));
+  }
+
+  @Test
+  void importNdjson_shouldWriteInChunksWithoutHoldingTheFile() throws IOException {
+    int total = TaskImporter.CHUNK_SIZE * 2 + 5;
+    // Arquivo gerado sob demanda, linha a linha
+    InputStream body = new SequenceInputStream(Collections.enumeration(IntStream.range(0, total)
+        .mapToObj(i -> (InputStream) stream("{\"title\":\"T" + i + "\",\"dueDate\":\"2026-11-01\",\"priority\":\"LOW\","
+            + "\"id\":\"ignorado\",\"version\":3}\n"))
+        .toList()));
+
+    TaskImportResponse response = importer.importNdjson(body);
+
+    assertEquals(total, response.imported());
+    assertEquals(List.of(TaskImporter.CHUNK_SIZE, TaskImporter.CHUNK_SIZE, 5), chunks);
+    // Uma transação por bloco
+    verify(transactionManager, times(3)).commit(any());
+    // Um evento por bloco, não por tarefa
+    verify(events, times(3)).publishEvent(argThat((Object e) -> ((TaskChangedEvent) e).type() == TaskChangedEvent.Type.IMPORTED));
+  }
+
+  @Test
+  void importNdjson_shouldReportBadLinesAndCapTheList() throws IOException {
+    StringBuilder body = new StringBuilder("{\"title\":\"Ok\",\"dueDate\":\"2026-11-01\",\"priority\":\"LOW\"}\n");
+    body.append("{\"title\":\"X\",\"dueDate\":\"2026-11-01\",\"priority\":\"URGENT\"}\n");
+    for (int i = 0; i < TaskImporter.MAX_REPORTED_ERRORS; i++) body.append("not json\n");
+
+    TaskImportResponse response = importer.importNdjson(stream(body.toString()));
+
+    assertEquals(1, response.imported());
+    assertEquals(TaskImporter.MAX_REPORTED_ERRORS + 1, response.failed());
+    assertEquals(TaskImporter.MAX_REPORTED_ERRORS, response.errors().size());
+    assertTrue(response.errorsTruncated());
+    assertEquals("priority: valor inválido", response.errors().get(0).message());
+    assertEquals("JSON inválido", response.errors().get(1).message());
+  }
+
+  @Test
+  void importNdjson_chunkRejectedByDatabase_shouldReportItsRowsAndRollBack() throws IOException {
+    reset(jdbc);
+    when(jdbc.batchUpdate(anyString(), any(Collection.class), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+        .thenThrow(new DataIntegrityViolationException("Data too long"));
+
+    TaskImportResponse response = importer.importNdjson(
+        stream("{\"title\":\"A\",\"dueDate\":\"2026-11-01\",\"priority\":\"LOW\"}\n"));
+
+    assertEquals(0, response.imported());
+    assertEquals(1, response.failed());
+    assertEquals(422, response.errors().get(0).status());
+    verify(transactionManager).rollback(any());
+    verifyNoInteractions(events);
+  }
+
+  @Test
+  void csvReader_shouldHandleEmptyFieldsAndTrailingRecordWithoutNewline() throws IOException {
+    CsvReader reader = new CsvReader(new StringReader("a,,\"\"\r\nb"), ',');
+
+    assertEquals(List.of("a", "", ""), reader.next());
+    assertEquals(List.of("b"), reader.next());
+    assertNull(reader.next());
+  }
+
+  private static ByteArrayInputStream stream(String content) {
+    return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+  }
+}
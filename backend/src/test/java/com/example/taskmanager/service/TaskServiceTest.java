@@ -1,28 +1,53 @@
 package com.example.taskmanager.service;
 
+import com.example.taskmanager.dto.TaskBatchItemResult;
 import com.example.taskmanager.dto.TaskCreateRequest;
+import com.example.taskmanager.dto.TaskCursor;
+import com.example.taskmanager.dto.TaskFilter;
+import com.example.taskmanager.dto.TaskResponse;
+import com.example.taskmanager.dto.TaskSort;
 import com.example.taskmanager.dto.TaskStatusUpdateRequest;
 import com.example.taskmanager.dto.TaskUpdateRequest;
 import com.example.taskmanager.entity.Task;
 import com.example.taskmanager.entity.TaskPriority;
 import com.example.taskmanager.entity.TaskStatus;
+import com.example.taskmanager.event.TaskChangedEvent;
+import com.example.taskmanager.exception.BadRequestException;
+import com.example.taskmanager.exception.PreconditionFailedException;
 import com.example.taskmanager.exception.ResourceNotFoundException;
+import com.example.taskmanager.repository.TaskArchiveRepository;
 import com.example.taskmanager.repository.TaskRepository;
+import com.example.taskmanager.repository.TaskRepository.TaskSlot;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -31,6 +56,27 @@ class TaskServiceTest {
   @Mock
   TaskRepository repository;
 
+  @Mock
+  EntityManager entityManager;
+
+  @Mock
+  ApplicationEventPublisher events;
+
+  @Mock
+  TaskCache cache;
+
+  @Mock
+  TaskArchiveRepository archive;
+
+  @Mock
+  StatusWriteBuffer writeBuffer;
+
+  @Mock
+  PlatformTransactionManager transactionManager;
+
+  @Spy
+  Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
   @InjectMocks
   TaskService service;
 
@@ -77,6 +123,28 @@ class TaskServiceTest {
     verify(repository).findByStatus(TaskStatus.DOING);
   }
 
+  @Test
+  void get_whenArchived_shouldFallBackToArchive() {
+    UUID id = UUID.randomUUID();
+    var archived = new TaskResponse(id, "Antiga", null, TaskStatus.DONE, TaskPriority.LOW,
+        LocalDate.of(2025, 1, 10), LocalDateTime.of(2025, 1, 2, 9, 0), 4);
+    when(cache.getTask(any(), any())).thenAnswer(inv -> inv.<Function<UUID, TaskResponse>>getArgument(1).apply(id));
+    when(repository.findResponseById(id)).thenReturn(Optional.empty());
+    when(archive.findResponseById(id)).thenReturn(Optional.of(archived));
+
+    assertThat(service.get(id)).isEqualTo(archived);
+  }
+
+  @Test
+  void get_whenNowhere_shouldThrow404() {
+    UUID id = UUID.randomUUID();
+    when(cache.getTask(any(), any())).thenAnswer(inv -> inv.<Function<UUID, TaskResponse>>getArgument(1).apply(id));
+    when(repository.findResponseById(id)).thenReturn(Optional.empty());
+    when(archive.findResponseById(id)).thenReturn(Optional.empty());
+
+    assertThatThrownBy(() -> service.get(id)).isInstanceOf(ResourceNotFoundException.class);
+  }
+
   @Test
   void update_whenNotFound_shouldThrow404() {
     UUID id = UUID.randomUUID();
@@ -94,14 +162,263 @@ class TaskServiceTest {
     Task t = new Task();
     t.setId(id);
     t.setTitle("A");
-    t.setStatus(TaskStatus.TODO);
+    t.setStatus(TaskStatus.DONE);
 
+    when(repository.updateStatusById(id, TaskStatus.DONE)).thenReturn(1);
     when(repository.findById(id)).thenReturn(Optional.of(t));
-    when(repository.save(any(Task.class))).thenAnswer(inv -> inv.getArgument(0));
 
     Task updated = service.updateStatus(id, new TaskStatusUpdateRequest(TaskStatus.DONE));
 
     assertThat(updated.getStatus()).isEqualTo(TaskStatus.DONE);
-    verify(repository).save(t);
+    verify(repository, never()).save(any());
+  }
+
+  @Test
+  void applyStatus_shouldIssueSingleUpdateWithoutLoadingTheEntity() {
+    UUID id = UUID.randomUUID();
+    LocalDate due = LocalDate.of(2026, 3, 1);
+    when(repository.lockSlots(List.of(id))).thenReturn(List.of(new Slot(id, TaskStatus.TODO, TaskPriority.HIGH, due)));
+    when(repository.updateStatusById(id, TaskStatus.DOING)).thenReturn(1);
+
+    service.applyStatus(id, TaskStatus.DOING, null);
+
+    verify(repository, never()).findById(any());
+    verify(events).publishEvent(argThat((Object e) -> e instanceof TaskChangedEvent changed
+        && changed.type() == TaskChangedEvent.Type.STATUS_CHANGED
+        && changed.id().equals(id)
+        && changed.status() == TaskStatus.DOING
+        && changed.before().equals(new TaskChangedEvent.Slot(TaskStatus.TODO, TaskPriority.HIGH, due))));
+  }
+
+  @Test
+  void applyStatus_whenNoRowUpdated_shouldThrow404() {
+    UUID id = UUID.randomUUID();
+    when(repository.updateStatusById(id, TaskStatus.DOING)).thenReturn(0);
+
+    assertThatThrownBy(() -> service.applyStatus(id, TaskStatus.DOING, null))
+        .isInstanceOf(ResourceNotFoundException.class);
+    verifyNoInteractions(events);
+  }
+
+  @Test
+  void applyStatus_withStaleVersion_shouldThrow412() {
+    UUID id = UUID.randomUUID();
+    when(repository.updateStatusByIdAndVersion(id, 2L, TaskStatus.DONE)).thenReturn(0);
+    when(repository.existsById(id)).thenReturn(true);
+
+    assertThatThrownBy(() -> service.applyStatus(id, TaskStatus.DONE, 2L))
+        .isInstanceOf(PreconditionFailedException.class);
+  }
+
+  @Test
+  void update_withStaleVersion_shouldThrow412WithoutSaving() {
+    UUID id = UUID.randomUUID();
+    Task t = new Task();
+    t.setId(id);
+    t.setVersion(4);
+    when(repository.findById(id)).thenReturn(Optional.of(t));
+
+    assertThatThrownBy(() -> service.update(id, new TaskUpdateRequest("x", null, null, null, null), 3L))
+        .isInstanceOf(PreconditionFailedException.class);
+    verify(repository, never()).saveAndFlush(any());
+  }
+
+  @Test
+  void update_shouldPublishPreviousAndCurrentState() {
+    UUID id = UUID.randomUUID();
+    Task t = new Task();
+    t.setId(id);
+    t.setTitle("Antigo");
+    when(repository.findById(id)).thenReturn(Optional.of(t));
+    when(repository.saveAndFlush(t)).thenReturn(t);
+
+    service.update(id, new TaskUpdateRequest("Novo", null, null, null, null), null);
+
+    var captor = ArgumentCaptor.forClass(TaskChangedEvent.class);
+    verify(events).publishEvent(captor.capture());
+    assertThat(captor.getValue().type()).isEqualTo(TaskChangedEvent.Type.UPDATED);
+    assertThat(captor.getValue().previous().title()).isEqualTo("Antigo");
+    assertThat(captor.getValue().current().title()).isEqualTo("Novo");
+  }
+
+  @Test
+  void delete_shouldIssueSingleDeleteWithoutLoadingTheEntity() {
+    UUID id = UUID.randomUUID();
+    when(repository.lockSlots(List.of(id))).thenReturn(List.of(new Slot(id, TaskStatus.DONE, TaskPriority.LOW, null)));
+    when(repository.removeById(id)).thenReturn(1);
+
+    service.delete(id);
+
+    verify(repository, never()).findById(any());
+    verify(events).publishEvent(argThat((Object e) -> e instanceof TaskChangedEvent changed
+        && changed.type() == TaskChangedEvent.Type.DELETED
+        && changed.before().status() == TaskStatus.DONE));
+  }
+
+  @Test
+  void delete_shouldWritePendingStatusChangeFirst() {
+    UUID id = UUID.randomUUID();
+    when(repository.removeById(id)).thenReturn(1);
+
+    service.delete(id);
+
+    var order = inOrder(writeBuffer, repository);
+    order.verify(writeBuffer).flush(List.of(id));
+    order.verify(repository).removeById(id);
+  }
+
+  @Test
+  void get_withPendingStatusChange_shouldShowIt() {
+    UUID id = UUID.randomUUID();
+    var stored = new TaskResponse(id, "Drag", null, TaskStatus.TODO, TaskPriority.LOW,
+        LocalDate.of(2026, 1, 10), LocalDateTime.of(2026, 1, 2, 9, 0), 2);
+    when(cache.getTask(eq(id), any())).thenReturn(stored);
+    when(writeBuffer.pendingStatus(id)).thenReturn(Optional.of(TaskStatus.DOING));
+
+    assertThat(service.get(id).status()).isEqualTo(TaskStatus.DOING);
+    assertThat(service.get(id).version()).isEqualTo(2);
+  }
+
+  @Test
+  void listByStatus_withPendingStatusChange_shouldFilterTheWholeBoard() {
+    UUID moved = UUID.randomUUID(), stayed = UUID.randomUUID();
+    var board = List.of(
+        new TaskResponse(moved, "Drag", null, TaskStatus.TODO, TaskPriority.LOW, null, LocalDateTime.of(2026, 1, 2, 9, 0), 1),
+        new TaskResponse(stayed, "Fica", null, TaskStatus.TODO, TaskPriority.LOW, null, LocalDateTime.of(2026, 1, 2, 9, 1), 0));
+    when(writeBuffer.hasPending()).thenReturn(true);
+    when(writeBuffer.pendingStatus(any())).thenReturn(Optional.empty());
+    when(writeBuffer.pendingStatus(moved)).thenReturn(Optional.of(TaskStatus.DOING));
+    when(cache.getList(isNull(), any())).thenReturn(board);
+
+    assertThat(service.list(TaskStatus.DOING)).extracting(TaskResponse::id).containsExactly(moved);
+    assertThat(service.list(TaskStatus.TODO)).extracting(TaskResponse::id).containsExactly(stayed);
+    verify(cache, never()).getList(eq(TaskStatus.DOING), any());
+  }
+
+  @Test
+  void delete_whenNoRowDeleted_shouldThrow404() {
+    UUID id = UUID.randomUUID();
+    when(repository.removeById(id)).thenReturn(0);
+
+    assertThatThrownBy(() -> service.delete(id)).isInstanceOf(ResourceNotFoundException.class);
+  }
+
+  @Test
+  void findPage_withoutCursor_shouldReadFirstPage() {
+    when(repository.findByStatusOrderByCreatedAtAscIdAsc(TaskStatus.TODO, Limit.of(50))).thenReturn(List.of(new Task()));
+
+    assertThat(service.findPage(TaskStatus.TODO, null, 50)).hasSize(1);
+  }
+
+  @Test
+  void findPage_withCursor_shouldSeekAfterKeyAndCapLimit() {
+    var cursor = new TaskCursor(LocalDateTime.of(2026, 1, 1, 10, 0), UUID.randomUUID());
+    when(repository.findPageAfter(cursor.createdAt(), cursor.id(), Limit.of(TaskService.MAX_PAGE_SIZE)))
+        .thenReturn(List.of());
+
+    assertThat(service.findPage(null, cursor, 50_000)).isEmpty();
+    verify(repository, never()).findAll();
+  }
+
+  @Test
+  void streamAll_shouldDetachEachTaskAfterConsuming() {
+    Task a = new Task();
+    Task b = new Task();
+    when(repository.streamByStatus(TaskStatus.DONE)).thenReturn(Stream.of(a, b));
+
+    List<Task> seen = new ArrayList<>();
+    service.streamAll(TaskStatus.DONE, seen::add);
+
+    assertThat(seen).containsExactly(a, b);
+    verify(entityManager).detach(a);
+    verify(entityManager).detach(b);
+  }
+
+  @Test
+  void createAll_shouldPersistValidItemsAndReportInvalidOnes() {
+    var valid = new TaskCreateRequest(" Importar ", null, LocalDate.now(), TaskPriority.LOW);
+    var invalid = new TaskCreateRequest(" ", null, null, TaskPriority.LOW);
+
+    List<TaskBatchItemResult> results = service.createAll(List.of(valid, invalid));
+
+    verify(entityManager).persist(taskCaptor.capture());
+    assertThat(taskCaptor.getValue().getTitle()).isEqualTo("Importar");
+    assertThat(results).extracting(TaskBatchItemResult::status).containsExactly(201, 400);
+    assertThat(results.get(1).message()).contains("dueDate").contains("title");
+  }
+
+  @Test
+  void createAll_aboveLimit_shouldRejectWholeBatch() {
+    var dto = new TaskCreateRequest("T", null, LocalDate.now(), TaskPriority.LOW);
+    var tooMany = Collections.nCopies(TaskService.MAX_BATCH_SIZE + 1, dto);
+
+    assertThatThrownBy(() -> service.createAll(tooMany)).isInstanceOf(BadRequestException.class);
+    verifyNoInteractions(entityManager);
+  }
+
+  @Test
+  void updateStatusAll_shouldRunSingleUpdateAndReportMissingIds() {
+    UUID found = UUID.randomUUID();
+    UUID missing = UUID.randomUUID();
+    when(repository.lockSlots(any())).thenReturn(List.of(new Slot(found, TaskStatus.TODO, TaskPriority.LOW, null)));
+
+    List<TaskBatchItemResult> results = service.updateStatusAll(List.of(found, missing), TaskStatus.DONE);
+
+    verify(repository).updateStatusByIdIn(Set.of(found), TaskStatus.DONE);
+    verify(repository, never()).save(any());
+    assertThat(results).extracting(TaskBatchItemResult::status).containsExactly(200, 404);
+  }
+
+  @Test
+  void deleteAll_whenNothingExists_shouldSkipDelete() {
+    when(repository.lockSlots(any())).thenReturn(List.of());
+
+    List<TaskBatchItemResult> results = service.deleteAll(List.of(UUID.randomUUID()));
+
+    verify(repository, never()).deleteByIdIn(any());
+    assertThat(results).extracting(TaskBatchItemResult::status).containsExactly(404);
+  }
+
+  @Test
+  void search_shouldSendPrefixTermsToFullTextIndex() {
+    when(repository.search(anyString(), anyInt(), anyInt())).thenReturn(List.of());
+
+    service.search("Relatório  mensal!", 40, 500);
+
+    verify(repository).search("+relatório* +mensal*", TaskService.MAX_SEARCH_SIZE, 40);
   }
+
+  @Test
+  void search_withoutWords_shouldFailWithoutQuerying() {
+    assertThatThrownBy(() -> service.search(" -*\"() ", 0, 10))
+        .isInstanceOf(BadRequestException.class);
+
+    verifyNoInteractions(repository);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void filter_shouldQueryEachStatusAndPriorityAndMergeInSortOrder() {
+    Task early = dueOn(LocalDate.of(2026, 3, 1));
+    Task middle = dueOn(LocalDate.of(2026, 3, 2));
+    Task late = dueOn(LocalDate.of(2026, 3, 3));
+    when(repository.findBy(any(Specification.class), any()))
+        .thenReturn(List.of(early, late), List.of(middle));
+
+    var filter = new TaskFilter(Set.of(TaskStatus.TODO), Set.of(TaskPriority.HIGH, TaskPriority.LOW),
+        null, LocalDate.of(2026, 3, 31), null, null);
+    List<Task> page = service.filter(filter, TaskSort.DUE_DATE, null, 2);
+
+    verify(repository, times(2)).findBy(any(Specification.class), any());
+    assertThat(page).containsExactly(early, middle);
+  }
+
+  private Task dueOn(LocalDate dueDate) {
+    Task t = new Task();
+    t.setId(UUID.randomUUID());
+    t.setDueDate(dueDate);
+    return t;
+  }
+
+  record Slot(UUID getId, TaskStatus getStatus, TaskPriority getPriority, LocalDate getDueDate) implements TaskSlot {}
 }
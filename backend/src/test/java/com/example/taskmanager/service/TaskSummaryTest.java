@@ -0,0 +1,200 @@
+package com.example.taskmanager.service;
+
+import com.example.taskmanager.config.SummaryProperties;
+import com.example.taskmanager.dto.TaskResponse;
+import com.example.taskmanager.dto.TaskSummaryResponse;
+import com.example.taskmanager.entity.TaskPriority;
+import com.example.taskmanager.entity.TaskStatus;
+import com.example.taskmanager.event.TaskChangedEvent;
+import com.example.taskmanager.repository.TaskRepository;
+import com.example.taskmanager.repository.TaskRepository.SlotCount;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class TaskSummaryTest {
+
+  static final LocalDate TODAY = LocalDate.of(2026, 2, 10);
+
+  final List<Row> db = new ArrayList<>();
+  TaskRepository repository;
+  TaskSummary summary;
+
+  @BeforeEach
+  void setUp() {
+    repository = mock(TaskRepository.class);
+    when(repository.countBySlot()).thenAnswer(inv -> groupBy());
+    summary = new TaskSummary(repository, new SummaryProperties(3, Duration.ofSeconds(2), Duration.ofMinutes(5)));
+  }
+
+  @Test
+  void summary_shouldCountByStatusPriorityAndDueDate() {
+    insert(TaskStatus.TODO, TaskPriority.HIGH, TODAY.minusDays(1));
+    insert(TaskStatus.TODO, TaskPriority.LOW, TODAY);
+    insert(TaskStatus.DOING, TaskPriority.HIGH, TODAY.plusDays(3));
+    insert(TaskStatus.DOING, TaskPriority.HIGH, TODAY.plusDays(4));
+    insert(TaskStatus.DONE, TaskPriority.MEDIUM, TODAY.minusDays(5));
+
+    TaskSummaryResponse result = summary.summary(TODAY);
+
+    assertThat(result.total()).isEqualTo(5);
+    assertThat(result.byStatus()).containsEntry(TaskStatus.TODO, 2L).containsEntry(TaskStatus.DONE, 1L);
+    assertThat(result.byStatusAndPriority().get(TaskStatus.DOING)).containsEntry(TaskPriority.HIGH, 2L)
+        .containsEntry(TaskPriority.LOW, 0L);
+    // Concluídas não contam como atrasadas
+    assertThat(result.overdue()).containsEntry(TaskStatus.TODO, 1L).containsEntry(TaskStatus.DOING, 0L)
+        .doesNotContainKey(TaskStatus.DONE);
+    assertThat(result.dueSoon()).containsEntry(TaskStatus.TODO, 1L).containsEntry(TaskStatus.DOING, 1L);
+  }
+
+  @Test
+  void createAndUpdate_shouldUpdateCountersWithoutQueryingAgain() {
+    UUID edited = insert(TaskStatus.TODO, TaskPriority.MEDIUM, TODAY.minusDays(2));
+    summary.refresh();
+
+    var created = response(UUID.randomUUID(), TaskStatus.TODO, TODAY.minusDays(1));
+    summary.onTaskChanged(TaskChangedEvent.created(created));
+    summary.onTaskChanged(TaskChangedEvent.updated(response(edited, TaskStatus.TODO, TODAY.minusDays(2)),
+        response(edited, TaskStatus.DOING, TODAY)));
+    summary.refresh();
+    TaskSummaryResponse result = summary.summary(TODAY);
+
+    assertThat(result.total()).isEqualTo(2);
+    assertThat(result.byStatus()).containsEntry(TaskStatus.TODO, 1L).containsEntry(TaskStatus.DOING, 1L);
+    assertThat(result.overdue()).containsEntry(TaskStatus.TODO, 1L);
+    assertThat(result.dueSoon()).containsEntry(TaskStatus.DOING, 1L);
+    verify(repository, times(1)).countBySlot();
+  }
+
+  @Test
+  void statusChangeDeleteAndArchive_shouldUpdateCountersFromTheLockedSlot() {
+    UUID moved = insert(TaskStatus.TODO, TaskPriority.HIGH, TODAY.minusDays(2));
+    UUID removed = insert(TaskStatus.DOING, TaskPriority.LOW, TODAY);
+    UUID archived = insert(TaskStatus.DONE, TaskPriority.MEDIUM, TODAY.minusDays(40));
+    summary.refresh();
+
+    summary.onTaskChanged(TaskChangedEvent.statusChanged(moved, TaskStatus.DONE, slot(db.get(0))));
+    summary.onTaskChanged(TaskChangedEvent.deleted(removed, slot(db.get(1))));
+    summary.onTaskChanged(TaskChangedEvent.archived(archived, slot(db.get(2))));
+    summary.refresh();
+    TaskSummaryResponse result = summary.summary(TODAY);
+
+    assertThat(result.total()).isEqualTo(1);
+    assertThat(result.byStatusAndPriority().get(TaskStatus.DONE)).containsEntry(TaskPriority.HIGH, 1L)
+        .containsEntry(TaskPriority.MEDIUM, 0L);
+    assertThat(result.overdue()).containsEntry(TaskStatus.TODO, 0L);
+    assertThat(result.dueSoon()).containsEntry(TaskStatus.DOING, 0L);
+    verify(repository, times(1)).countBySlot();
+  }
+
+  @Test
+  void eventsWithoutPreviousState_shouldBeRecountedByTheSchedulerNotTheReader() {
+    UUID moved = insert(TaskStatus.TODO, TaskPriority.HIGH, TODAY.minusDays(2));
+    UUID removed = insert(TaskStatus.DOING, TaskPriority.LOW, TODAY);
+    summary.refresh();
+
+    db.set(0, new Row(moved, TaskStatus.DONE, TaskPriority.HIGH, TODAY.minusDays(2)));
+    db.remove(1);
+    // Sem o before, como os eventos de uma réplica ainda na versão anterior
+    summary.onTaskChanged(TaskChangedEvent.statusChanged(moved, TaskStatus.DONE));
+    summary.onTaskChanged(TaskChangedEvent.deleted(removed));
+    // Até a recontagem o resumo é o anterior; a leitura não consulta o banco
+    assertThat(summary.summary(TODAY).total()).isEqualTo(2);
+    verify(repository, times(1)).countBySlot();
+
+    summary.refresh();
+    TaskSummaryResponse result = summary.summary(TODAY);
+
+    assertThat(result.total()).isEqualTo(1);
+    assertThat(result.byStatusAndPriority().get(TaskStatus.DONE)).containsEntry(TaskPriority.HIGH, 1L);
+    assertThat(result.overdue()).containsEntry(TaskStatus.TODO, 0L);
+    verify(repository, times(2)).countBySlot();
+    summary.refresh();
+    verify(repository, times(2)).countBySlot();
+  }
+
+  @Test
+  void eventDuringRecount_shouldRecountAgain() {
+    insert(TaskStatus.TODO, TaskPriority.HIGH, TODAY);
+    when(repository.countBySlot()).thenAnswer(inv -> {
+      List<SlotCount> counts = groupBy();
+      // Commit concorrente: pode ou não estar no resultado
+      summary.onTaskChanged(TaskChangedEvent.statusChanged(db.get(0).getId(), TaskStatus.DOING));
+      return counts;
+    }).thenAnswer(inv -> groupBy());
+
+    summary.refresh();
+    summary.refresh();
+
+    verify(repository, times(2)).countBySlot();
+  }
+
+  @Test
+  void summary_nextDay_shouldMoveDueTasksToOverdue() {
+    insert(TaskStatus.TODO, TaskPriority.HIGH, TODAY);
+
+    assertThat(summary.summary(TODAY).overdue()).containsEntry(TaskStatus.TODO, 0L);
+    assertThat(summary.summary(TODAY.plusDays(1)).overdue()).containsEntry(TaskStatus.TODO, 1L);
+  }
+
+  @Test
+  void reconcile_shouldReplaceCountersThatDrifted() {
+    insert(TaskStatus.TODO, TaskPriority.HIGH, TODAY);
+    summary.refresh();
+
+    // Mudança no banco sem evento (ex.: outra réplica sem outbox)
+    insert(TaskStatus.DOING, TaskPriority.LOW, TODAY);
+    assertThat(summary.summary(TODAY).total()).isEqualTo(1);
+    summary.reconcile();
+
+    assertThat(summary.summary(TODAY).total()).isEqualTo(2);
+    verify(repository, times(2)).countBySlot();
+  }
+
+  @Test
+  void imported_shouldBeRecounted() {
+    summary.refresh();
+    insert(TaskStatus.TODO, TaskPriority.LOW, TODAY);
+    insert(TaskStatus.TODO, TaskPriority.LOW, TODAY);
+
+    summary.onTaskChanged(TaskChangedEvent.imported());
+    summary.refresh();
+
+    assertThat(summary.summary(TODAY).byStatus()).containsEntry(TaskStatus.TODO, 2L);
+  }
+
+  private UUID insert(TaskStatus status, TaskPriority priority, LocalDate dueDate) {
+    UUID id = UUID.randomUUID();
+    db.add(new Row(id, status, priority, dueDate));
+    return id;
+  }
+
+  private static TaskChangedEvent.Slot slot(Row row) {
+    return new TaskChangedEvent.Slot(row.getStatus(), row.getPriority(), row.getDueDate());
+  }
+
+  private List<SlotCount> groupBy() {
+    List<SlotCount> counts = new ArrayList<>();
+    for (Row row : db) {
+      counts.add(new Count(row.getStatus(), row.getPriority(), row.getDueDate(), 1));
+    }
+    return counts;
+  }
+
+  private static TaskResponse response(UUID id, TaskStatus status, LocalDate dueDate) {
+    return new TaskResponse(id, "T", null, status, TaskPriority.MEDIUM, dueDate, LocalDateTime.now(), 0);
+  }
+
+  record Row(UUID getId, TaskStatus getStatus, TaskPriority getPriority, LocalDate getDueDate) {}
+
+  record Count(TaskStatus getStatus, TaskPriority getPriority, LocalDate getDueDate, long getTotal) implements SlotCount {}
+}
@@ -0,0 +1,68 @@
+package com.example.taskmanager.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimingWheelTest {
+
+  @Test
+  void advance_shouldFireEachTimerAtItsTickAcrossLevels() {
+    long start = 1_000_003;
+    TimingWheel<Long> wheel = new TimingWheel<>(start);
+    Random random = new Random(42);
+    List<Long> ticks = new ArrayList<>();
+    for (int i = 0; i < 5000; i++) {
+      // De poucos ticks até além do alcance do último nível
+      long tick = start + (long) Math.pow(2, random.nextDouble() * 26);
+      ticks.add(tick);
+      wheel.schedule(tick, tick);
+    }
+
+    List<Long> fired = new ArrayList<>();
+    long now = start - 1;
+    while (wheel.size() > 0) {
+      long target = now + 1 + random.nextInt(5000);
+      long from = now;
+      wheel.advance(target, tick -> {
+        assertThat(tick).isGreaterThan(from).isLessThanOrEqualTo(target);
+        fired.add(tick);
+      });
+      now = target;
+    }
+
+    assertThat(fired).isSorted().containsExactlyInAnyOrderElementsOf(ticks);
+  }
+
+  @Test
+  void schedule_inThePast_shouldFireOnNextAdvance() {
+    TimingWheel<String> wheel = new TimingWheel<>(100);
+    wheel.schedule(10, "atrasado");
+    List<String> fired = new ArrayList<>();
+
+    wheel.advance(100, fired::add);
+
+    assertThat(fired).containsExactly("atrasado");
+  }
+
+  @Test
+  void cancel_shouldRemoveTimerOnce() {
+    TimingWheel<String> wheel = new TimingWheel<>(0);
+    TimingWheel.Timer<String> near = wheel.schedule(5, "perto");
+    TimingWheel.Timer<String> far = wheel.schedule(100_000, "longe");
+    wheel.schedule(7, "fica");
+
+    assertThat(wheel.cancel(near)).isTrue();
+    assertThat(wheel.cancel(near)).isFalse();
+    assertThat(wheel.cancel(far)).isTrue();
+    List<String> fired = new ArrayList<>();
+    wheel.advance(200_000, fired::add);
+
+    assertThat(fired).containsExactly("fica");
+    assertThat(wheel.size()).isZero();
+  }
+}
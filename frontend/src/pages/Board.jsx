@@ -1,6 +1,6 @@
-import { useEffect, useMemo, useState } from "react";
+import { useEffect, useMemo, useRef, useState } from "react";
 import { DragDropContext } from "@hello-pangea/dnd";
-import { getTasks, updateTaskStatus } from "../services/api";
+import { getTasks, subscribeTaskEvents, updateTaskStatus } from "../services/api";
 import KanbanColumn from "../components/KanbanColumn";
 import TaskModal from "../components/TaskModal";
 import TaskDetailsModal from "../components/TaskDetailsModal";
@@ -12,6 +12,8 @@ export default function Board() {
   const [modalOpen, setModalOpen] = useState(false);
   const [detailsOpen, setDetailsOpen] = useState(false);
   const [selectedTask, setSelectedTask] = useState(null);
+  // Com o feed conectado as mudanças chegam por ele; sem feed, recarrega o quadro
+  const liveRef = useRef(false);
 
   const groupedCounts = useMemo(() => {
     const counts = { TODO: 0, DOING: 0, DONE: 0 };
@@ -37,10 +39,40 @@ export default function Board() {
     }
   }
 
+  function refreshIfOffline() {
+    if (!liveRef.current) loadTasks();
+  }
+
   useEffect(() => {
     loadTasks();
   }, []);
 
+  useEffect(() => {
+    const sameId = (t, m) => String(t.id) === String(m.id);
+    const source = subscribeTaskEvents({
+      created: (m) =>
+        setTasks((prev) => (prev.some((t) => sameId(t, m)) ? prev : [...prev, m.task])),
+      updated: (m) =>
+        setTasks((prev) => prev.map((t) => (sameId(t, m) ? { ...t, ...(m.task || m.changes) } : t))),
+      status: (m) =>
+        setTasks((prev) => prev.map((t) => (sameId(t, m) ? { ...t, status: m.status } : t))),
+      deleted: (m) => setTasks((prev) => prev.filter((t) => !sameId(t, m))),
+      archived: (m) => setTasks((prev) => prev.filter((t) => !sameId(t, m))),
+      // Importação: um aviso por bloco, sem as tarefas
+      imported: () => loadTasks(),
+      reset: () => loadTasks(),
+    });
+    if (!source) return undefined;
+
+    source.onopen = () => {
+      liveRef.current = true;
+    };
+    source.onerror = () => {
+      liveRef.current = false;
+    };
+    return () => source.close();
+  }, []);
+
   async function handleDragEnd(result) {
     const { destination, source, draggableId } = result;
     if (!destination) return;
@@ -111,15 +143,15 @@ export default function Board() {
       <TaskModal
         open={modalOpen}
         onClose={() => setModalOpen(false)}
-        onCreated={loadTasks}
+        onCreated={refreshIfOffline}
       />
 
       <TaskDetailsModal
         open={detailsOpen}
         task={selectedTask}
         onClose={() => setDetailsOpen(false)}
-        onUpdated={loadTasks}
-        onDeleted={loadTasks}
+        onUpdated={refreshIfOffline}
+        onDeleted={refreshIfOffline}
       />
     </div>
   );
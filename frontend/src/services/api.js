@@ -7,5 +7,18 @@ export const api = axios.create({ baseURL })
 export const getTasks = () => api.get('/tasks')
 export const createTask = (data) => api.post('/tasks', data)
 export const updateTask = (id, data) => api.put(`/tasks/${id}`, data)
-export const updateTaskStatus = (id, status) => api.patch(`/tasks/${id}/status`, { status })
+// O quadro já aplicou a mudança de forma otimista; não precisa da tarefa relida na resposta
+export const updateTaskStatus = (id, status) =>
+  api.patch(`/tasks/${id}/status`, { status }, { headers: { Prefer: 'return=minimal' } })
 export const deleteTask = (id) => api.delete(`/tasks/${id}`)
+
+// Feed de mudanças (SSE). O EventSource reconecta sozinho enviando Last-Event-ID,
+// então o servidor reenvia só o que foi perdido (ou "reset", se não tiver mais).
+export const subscribeTaskEvents = (handlers) => {
+  if (typeof EventSource === 'undefined') return null
+  const source = new EventSource(`${baseURL}/tasks/events`)
+  for (const [type, handler] of Object.entries(handlers)) {
+    source.addEventListener(type, (e) => handler(JSON.parse(e.data)))
+  }
+  return source
+}